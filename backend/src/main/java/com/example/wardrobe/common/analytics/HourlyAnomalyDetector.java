@@ -0,0 +1,231 @@
+package com.example.wardrobe.common.analytics;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시간대별 트래픽 이상 탐지기 (증분 방식)
+ *
+ * 이벤트를 셀 때마다 그 이벤트 시간의 카운트만 올리고,
+ * 워터마크로 시간 버킷이 확정되면(WatermarkedHourlyCounter) 확정된 합계로 기준선을 갱신합니다.
+ * 확정 전까지는 늦게 도착한 이벤트도 원래 시간에 반영되므로, 기준선은 늦은 이벤트를 포함한 합계로 계산됩니다.
+ * - 전체 기준선: 시간별 합계의 EWMA 평균/분산
+ * - 계절성 기준선: 요일+시간(hour-of-week, 168칸)별 EWMA 평균/분산
+ *
+ * 이상 점수는 끝난 시간의 합계가 기대값에서 몇 표준편차 떨어졌는지(z-score)입니다.
+ * 해당 요일/시간 샘플이 충분하면 계절성 기준선을, 아니면 전체 기준선을 사용합니다.
+ * 메모리는 메트릭당 168칸 배열과 아직 확정되지 않은 시간의 카운트로 제한됩니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class HourlyAnomalyDetector {
+
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+    private static final int HOURS_PER_WEEK = 168;
+    // 1970-01-01은 목요일이므로 월요일 00시를 0으로 맞추기 위한 보정값
+    private static final int EPOCH_HOUR_OF_WEEK_OFFSET = 3 * 24;
+    private static final int MIN_SEASONAL_SAMPLES = 2;
+
+    /**
+     * 메트릭 하나의 이상 점수
+     */
+    public record AnomalyScore(
+            String metric,
+            LocalDateTime hourStart,
+            long observed,
+            double expected,
+            double zScore,
+            boolean anomalous,
+            /**
+             * 진행 중인 시간의 현재까지 카운트
+             */
+            long currentHourCount
+    ) {
+    }
+
+    private final double alpha;
+    private final double seasonalAlpha;
+    private final double threshold;
+    private final Map<String, MetricBaseline> baselines = new HashMap<>();
+
+    /**
+     * 생성자
+     *
+     * @param alpha 전체 EWMA 가중치 (0~1, 클수록 최근 값 반영이 빠름)
+     * @param seasonalAlpha 요일/시간별 EWMA 가중치
+     * @param threshold 이상으로 판단할 |z-score| 기준
+     */
+    public HourlyAnomalyDetector(double alpha, double seasonalAlpha, double threshold) {
+        this.alpha = alpha;
+        this.seasonalAlpha = seasonalAlpha;
+        this.threshold = threshold;
+    }
+
+    /**
+     * 이벤트 한 건 반영
+     *
+     * 아직 확정되지 않은 시간이면 늦게 도착한 이벤트도 그 시간에 더합니다.
+     * 이미 확정된 시간의 이벤트는 무시합니다 (워터마크 카운터에서도 버려지는 이벤트).
+     *
+     * @param metric 메트릭 이름
+     * @param eventTimeMillis 이벤트 시각 (epoch millis)
+     */
+    public synchronized void increment(String metric, long eventTimeMillis) {
+        long hourIndex = Math.floorDiv(eventTimeMillis, MILLIS_PER_HOUR);
+        baselines.computeIfAbsent(metric, key -> new MetricBaseline(key, hourIndex)).increment(hourIndex);
+    }
+
+    /**
+     * 워터마크로 확정된 시간 버킷을 기준선에 반영
+     *
+     * 시간순으로 처리하며, 확정된 시간에 버킷이 없는 메트릭은 그 시간의 카운트를 0으로 반영합니다.
+     *
+     * @param finalized 새로 확정된 버킷 (WatermarkedHourlyCounter.Batch#commit 결과)
+     */
+    public synchronized void closeHours(List<WatermarkedHourlyCounter.FinalizedBucket> finalized) {
+        TreeMap<Long, Map<String, Long>> byHour = new TreeMap<>();
+        for (WatermarkedHourlyCounter.FinalizedBucket bucket : finalized) {
+            long hourIndex = Math.floorDiv(bucket.hourStart().toEpochSecond(ZoneOffset.UTC), 3600L);
+            byHour.computeIfAbsent(hourIndex, key -> new HashMap<>()).put(bucket.metric(), bucket.count());
+        }
+
+        byHour.forEach((hourIndex, counts) -> {
+            counts.keySet().forEach(metric -> baselines.computeIfAbsent(metric, key -> new MetricBaseline(key, hourIndex)));
+            baselines.values().forEach(baseline ->
+                    baseline.closeThrough(hourIndex, counts.getOrDefault(baseline.metric, 0L)));
+        });
+    }
+
+    /**
+     * 메트릭별 이상 점수 (마지막으로 끝난 시간 기준)
+     *
+     * @return 이상 점수 목록 (기준선이 아직 없는 메트릭은 제외)
+     */
+    public synchronized List<AnomalyScore> getScores() {
+        List<AnomalyScore> scores = new ArrayList<>();
+        baselines.forEach((metric, baseline) -> {
+            AnomalyScore last = baseline.lastScore;
+            if (last != null) {
+                scores.add(new AnomalyScore(last.metric(), last.hourStart(), last.observed(), last.expected(),
+                        last.zScore(), last.anomalous(), baseline.currentCount()));
+            }
+        });
+        scores.sort((a, b) -> a.metric().compareTo(b.metric()));
+        return scores;
+    }
+
+    private static int hourOfWeek(long hourIndex) {
+        return (int) Math.floorMod(hourIndex + EPOCH_HOUR_OF_WEEK_OFFSET, (long) HOURS_PER_WEEK);
+    }
+
+    private final class MetricBaseline {
+        private final String metric;
+        // 이벤트가 처음 있었던 시간 (그 전 시간은 기준선에 0으로 반영하지 않음)
+        private long firstHour;
+        private long lastClosedHour = Long.MIN_VALUE;
+        // 아직 확정되지 않은 시간별 카운트
+        private final TreeMap<Long, Long> openCounts = new TreeMap<>();
+
+        private long samples;
+        private double mean;
+        private double variance;
+
+        private final double[] seasonalMean = new double[HOURS_PER_WEEK];
+        private final double[] seasonalVariance = new double[HOURS_PER_WEEK];
+        private final int[] seasonalSamples = new int[HOURS_PER_WEEK];
+
+        private AnomalyScore lastScore;
+
+        private MetricBaseline(String metric, long firstHour) {
+            this.metric = metric;
+            this.firstHour = firstHour;
+        }
+
+        private void increment(long hourIndex) {
+            if (hourIndex <= lastClosedHour) {
+                return;
+            }
+            firstHour = Math.min(firstHour, hourIndex);
+            openCounts.merge(hourIndex, 1L, Long::sum);
+        }
+
+        /**
+         * 확정된 시간까지 기준선 갱신 (이벤트가 없던 사이 시간은 0으로, 최대 1주일치만)
+         */
+        private void closeThrough(long hourIndex, long observed) {
+            if (hourIndex <= lastClosedHour || hourIndex < firstHour) {
+                return;
+            }
+            long from = lastClosedHour == Long.MIN_VALUE ? hourIndex : lastClosedHour + 1;
+            for (long hour = Math.max(from, hourIndex - HOURS_PER_WEEK + 1); hour < hourIndex; hour++) {
+                closeHour(hour, 0);
+            }
+            closeHour(hourIndex, observed);
+            lastClosedHour = hourIndex;
+            openCounts.headMap(hourIndex, true).clear();
+        }
+
+        /**
+         * 진행 중인 (가장 최근) 시간의 현재까지 카운트
+         */
+        private long currentCount() {
+            return openCounts.isEmpty() ? 0 : openCounts.lastEntry().getValue();
+        }
+
+        private void closeHour(long hourIndex, long observed) {
+            int slot = hourOfWeek(hourIndex);
+
+            // 갱신 전 기준선으로 점수 계산
+            double expected;
+            double stdDev;
+            if (seasonalSamples[slot] >= MIN_SEASONAL_SAMPLES) {
+                expected = seasonalMean[slot];
+                stdDev = Math.sqrt(seasonalVariance[slot]);
+            } else {
+                expected = mean;
+                stdDev = Math.sqrt(variance);
+            }
+            // 카운트 데이터이므로 포아송 표준편차를 하한으로 둔다
+            stdDev = Math.max(stdDev, Math.sqrt(Math.max(expected, 1.0)));
+            double zScore = samples == 0 ? 0 : (observed - expected) / stdDev;
+
+            lastScore = new AnomalyScore(
+                    metric,
+                    LocalDateTime.ofEpochSecond(hourIndex * 3600L, 0, ZoneOffset.UTC),
+                    observed,
+                    expected,
+                    zScore,
+                    samples > 0 && Math.abs(zScore) >= threshold,
+                    0
+            );
+
+            // 전체 EWMA 갱신
+            if (samples == 0) {
+                mean = observed;
+            } else {
+                double diff = observed - mean;
+                double increment = alpha * diff;
+                mean += increment;
+                variance = (1 - alpha) * (variance + diff * increment);
+            }
+            samples++;
+
+            // 요일/시간별 EWMA 갱신
+            if (seasonalSamples[slot] == 0) {
+                seasonalMean[slot] = observed;
+            } else {
+                double diff = observed - seasonalMean[slot];
+                double increment = seasonalAlpha * diff;
+                seasonalMean[slot] += increment;
+                seasonalVariance[slot] = (1 - seasonalAlpha) * (seasonalVariance[slot] + diff * increment);
+            }
+            seasonalSamples[slot]++;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.example.wardrobe.common.analytics;
+
+import com.example.wardrobe.common.logging.LogParser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 메트릭 매처
+ *
+ * 메트릭 정의(규칙 목록)를 한 번 컴파일해 두고, 로그 한 건이 해당하는 메트릭을 한 번에 찾습니다.
+ * - 경로 포함 조건의 키워드는 모두 하나의 Aho-Corasick 오토마톤으로 합쳐서, 경로를 한 번만 훑어
+ *   어떤 키워드가 등장했는지 비트마스크로 얻습니다.
+ * - 경로 일치 조건은 해시 조회 한 번으로 비트마스크를 얻습니다.
+ * - 각 규칙은 미리 계산한 마스크와 비교만 하므로 메트릭이 늘어도 경로를 다시 훑지 않습니다.
+ *
+ * 규칙 의미:
+ * - logType/events가 지정되면 일치해야 합니다.
+ * - 경로 조건이 없으면 경로는 보지 않습니다.
+ * - 경로 조건이 있으면 pathEquals 중 하나와 같거나, pathContains의 모든 항목을 만족해야 합니다.
+ *   pathContains 항목은 "complete|result"처럼 '|'로 구분한 키워드 중 하나만 포함하면 만족합니다.
+ * - includeReferer가 true이면 referer에도 같은 경로 조건을 적용합니다.
+ *
+ * 키워드, 일치 경로, 메트릭은 각각 최대 64개입니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class MetricMatcher {
+
+    private static final int MAX_IDS = Long.SIZE;
+    private static final int ALPHABET = 128;
+
+    /**
+     * 메트릭 규칙 하나 (같은 메트릭의 규칙이 여러 개면 하나만 맞아도 해당)
+     */
+    public record Rule(
+            String metric,
+            LogParser.LogType logType,
+            Set<LogParser.EventType> events,
+            List<String> pathEquals,
+            List<String> pathContains,
+            boolean includeReferer
+    ) {
+    }
+
+    private record CompiledRule(
+            int metricIndex,
+            LogParser.LogType logType,
+            EnumSet<LogParser.EventType> events,
+            long equalsMask,
+            long[] containsGroups,
+            boolean includeReferer
+    ) {
+
+        boolean hasPathCondition() {
+            return equalsMask != 0 || containsGroups.length > 0;
+        }
+
+        boolean pathMatches(long equalsFound, long containsFound) {
+            if ((equalsFound & equalsMask) != 0) {
+                return true;
+            }
+            if (containsGroups.length == 0) {
+                return false;
+            }
+            for (long group : containsGroups) {
+                if ((containsFound & group) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final List<String> metricNames;
+    private final CompiledRule[] rules;
+    private final Map<String, Long> equalsMasks;
+    private final int[][] transitions;
+    private final long[] outputs;
+
+    private MetricMatcher(List<String> metricNames, CompiledRule[] rules, Map<String, Long> equalsMasks,
+                          int[][] transitions, long[] outputs) {
+        this.metricNames = metricNames;
+        this.rules = rules;
+        this.equalsMasks = equalsMasks;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    /**
+     * 규칙 목록을 매처로 컴파일
+     *
+     * @param rules 규칙 목록 (메트릭 순서는 처음 등장한 순서)
+     * @return 매처
+     * @throws IllegalArgumentException 키워드/일치 경로/메트릭이 64개를 넘거나 키워드가 ASCII가 아닌 경우
+     */
+    public static MetricMatcher compile(Collection<Rule> rules) {
+        Map<String, Integer> metricIds = new LinkedHashMap<>();
+        Map<String, Integer> keywordIds = new LinkedHashMap<>();
+        Map<String, Long> equalsMasks = new HashMap<>();
+        int equalsCount = 0;
+
+        List<CompiledRule> compiled = new ArrayList<>();
+        for (Rule rule : rules) {
+            int metricIndex = idOf(metricIds, rule.metric(), "metrics");
+
+            long equalsMask = 0;
+            for (String path : nullToEmpty(rule.pathEquals())) {
+                Long bit = equalsMasks.get(path);
+                if (bit == null) {
+                    if (equalsCount >= MAX_IDS) {
+                        throw new IllegalArgumentException("Too many path-equals values (max " + MAX_IDS + ")");
+                    }
+                    bit = 1L << equalsCount++;
+                    equalsMasks.put(path, bit);
+                }
+                equalsMask |= bit;
+            }
+
+            List<String> contains = nullToEmpty(rule.pathContains());
+            long[] groups = new long[contains.size()];
+            for (int i = 0; i < contains.size(); i++) {
+                for (String keyword : contains.get(i).split("\\|")) {
+                    if (keyword.isEmpty()) {
+                        continue;
+                    }
+                    if (!keyword.chars().allMatch(c -> c < ALPHABET)) {
+                        throw new IllegalArgumentException("Path keyword must be ASCII: " + keyword);
+                    }
+                    groups[i] |= 1L << idOf(keywordIds, keyword, "path keywords");
+                }
+            }
+
+            EnumSet<LogParser.EventType> events = rule.events() == null || rule.events().isEmpty()
+                    ? null : EnumSet.copyOf(rule.events());
+            compiled.add(new CompiledRule(metricIndex, rule.logType(), events, equalsMask, groups, rule.includeReferer()));
+        }
+
+        List<String> keywords = new ArrayList<>(keywordIds.keySet());
+        AutomatonBuilder automaton = new AutomatonBuilder(keywords);
+        return new MetricMatcher(List.copyOf(metricIds.keySet()), compiled.toArray(new CompiledRule[0]),
+                Map.copyOf(equalsMasks), automaton.transitions(), automaton.outputs());
+    }
+
+    /**
+     * 로그 한 건이 해당하는 메트릭마다 action 실행 (메트릭당 최대 한 번, 정의 순서대로)
+     *
+     * @param log 파싱된 로그
+     * @param action 메트릭 이름을 받는 콜백
+     */
+    public void forEachMatch(LogParser.ParsedLog log, Consumer<String> action) {
+        long matched = matchMask(log);
+        for (int i = 0; matched != 0; i++, matched >>>= 1) {
+            if ((matched & 1L) != 0) {
+                action.accept(metricNames.get(i));
+            }
+        }
+    }
+
+    /**
+     * 로그 한 건이 특정 메트릭에 해당하는지 확인
+     *
+     * @param log 파싱된 로그
+     * @param metric 메트릭 이름
+     * @return 해당 여부 (정의되지 않은 메트릭이면 false)
+     */
+    public boolean matches(LogParser.ParsedLog log, String metric) {
+        int index = metricNames.indexOf(metric);
+        return index >= 0 && (matchMask(log) & (1L << index)) != 0;
+    }
+
+    /**
+     * 정의된 메트릭 이름 (정의 순서)
+     */
+    public List<String> getMetricNames() {
+        return metricNames;
+    }
+
+    private long matchMask(LogParser.ParsedLog log) {
+        if (log == null) {
+            return 0;
+        }
+
+        long matched = 0;
+        boolean pathScanned = false;
+        boolean refererScanned = false;
+        long pathEquals = 0;
+        long pathContains = 0;
+        long refererEquals = 0;
+        long refererContains = 0;
+
+        for (CompiledRule rule : rules) {
+            long metricBit = 1L << rule.metricIndex();
+            if ((matched & metricBit) != 0) {
+                continue;
+            }
+            if (rule.logType() != null && rule.logType() != log.getLogType()) {
+                continue;
+            }
+            if (rule.events() != null && (log.getEvent() == null || !rule.events().contains(log.getEvent()))) {
+                continue;
+            }
+            if (!rule.hasPathCondition()) {
+                matched |= metricBit;
+                continue;
+            }
+
+            if (!pathScanned) {
+                pathEquals = equalsMask(log.getApiPath());
+                pathContains = scan(log.getApiPath());
+                pathScanned = true;
+            }
+            boolean hit = rule.pathMatches(pathEquals, pathContains);
+            if (!hit && rule.includeReferer()) {
+                if (!refererScanned) {
+                    refererEquals = equalsMask(log.getReferer());
+                    refererContains = scan(log.getReferer());
+                    refererScanned = true;
+                }
+                hit = rule.pathMatches(refererEquals, refererContains);
+            }
+            if (hit) {
+                matched |= metricBit;
+            }
+        }
+        return matched;
+    }
+
+    private long equalsMask(String path) {
+        if (path == null) {
+            return 0;
+        }
+        Long mask = equalsMasks.get(path);
+        return mask != null ? mask : 0;
+    }
+
+    private long scan(String text) {
+        if (text == null || outputs.length == 1) {
+            return 0;
+        }
+        long found = 0;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            // 키워드는 ASCII만 허용하므로 그 외 문자는 어떤 키워드에도 속하지 않음
+            state = c < ALPHABET ? transitions[state][c] : 0;
+            found |= outputs[state];
+        }
+        return found;
+    }
+
+    private static int idOf(Map<String, Integer> ids, String key, String kind) {
+        Integer id = ids.get(key);
+        if (id == null) {
+            if (ids.size() >= MAX_IDS) {
+                throw new IllegalArgumentException("Too many " + kind + " (max " + MAX_IDS + ")");
+            }
+            id = ids.size();
+            ids.put(key, id);
+        }
+        return id;
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    /**
+     * Aho-Corasick 오토마톤 생성기
+     *
+     * 실패 링크를 미리 따라가서 모든 상태/문자에 대한 전이를 채운 DFA를 만듭니다.
+     * 상태 수는 키워드 길이의 합 + 1 이하입니다.
+     */
+    private static final class AutomatonBuilder {
+        private final List<int[]> transitions = new ArrayList<>();
+        private final List<Long> outputs = new ArrayList<>();
+
+        private AutomatonBuilder(List<String> keywords) {
+            newState();
+            for (int id = 0; id < keywords.size(); id++) {
+                int state = 0;
+                for (char c : keywords.get(id).toCharArray()) {
+                    if (transitions.get(state)[c] < 0) {
+                        transitions.get(state)[c] = newState();
+                    }
+                    state = transitions.get(state)[c];
+                }
+                outputs.set(state, outputs.get(state) | (1L << id));
+            }
+
+            // 너비 우선으로 실패 링크를 계산하고, 없는 전이는 실패 상태의 전이로 채움
+            int[] fail = new int[transitions.size()];
+            Deque<Integer> queue = new ArrayDeque<>();
+            int[] root = transitions.get(0);
+            for (int c = 0; c < ALPHABET; c++) {
+                if (root[c] > 0) {
+                    fail[root[c]] = 0;
+                    queue.add(root[c]);
+                } else {
+                    root[c] = 0;
+                }
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                outputs.set(state, outputs.get(state) | outputs.get(fail[state]));
+                int[] next = transitions.get(state);
+                for (int c = 0; c < ALPHABET; c++) {
+                    if (next[c] > 0) {
+                        fail[next[c]] = transitions.get(fail[state])[c];
+                        queue.add(next[c]);
+                    } else {
+                        next[c] = transitions.get(fail[state])[c];
+                    }
+                }
+            }
+        }
+
+        private int newState() {
+            int[] next = new int[ALPHABET];
+            Arrays.fill(next, -1);
+            transitions.add(next);
+            outputs.add(0L);
+            return transitions.size() - 1;
+        }
+
+        private int[][] transitions() {
+            return transitions.toArray(new int[0][]);
+        }
+
+        private long[] outputs() {
+            return outputs.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+}
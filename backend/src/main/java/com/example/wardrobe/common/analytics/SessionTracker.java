@@ -0,0 +1,193 @@
+package com.example.wardrobe.common.analytics;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 세션 재구성기 (sessionization)
+ *
+ * 같은 세션 키(로그의 sessionId, 없으면 요청 ID)의 이벤트를 비활동 간격(inactivity gap) 기준으로 세션으로 묶고,
+ * 세션 시작 시간대별로 세션 수, 세션 길이, 세션당 페이지 수를 집계합니다.
+ *
+ * 메모리 사용량은 방문자 수와 무관하게 고정됩니다.
+ * - 진행 중 세션: 마지막 이벤트 시각 순으로 정렬된 TreeSet. 비활동 간격이 지난 세션은 종료 처리 후 제거하고,
+ *   maxActiveSessions를 넘으면 마지막 이벤트가 가장 오래된 세션을 강제로 종료합니다.
+ *   (늦게 도착한 이벤트도 있으므로 도착 순서가 아니라 이벤트 시각으로 정렬)
+ * - 시간대별 집계: 최근 maxHours 개 시간 버킷만 보관합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class SessionTracker {
+
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    /**
+     * 시간대별 세션 집계 (불변 스냅샷)
+     */
+    public record HourlySessionStats(LocalDateTime hourStart, long sessions, long totalDurationMillis, long totalPages) {
+
+        /**
+         * 평균 세션 길이 (초)
+         */
+        public double averageDurationSeconds() {
+            return sessions == 0 ? 0 : totalDurationMillis / 1000.0 / sessions;
+        }
+
+        /**
+         * 세션당 평균 페이지 수
+         */
+        public double averagePagesPerSession() {
+            return sessions == 0 ? 0 : (double) totalPages / sessions;
+        }
+    }
+
+    private static final class Session {
+        private final String key;
+        private final long sequence;
+        private final long startMillis;
+        private long lastSeenMillis;
+        private int pages;
+
+        private Session(String key, long sequence, long startMillis) {
+            this.key = key;
+            this.sequence = sequence;
+            this.startMillis = startMillis;
+            this.lastSeenMillis = startMillis;
+        }
+    }
+
+    private static final Comparator<Session> BY_LAST_SEEN = Comparator
+            .<Session>comparingLong(session -> session.lastSeenMillis)
+            .thenComparingLong(session -> session.sequence);
+
+    private static final class HourStats {
+        private long sessions;
+        private long totalDurationMillis;
+        private long totalPages;
+    }
+
+    private final long inactivityGapMillis;
+    private final int maxActiveSessions;
+    private final int maxHours;
+
+    private final Map<String, Session> activeSessions = new HashMap<>();
+    // 맨 앞이 마지막 이벤트가 가장 오래된 세션 (lastSeenMillis를 바꿀 때는 뺐다가 다시 넣음)
+    private final TreeSet<Session> byLastSeen = new TreeSet<>(BY_LAST_SEEN);
+    private long nextSequence;
+    private final TreeMap<Long, HourStats> hourlyStats = new TreeMap<>();
+    private long maxEventTime = Long.MIN_VALUE;
+
+    /**
+     * 생성자
+     *
+     * @param inactivityGapMillis 세션 종료로 보는 비활동 간격
+     * @param maxActiveSessions 동시에 추적할 최대 세션 수
+     * @param maxHours 보관할 시간대별 집계 수
+     */
+    public SessionTracker(long inactivityGapMillis, int maxActiveSessions, int maxHours) {
+        this.inactivityGapMillis = inactivityGapMillis;
+        this.maxActiveSessions = maxActiveSessions;
+        this.maxHours = maxHours;
+    }
+
+    /**
+     * 이벤트 반영
+     *
+     * @param sessionKey 세션 키 (null이면 무시)
+     * @param eventTimeMillis 이벤트 시각 (epoch millis)
+     * @param pageView 페이지뷰 이벤트 여부
+     */
+    public synchronized void record(String sessionKey, long eventTimeMillis, boolean pageView) {
+        if (sessionKey == null) {
+            return;
+        }
+
+        Session session = activeSessions.get(sessionKey);
+        if (session != null && eventTimeMillis - session.lastSeenMillis > inactivityGapMillis) {
+            // 비활동 간격을 넘긴 이벤트는 새 세션
+            end(session);
+            session = null;
+        }
+        if (session == null) {
+            session = new Session(sessionKey, nextSequence++, eventTimeMillis);
+            activeSessions.put(sessionKey, session);
+            byLastSeen.add(session);
+        }
+
+        if (eventTimeMillis > session.lastSeenMillis) {
+            byLastSeen.remove(session);
+            session.lastSeenMillis = eventTimeMillis;
+            byLastSeen.add(session);
+        }
+        if (pageView) {
+            session.pages++;
+        }
+
+        if (eventTimeMillis > maxEventTime) {
+            maxEventTime = eventTimeMillis;
+        }
+        evictExpired();
+    }
+
+    /**
+     * 종료된 세션의 시간대별 집계 (오래된 순)
+     *
+     * @return 시간대별 집계 스냅샷
+     */
+    public synchronized List<HourlySessionStats> getHourlyStats() {
+        List<HourlySessionStats> result = new ArrayList<>(hourlyStats.size());
+        hourlyStats.forEach((hourStart, stats) -> result.add(new HourlySessionStats(
+                LocalDateTime.ofEpochSecond(Math.floorDiv(hourStart, 1000L), 0, ZoneOffset.UTC),
+                stats.sessions, stats.totalDurationMillis, stats.totalPages)));
+        return result;
+    }
+
+    /**
+     * 진행 중인 세션 수
+     */
+    public synchronized int getActiveSessionCount() {
+        return activeSessions.size();
+    }
+
+    private void evictExpired() {
+        while (!byLastSeen.isEmpty()) {
+            Session eldest = byLastSeen.first();
+            boolean expired = maxEventTime - eldest.lastSeenMillis > inactivityGapMillis;
+            boolean overCapacity = activeSessions.size() > maxActiveSessions;
+            if (!expired && !overCapacity) {
+                break;
+            }
+            end(eldest);
+        }
+    }
+
+    private void end(Session session) {
+        close(session);
+        activeSessions.remove(session.key);
+        byLastSeen.remove(session);
+    }
+
+    private void close(Session session) {
+        long hourStart = Math.floorDiv(session.startMillis, MILLIS_PER_HOUR) * MILLIS_PER_HOUR;
+        if (!hourlyStats.isEmpty() && hourlyStats.size() >= maxHours && hourStart < hourlyStats.firstKey()) {
+            return; // 보관 범위보다 오래된 시간대
+        }
+
+        HourStats stats = hourlyStats.computeIfAbsent(hourStart, key -> new HourStats());
+        stats.sessions++;
+        stats.totalDurationMillis += session.lastSeenMillis - session.startMillis;
+        stats.totalPages += session.pages;
+
+        while (hourlyStats.size() > maxHours) {
+            hourlyStats.pollFirstEntry();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.wardrobe.common.analytics;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 워터마크 기반 이벤트 시각 시간대별 카운터
+ *
+ * 로그는 늦게, 순서가 뒤바뀐 채로 도착할 수 있으므로 수신 시각이 아니라 이벤트 발생 시각으로 집계합니다.
+ * - 소스(로그 파일)별 워터마크 = 그 소스에서 본 가장 늦은 이벤트 시각 - delay
+ * - 전체 워터마크 = 소스별 워터마크 중 가장 이른 값 (뒤처진 소스의 이벤트가 앞선 소스 때문에 버려지지 않음)
+ *   (이벤트가 끊긴 소스가 있으면 그 소스가 다시 쓰일 때까지 확정도 멈춥니다)
+ * - 워터마크가 지난 시간 버킷도 allowedLateness 동안은 열려 있어서 늦은 이벤트(LATE)를 받습니다.
+ * - 버킷 종료 + allowedLateness가 워터마크보다 이르면 버킷을 확정(finalize)하고 불변 객체로 보관합니다.
+ * - 확정된 버킷에 해당하는 이벤트는 버리고(DROPPED) 메트릭별로 따로 셉니다.
+ *
+ * 열린 버킷 수는 (delay + allowedLateness + 소스 간 지연 차이) / 1시간 정도로 제한되며,
+ * 확정 버킷은 최근 maxFinalizedBuckets 개만 보관합니다.
+ *
+ * 이벤트는 Batch로 모아서 판정하고, 호출자가 commit()해야 카운터에 반영됩니다.
+ * 버킷 저장 트랜잭션이 롤백되어 같은 줄을 다시 읽어도 두 번 세지 않도록, 커밋이 끝난 뒤에 commit()합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class WatermarkedHourlyCounter {
+
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    /**
+     * 이벤트 처리 결과
+     */
+    public enum Admission {
+        /**
+         * 워터마크 이전에 도착한 정상 이벤트
+         */
+        ON_TIME,
+
+        /**
+         * 워터마크는 지났지만 허용 지연 안에 도착한 이벤트 (올바른 버킷에 반영됨)
+         */
+        LATE,
+
+        /**
+         * 허용 지연을 넘겨 도착한 이벤트 (버킷에 반영되지 않음)
+         */
+        DROPPED
+    }
+
+    /**
+     * 확정된 시간 버킷 (불변)
+     */
+    public record FinalizedBucket(String metric, LocalDateTime hourStart, long count) {
+    }
+
+    private final long delayMillis;
+    private final long allowedLatenessMillis;
+    private final int maxFinalizedBuckets;
+
+    private final Map<String, Long> maxEventTimes = new HashMap<>();
+    private final TreeMap<Long, Map<String, Long>> openBuckets = new TreeMap<>();
+    private final Deque<FinalizedBucket> finalizedBuckets = new ArrayDeque<>();
+    private final Map<String, Long> droppedCounts = new HashMap<>();
+    private final Map<String, Long> lateCounts = new HashMap<>();
+
+    /**
+     * 생성자
+     *
+     * @param delayMillis 워터마크 지연 (이벤트 간 최대 순서 뒤바뀜 추정치)
+     * @param allowedLatenessMillis 워터마크가 지난 뒤에도 이벤트를 받는 시간
+     * @param maxFinalizedBuckets 보관할 확정 버킷 수
+     */
+    public WatermarkedHourlyCounter(long delayMillis, long allowedLatenessMillis, int maxFinalizedBuckets) {
+        this.delayMillis = delayMillis;
+        this.allowedLatenessMillis = allowedLatenessMillis;
+        this.maxFinalizedBuckets = maxFinalizedBuckets;
+    }
+
+    /**
+     * 이벤트 하나를 바로 반영 (batch(source) → offer → commit)
+     *
+     * @param source 이벤트 소스 (로그 파일 등)
+     * @param metric 메트릭 이름
+     * @param eventTimeMillis 이벤트 발생 시각 (epoch millis)
+     * @return 처리 결과
+     */
+    public synchronized Admission offer(String source, String metric, long eventTimeMillis) {
+        Batch batch = batch(source);
+        Admission admission = batch.offer(metric, eventTimeMillis);
+        batch.commit();
+        return admission;
+    }
+
+    /**
+     * 한 소스의 이벤트를 모아서 판정할 배치 생성
+     *
+     * 배치 안의 판정은 앞서 offer한 이벤트가 반영된 것처럼 워터마크를 진행시키지만,
+     * commit() 전까지 카운터 상태는 바뀌지 않습니다. 한 소스에는 한 번에 배치 하나만 사용합니다.
+     *
+     * @param source 이벤트 소스 (로그 파일 등)
+     * @return 배치
+     */
+    public Batch batch(String source) {
+        return new Batch(source);
+    }
+
+    /**
+     * 한 소스의 이벤트 판정 결과 모음 (commit 전까지 카운터에 반영되지 않음)
+     */
+    public final class Batch {
+
+        private final String source;
+        private long batchMaxEventTime = Long.MIN_VALUE;
+        private final Map<Long, Map<String, Long>> counts = new HashMap<>();
+        private final Map<String, Long> late = new HashMap<>();
+        private final Map<String, Long> dropped = new HashMap<>();
+
+        private Batch(String source) {
+            this.source = source;
+        }
+
+        /**
+         * 이벤트 판정
+         *
+         * @param metric 메트릭 이름
+         * @param eventTimeMillis 이벤트 발생 시각 (epoch millis)
+         * @return 처리 결과
+         */
+        public Admission offer(String metric, long eventTimeMillis) {
+            long hourStart = Math.floorDiv(eventTimeMillis, MILLIS_PER_HOUR) * MILLIS_PER_HOUR;
+            long watermark;
+            synchronized (WatermarkedHourlyCounter.this) {
+                watermark = watermark(source, batchMaxEventTime);
+            }
+
+            Admission admission;
+            if (watermark != Long.MIN_VALUE && hourStart + MILLIS_PER_HOUR + allowedLatenessMillis <= watermark) {
+                dropped.merge(metric, 1L, Long::sum);
+                admission = Admission.DROPPED;
+            } else {
+                counts.computeIfAbsent(hourStart, key -> new HashMap<>()).merge(metric, 1L, Long::sum);
+                if (watermark != Long.MIN_VALUE && eventTimeMillis < watermark) {
+                    late.merge(metric, 1L, Long::sum);
+                    admission = Admission.LATE;
+                } else {
+                    admission = Admission.ON_TIME;
+                }
+            }
+
+            batchMaxEventTime = Math.max(batchMaxEventTime, eventTimeMillis);
+            return admission;
+        }
+
+        /**
+         * 판정 결과를 카운터에 반영하고 워터마크를 진행
+         *
+         * @return 이번 반영으로 새로 확정된 버킷 (시간순, 같은 시간은 메트릭 이름순)
+         */
+        public List<FinalizedBucket> commit() {
+            synchronized (WatermarkedHourlyCounter.this) {
+                counts.forEach((hourStart, metrics) -> {
+                    Map<String, Long> bucket = openBuckets.computeIfAbsent(hourStart, key -> new HashMap<>());
+                    metrics.forEach((metric, count) -> bucket.merge(metric, count, Long::sum));
+                });
+                late.forEach((metric, count) -> lateCounts.merge(metric, count, Long::sum));
+                dropped.forEach((metric, count) -> droppedCounts.merge(metric, count, Long::sum));
+                if (batchMaxEventTime != Long.MIN_VALUE) {
+                    maxEventTimes.merge(source, batchMaxEventTime, Math::max);
+                }
+                return finalizeClosedBuckets();
+            }
+        }
+    }
+
+    /**
+     * 현재 워터마크 (소스별 워터마크 중 가장 이른 값, epoch millis / 이벤트를 아직 받지 않았으면 Long.MIN_VALUE)
+     */
+    public synchronized long getWatermark() {
+        return watermark();
+    }
+
+    /**
+     * 확정된 버킷 목록 (오래된 순, 불변)
+     */
+    public synchronized List<FinalizedBucket> getFinalizedBuckets() {
+        return List.copyOf(finalizedBuckets);
+    }
+
+    /**
+     * 허용 지연을 넘겨 버려진 이벤트 수 (메트릭별)
+     */
+    public synchronized Map<String, Long> getDroppedCounts() {
+        return Map.copyOf(droppedCounts);
+    }
+
+    /**
+     * 워터마크 이후 허용 지연 안에 도착해 반영된 이벤트 수 (메트릭별)
+     */
+    public synchronized Map<String, Long> getLateCounts() {
+        return Map.copyOf(lateCounts);
+    }
+
+    private long watermark() {
+        return watermark(null, Long.MIN_VALUE);
+    }
+
+    /**
+     * 소스별 워터마크 중 가장 이른 값 (source의 최대 이벤트 시각은 pendingMaxEventTime까지 진행된 것으로 계산)
+     */
+    private long watermark(String source, long pendingMaxEventTime) {
+        long earliest = Long.MAX_VALUE;
+        for (Map.Entry<String, Long> entry : maxEventTimes.entrySet()) {
+            long maxEventTime = entry.getKey().equals(source)
+                    ? Math.max(entry.getValue(), pendingMaxEventTime) : entry.getValue();
+            earliest = Math.min(earliest, maxEventTime);
+        }
+        if (source != null && !maxEventTimes.containsKey(source) && pendingMaxEventTime != Long.MIN_VALUE) {
+            earliest = Math.min(earliest, pendingMaxEventTime);
+        }
+        return earliest == Long.MAX_VALUE ? Long.MIN_VALUE : earliest - delayMillis;
+    }
+
+    private List<FinalizedBucket> finalizeClosedBuckets() {
+        long watermark = watermark();
+        List<FinalizedBucket> finalized = new ArrayList<>();
+        Iterator<Map.Entry<Long, Map<String, Long>>> iterator = openBuckets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Map<String, Long>> entry = iterator.next();
+            long hourStart = entry.getKey();
+            if (hourStart + MILLIS_PER_HOUR + allowedLatenessMillis > watermark) {
+                break; // TreeMap은 시간순이므로 이후 버킷도 아직 열려 있음
+            }
+
+            LocalDateTime start = LocalDateTime.ofEpochSecond(hourStart / 1000, 0, ZoneOffset.UTC);
+            List<String> metrics = new ArrayList<>(entry.getValue().keySet());
+            metrics.sort(null);
+            for (String metric : metrics) {
+                finalized.add(new FinalizedBucket(metric, start, entry.getValue().get(metric)));
+            }
+            iterator.remove();
+        }
+
+        finalizedBuckets.addAll(finalized);
+        while (finalizedBuckets.size() > maxFinalizedBuckets) {
+            finalizedBuckets.removeFirst();
+        }
+        return finalized;
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.wardrobe.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로 보내는 DataSource
+ *
+ * 커넥션을 얻는 시점에 현재 트랜잭션이 readOnly이면 정상 상태의 복제본 중 하나를, 아니면 primary를 사용합니다.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy로 감싸서
+ * 첫 SQL 실행 때 커넥션을 얻도록 해야 합니다 (DataSourceRoutingConfig).
+ *
+ * - 선택 방식: ROUND_ROBIN(순서대로) 또는 LEAST_CONNECTIONS(사용 중 커넥션이 가장 적은 복제본)
+ * - checkHealth: 커넥션 유효성과 (lagQuery가 있으면) 복제 지연을 확인해서 maxLag를 넘는 복제본은 제외
+ * - 정상 복제본이 없거나 복제본 커넥션을 얻지 못하면 primary로 대체
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * 복제본 선택 방식
+     */
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_CONNECTIONS
+    }
+
+    private static final List<String> LAG_COLUMNS = List.of("Seconds_Behind_Source", "Seconds_Behind_Master");
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * 생성자
+     *
+     * @param primary 쓰기(및 대체)용 DataSource
+     * @param replicas 복제본 목록
+     * @param strategy 복제본 선택 방식
+     * @param maxLag 허용하는 최대 복제 지연
+     * @param lagQuery 복제 지연(초)을 조회하는 SQL (비어 있으면 지연 확인 안 함)
+     * @param validationTimeout 상태 확인 시 커넥션 유효성 검사 제한 시간
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Strategy strategy,
+                                    Duration maxLag, String lagQuery, Duration validationTimeout) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Replica replica = select();
+            if (replica != null) {
+                try {
+                    return open(replica.dataSource, username, password);
+                } catch (SQLException e) {
+                    replica.markDown("connection failed: " + e.getMessage());
+                }
+            }
+        }
+        return open(primary, username, password);
+    }
+
+    /**
+     * 복제본 상태 확인 (주기적으로 호출)
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    replica.markDown("connection is not valid");
+                    continue;
+                }
+                if (lagQuery == null) {
+                    replica.markUp(0);
+                    continue;
+                }
+                Long lagSeconds = queryLag(connection);
+                if (lagSeconds == null) {
+                    replica.markDown("replication lag unknown");
+                } else if (lagSeconds > maxLag.toSeconds()) {
+                    replica.markDown("replication lag " + lagSeconds + "s exceeds " + maxLag.toSeconds() + "s");
+                } else {
+                    replica.markUp(lagSeconds);
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 정상 상태인 복제본 수
+     */
+    public int getHealthyReplicaCount() {
+        int count = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 복제본 목록
+     */
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+    }
+
+    private Replica select() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        if (strategy == Strategy.LEAST_CONNECTIONS) {
+            Replica best = null;
+            int fewest = Integer.MAX_VALUE;
+            for (Replica replica : replicas) {
+                int active = replica.activeConnections();
+                if (replica.healthy && active < fewest) {
+                    best = replica;
+                    fewest = active;
+                }
+            }
+            return best;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Long queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            int column = lagColumn(resultSet.getMetaData());
+            long lag = resultSet.getLong(column);
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+
+    /**
+     * SHOW REPLICA STATUS 같은 결과에서는 지연 컬럼을, 그 외에는 첫 번째 컬럼을 사용
+     */
+    private static int lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            for (String name : LAG_COLUMNS) {
+                if (name.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    return i;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static Connection open(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("DataSource close failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 복제본 하나
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long lagSeconds;
+
+        /**
+         * 생성자
+         *
+         * @param name 로그/메트릭에 표시할 이름
+         * @param dataSource 복제본 DataSource (HikariDataSource면 사용 중 커넥션 수로 LEAST_CONNECTIONS 지원)
+         */
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public long getLagSeconds() {
+            return lagSeconds;
+        }
+
+        DataSource getDataSource() {
+            return dataSource;
+        }
+
+        int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+
+        private void markUp(long lag) {
+            this.lagSeconds = lag;
+            if (!healthy) {
+                log.info("Replica {} is back (lag {}s)", name, lag);
+            }
+            this.healthy = true;
+        }
+
+        private void markDown(String reason) {
+            if (healthy) {
+                log.warn("Replica {} excluded from reads: {}", name, reason);
+            }
+            this.healthy = false;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.wardrobe.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ *
+ * 설정 예시:
+ * <pre>
+ * datasource:
+ *   routing:
+ *     enabled: true
+ *     strategy: LEAST_CONNECTIONS
+ *     max-lag: 5s
+ *     lag-query: SHOW REPLICA STATUS
+ *     replicas:
+ *       - url: jdbc:mysql://replica-1:3306/wardrobe
+ *         username: reader
+ *         password: ${REPLICA_PASSWORD}
+ * </pre>
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaRoutingProperties {
+
+    /**
+     * 라우팅 사용 여부 (false면 spring.datasource 하나만 사용)
+     */
+    private boolean enabled;
+
+    /**
+     * 복제본 선택 방식
+     */
+    private ReplicaRoutingDataSource.Strategy strategy = ReplicaRoutingDataSource.Strategy.ROUND_ROBIN;
+
+    /**
+     * 허용하는 최대 복제 지연 (넘으면 primary에서 읽음)
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연(초)을 조회하는 SQL (비어 있으면 연결 상태만 확인)
+     */
+    private String lagQuery;
+
+    /**
+     * 복제본 상태 확인 주기 (밀리초)
+     */
+    private long healthCheckIntervalMs = 5000;
+
+    /**
+     * 상태 확인 시 커넥션 유효성 검사 제한 시간
+     */
+    private Duration validationTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 복제본 목록
+     */
+    private List<ReplicaProperties> replicas = new ArrayList<>();
+
+    /**
+     * 복제본 접속 정보
+     */
+    @Getter
+    @Setter
+    public static class ReplicaProperties {
+        private String url;
+        private String username;
+        private String password;
+
+        /**
+         * 드라이버 클래스 (생략 시 spring.datasource.driver-class-name)
+         */
+        private String driverClassName;
+
+        /**
+         * 커넥션을 읽기 전용으로 열지 여부 (드라이버가 지원하지 않으면 false)
+         */
+        private boolean readOnly = true;
+
+        /**
+         * 최대 커넥션 수 (생략 시 Hikari 기본값)
+         */
+        private Integer maximumPoolSize;
+
+        /**
+         * 드라이버에 전달할 속성 (예: SQLite pragma)
+         */
+        private Map<String, String> dataSourceProperties = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.wardrobe.common.datasource;
+
+import org.hibernate.community.dialect.SQLiteDialect;
+
+import java.sql.Types;
+
+/**
+ * sqlite 프로필용 Hibernate Dialect
+ *
+ * SQLite의 정수 컬럼은 선언한 타입과 관계없이 모두 64비트 INTEGER로 저장됩니다.
+ * 다만 자동 증가 PK는 rowid를 쓰려면 반드시 "integer primary key"로 선언해야 하므로,
+ * ddl-auto=validate가 Long(bigint) 필드와 integer 컬럼을 다른 타입으로 보지 않도록 정수 타입끼리는 같은 타입으로 취급합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class WardrobeSQLiteDialect extends SQLiteDialect {
+
+    @Override
+    public boolean equivalentTypes(int typeCode1, int typeCode2) {
+        return super.equivalentTypes(typeCode1, typeCode2)
+                || isInteger(typeCode1) && isInteger(typeCode2);
+    }
+
+    private static boolean isInteger(int typeCode) {
+        return typeCode == Types.TINYINT || typeCode == Types.SMALLINT
+                || typeCode == Types.INTEGER || typeCode == Types.BIGINT;
+    }
+}
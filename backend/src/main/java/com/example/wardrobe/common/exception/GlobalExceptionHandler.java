@@ -1,9 +1,15 @@
 package com.example.wardrobe.common.exception;
 
 import com.example.wardrobe.domain.auth.exception.InvalidCredentialsException;
+import com.example.wardrobe.domain.auth.exception.InvalidRefreshTokenException;
+import com.example.wardrobe.domain.auth.exception.InvalidTokenException;
+import com.example.wardrobe.domain.auth.exception.TooManyLoginAttemptsException;
 import com.example.wardrobe.domain.user.exception.EmailAlreadyExistsException;
+import com.example.wardrobe.domain.user.exception.InvalidUserQueryException;
 import com.example.wardrobe.domain.user.exception.UserNotFoundException;
+import com.example.wardrobe.security.PasswordHashingBusyException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -65,6 +71,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * 잘못된 사용자 목록 조회 요청 예외 처리
+     * 
+     * @param ex InvalidUserQueryException
+     * @param request WebRequest
+     * @return 400 Bad Request 응답
+     */
+    @ExceptionHandler(InvalidUserQueryException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidUserQueryException(
+            InvalidUserQueryException ex,
+            WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * 잘못된 인증 정보 예외 처리
      * 
@@ -84,6 +109,86 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    /**
+     * 유효하지 않은 Refresh Token 예외 처리
+     * 
+     * @param ex InvalidRefreshTokenException
+     * @param request WebRequest
+     * @return 401 Unauthorized 응답
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRefreshTokenException(
+            InvalidRefreshTokenException ex,
+            WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.UNAUTHORIZED.value(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
+
+    /**
+     * 유효하지 않은 Access Token 예외 처리
+     * 
+     * @param ex InvalidTokenException
+     * @param request WebRequest
+     * @return 401 Unauthorized 응답
+     */
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTokenException(
+            InvalidTokenException ex,
+            WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.UNAUTHORIZED.value(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
+
+    /**
+     * 로그인 시도 횟수 초과 예외 처리
+     * 
+     * @param ex TooManyLoginAttemptsException
+     * @param request WebRequest
+     * @return 429 Too Many Requests 응답 (Retry-After 헤더 포함)
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyLoginAttemptsException(
+            TooManyLoginAttemptsException ex,
+            WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * 비밀번호 해싱 대기열 포화 예외 처리
+     * 
+     * @param ex PasswordHashingBusyException
+     * @param request WebRequest
+     * @return 503 Service Unavailable 응답 (Retry-After 헤더 포함)
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusyException(
+            PasswordHashingBusyException ex,
+            WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     /**
      * @Valid 검증 실패 예외 처리
      * 
@@ -1,7 +1,14 @@
 package com.example.wardrobe.common.logging;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,7 +33,7 @@ public class LogParser {
         "^(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3}) " +  // Group 1: timestamp
         "(INFO|DEBUG|ERROR|WARN) " +                                 // Group 2: level
         "\\[([A-Z0-9]{26})\\] " +                                    // Group 3: requestId (ULID 26자)
-        ".*?API Request: (GET|POST|PUT|DELETE|PATCH) " +            // Group 4: method
+        ".*?API Request: ([A-Z]+) " +                                // Group 4: method
         "([^|\\s]+)" +                                                // Group 5: apiPath
         ".*?RequestId: ([A-Z0-9]{26})"                                // Group 6: requestId 확인
     );
@@ -55,35 +62,157 @@ public class LogParser {
         "page_view.*?page_path[:\"\\s]+([^\\s}]+)"
     );
     
+    /**
+     * 세션 ID 패턴 (프론트엔드, 선택)
+     * 
+     * 예시: "{ \"requestId\": \"...\", \"sessionId\": \"6f1c2e...\", \"url\": \"...\" }"
+     */
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile(
+        "\"sessionId\"[:\"\\s]+([A-Za-z0-9-]+)"
+    );
+    
     
     private static final DateTimeFormatter BACKEND_TIMESTAMP_FORMATTER = 
         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
     
-    private static final DateTimeFormatter FRONTEND_TIMESTAMP_FORMATTER = 
-        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    
+    /**
+     * 경로 문자열 사전 (apiPath, referer 공유용)
+     */
+    private static final PathDictionary PATH_DICTIONARY = new PathDictionary(4096);
+    
+    /**
+     * 로그 출처 구분
+     */
+    public enum LogType {
+        BACKEND("backend"),
+        FRONTEND("frontend");
+        
+        private final String code;
+        
+        LogType(String code) {
+            this.code = code;
+        }
+        
+        public String getCode() {
+            return code;
+        }
+    }
+    
+    /**
+     * HTTP 메서드
+     * 
+     * 로그 파싱이 웹 프레임워크에 의존하지 않도록 별도로 정의합니다.
+     * 알 수 없는 메서드는 예외 대신 OTHER로 분류됩니다.
+     */
+    public enum HttpMethod {
+        GET, HEAD, POST, PUT, PATCH, DELETE, OPTIONS, TRACE, OTHER;
+        
+        private static final Map<String, HttpMethod> BY_NAME = new HashMap<>();
+        
+        static {
+            for (HttpMethod method : values()) {
+                BY_NAME.put(method.name(), method);
+            }
+        }
+        
+        /**
+         * 메서드 이름을 HttpMethod로 변환
+         * 
+         * @param name 메서드 이름 (대문자)
+         * @return HttpMethod (알 수 없으면 OTHER)
+         */
+        public static HttpMethod fromName(String name) {
+            if (name == null) {
+                return OTHER;
+            }
+            HttpMethod method = BY_NAME.get(name);
+            return method != null ? method : OTHER;
+        }
+    }
+    
+    /**
+     * 로그 이벤트 종류
+     * 
+     * 로그에 등장하는 이벤트 이름은 소수의 고정된 값이므로 문자열 대신 enum으로 보관합니다.
+     * 알 수 없는 이벤트 이름은 OTHER로 분류됩니다.
+     */
+    public enum EventType {
+        PAGE_VIEW("page_view"),
+        QUIZ_COMPLETE("quiz_complete"),
+        RESULT_GENERATED("result_generated"),
+        API_REQUEST("api_request"),
+        REQUEST_START("request_start"),
+        REQUEST_SUCCESS("request_success"),
+        REQUEST_FAIL("request_fail"),
+        REQUEST_ERROR("request_error"),
+        OTHER("other");
+        
+        private static final Map<String, EventType> BY_CODE = new HashMap<>();
+        
+        static {
+            for (EventType type : values()) {
+                BY_CODE.put(type.code, type);
+                BY_CODE.put(type.name(), type);
+            }
+        }
+        
+        private final String code;
+        
+        EventType(String code) {
+            this.code = code;
+        }
+        
+        public String getCode() {
+            return code;
+        }
+        
+        /**
+         * 이벤트 이름을 EventType으로 변환 ("page_view", "PAGE_VIEW" 모두 허용)
+         * 
+         * @param code 이벤트 이름
+         * @return EventType (알 수 없으면 OTHER)
+         */
+        public static EventType fromCode(String code) {
+            if (code == null) {
+                return OTHER;
+            }
+            EventType type = BY_CODE.get(code);
+            return type != null ? type : OTHER;
+        }
+    }
     
     /**
      * 파싱된 로그 데이터를 담는 클래스
+     * 
+     * 대량으로 보관되는 객체이므로 필드를 최소화합니다.
+     * - logType/event/method: enum 참조
+     * - apiPath/referer: PathDictionary로 공유된 문자열
+     * - timestamp: LocalDateTime 대신 epoch millis(UTC 기준) long 값
      */
     public static class ParsedLog {
+        private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+        private static final long MILLIS_PER_HOUR = 3_600_000L;
+        
         private String requestId;
-        private LocalDateTime timestamp;
-        private String method;
+        private String sessionId;
+        private long timestampMillis = NO_TIMESTAMP;
+        private HttpMethod method;
         private String apiPath;
         private String referer;
-        private String logType; // "backend" | "frontend"
-        private String event;   // "page_view", "quiz_complete", "result_generated" 등
+        private LogType logType;
+        private EventType event;
         
         public ParsedLog() {
         }
         
-        public ParsedLog(String requestId, LocalDateTime timestamp, String method, 
-                        String apiPath, String referer, String logType, String event) {
+        public ParsedLog(String requestId, LocalDateTime timestamp, HttpMethod method, 
+                        String apiPath, String referer, LogType logType, EventType event) {
             this.requestId = requestId;
-            this.timestamp = timestamp;
+            setTimestamp(timestamp);
             this.method = method;
-            this.apiPath = apiPath;
-            this.referer = referer;
+            setApiPath(apiPath);
+            setReferer(referer);
             this.logType = logType;
             this.event = event;
         }
@@ -97,19 +226,74 @@ public class LogParser {
             this.requestId = requestId;
         }
         
+        public String getSessionId() {
+            return sessionId;
+        }
+        
+        public void setSessionId(String sessionId) {
+            this.sessionId = sessionId;
+        }
+        
+        /**
+         * 세션 재구성에 쓸 키
+         * 
+         * 로그에 sessionId가 있으면 sessionId, 없으면 requestId를 사용합니다.
+         * requestId는 요청마다 새로 만들어지므로, 이 경우 세션은 한 요청의 이벤트(REQUEST_START ~ 완료)만 묶습니다.
+         * 
+         * @return 세션 키 (둘 다 없으면 null)
+         */
+        public String getSessionKey() {
+            return sessionId != null ? sessionId : requestId;
+        }
+        
         public LocalDateTime getTimestamp() {
-            return timestamp;
+            if (timestampMillis == NO_TIMESTAMP) {
+                return null;
+            }
+            return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(timestampMillis, 1000L),
+                (int) Math.floorMod(timestampMillis, 1000L) * 1_000_000,
+                ZoneOffset.UTC
+            );
         }
         
         public void setTimestamp(LocalDateTime timestamp) {
-            this.timestamp = timestamp;
+            this.timestampMillis = timestamp == null
+                ? NO_TIMESTAMP
+                : timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+        
+        /**
+         * 타임스탬프 존재 여부
+         */
+        public boolean hasTimestamp() {
+            return timestampMillis != NO_TIMESTAMP;
         }
         
-        public String getMethod() {
+        /**
+         * 타임스탬프 (epoch millis, 로그에 기록된 로컬 시각을 UTC로 간주)
+         */
+        public long getTimestampMillis() {
+            return timestampMillis;
+        }
+        
+        /**
+         * 시간대(0-23) - LocalDateTime을 만들지 않고 계산
+         * 
+         * @return 시간대 (타임스탬프가 없으면 -1)
+         */
+        public int getHour() {
+            if (timestampMillis == NO_TIMESTAMP) {
+                return -1;
+            }
+            return (int) Math.floorMod(Math.floorDiv(timestampMillis, MILLIS_PER_HOUR), 24L);
+        }
+        
+        public HttpMethod getMethod() {
             return method;
         }
         
-        public void setMethod(String method) {
+        public void setMethod(HttpMethod method) {
             this.method = method;
         }
         
@@ -118,7 +302,7 @@ public class LogParser {
         }
         
         public void setApiPath(String apiPath) {
-            this.apiPath = apiPath;
+            this.apiPath = PATH_DICTIONARY.intern(apiPath);
         }
         
         public String getReferer() {
@@ -126,22 +310,22 @@ public class LogParser {
         }
         
         public void setReferer(String referer) {
-            this.referer = referer;
+            this.referer = PATH_DICTIONARY.intern(referer);
         }
         
-        public String getLogType() {
+        public LogType getLogType() {
             return logType;
         }
         
-        public void setLogType(String logType) {
+        public void setLogType(LogType logType) {
             this.logType = logType;
         }
         
-        public String getEvent() {
+        public EventType getEvent() {
             return event;
         }
         
-        public void setEvent(String event) {
+        public void setEvent(EventType event) {
             this.event = event;
         }
     }
@@ -179,13 +363,13 @@ public class LogParser {
         try {
             String timestampStr = matcher.group(1);
             String requestId = matcher.group(3);
-            String method = matcher.group(4);
+            HttpMethod method = HttpMethod.fromName(matcher.group(4));
             String apiPath = matcher.group(5);
             
             LocalDateTime timestamp = LocalDateTime.parse(timestampStr, BACKEND_TIMESTAMP_FORMATTER);
             
             // 이벤트 타입 추출
-            String event = extractEventFromBackendLog(logLine, apiPath);
+            EventType event = extractEventFromBackendLog(logLine, apiPath);
             
             return new ParsedLog(
                 requestId,
@@ -193,7 +377,7 @@ public class LogParser {
                 method,
                 apiPath,
                 null, // 백엔드 로그에는 referer 없음
-                "backend",
+                LogType.BACKEND,
                 event
             );
         } catch (Exception e) {
@@ -207,66 +391,112 @@ public class LogParser {
     private static ParsedLog parseFrontendLog(Matcher matcher, String logLine) {
         try {
             String timestampStr = matcher.group(1);
-            String event = matcher.group(4);
+            EventType event = EventType.fromCode(matcher.group(4));
             String requestId = matcher.group(5);
             String url = matcher.group(6);
             
-            LocalDateTime timestamp;
-            try {
-                timestamp = LocalDateTime.parse(timestampStr, FRONTEND_TIMESTAMP_FORMATTER);
-            } catch (Exception e) {
-                // 다른 형식 시도
-                timestamp = LocalDateTime.now();
-            }
+            // 이벤트 발생 시각 (해석 불가 시 null - 수신 시각으로 대체하지 않음)
+            LocalDateTime timestamp = parseFrontendTimestamp(timestampStr);
             
             // URL에서 API 경로 추출
             String apiPath = extractApiPathFromUrl(url);
             
             // 페이지 경로 추출 (page_view 이벤트인 경우)
             String referer = null;
-            if ("page_view".equals(event)) {
+            if (event == EventType.PAGE_VIEW) {
                 Matcher pageViewMatcher = PAGE_VIEW_PATTERN.matcher(logLine);
                 if (pageViewMatcher.find()) {
                     referer = pageViewMatcher.group(1);
                 }
             }
             
-            return new ParsedLog(
+            ParsedLog parsed = new ParsedLog(
                 requestId,
                 timestamp,
-                "GET", // 프론트엔드 로그는 기본적으로 GET
+                HttpMethod.GET, // 프론트엔드 로그는 기본적으로 GET
                 apiPath,
                 referer,
-                "frontend",
+                LogType.FRONTEND,
                 event
             );
+            Matcher sessionMatcher = SESSION_ID_PATTERN.matcher(logLine);
+            if (sessionMatcher.find()) {
+                parsed.setSessionId(sessionMatcher.group(1));
+            }
+            return parsed;
         } catch (Exception e) {
             return null;
         }
     }
     
+    /**
+     * 프론트엔드 타임스탬프 파싱
+     * 
+     * 프론트엔드는 toISOString()(UTC)을 사용하지만 브라우저/버전에 따라 형식이 달라질 수 있어 여러 형식을 시도합니다.
+     * 오프셋이 있는 값은 백엔드 로그와 같은 서버 로컬 시각으로 변환합니다.
+     * - 2025-01-20T15:30:45.123Z / 2025-01-20T15:30:45+09:00 (오프셋 포함 ISO-8601)
+     * - 2025-01-20T15:30:45.123 (오프셋 없는 ISO-8601, 로컬 시각으로 간주)
+     * - 2025-01-20 15:30:45.123 (백엔드 형식)
+     * - 1737387045123 (epoch millis)
+     * 
+     * @param value 타임스탬프 문자열
+     * @return 서버 로컬 시각 (해석할 수 없으면 null)
+     */
+    static LocalDateTime parseFrontendTimestamp(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        
+        try {
+            return OffsetDateTime.parse(trimmed)
+                .atZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+            // 다음 형식 시도
+        }
+        
+        try {
+            return LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException ignored) {
+            // 다음 형식 시도
+        }
+        
+        try {
+            return LocalDateTime.parse(trimmed, BACKEND_TIMESTAMP_FORMATTER);
+        } catch (DateTimeParseException ignored) {
+            // 다음 형식 시도
+        }
+        
+        if (trimmed.chars().allMatch(Character::isDigit) && trimmed.length() >= 12 && trimmed.length() <= 13) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(trimmed)), ZoneId.systemDefault());
+        }
+        
+        return null;
+    }
+    
     /**
      * 백엔드 로그에서 이벤트 타입 추출
      */
-    private static String extractEventFromBackendLog(String logLine, String apiPath) {
+    private static EventType extractEventFromBackendLog(String logLine, String apiPath) {
         // API 경로 기반으로 이벤트 추정
         if (apiPath.equals("/") || apiPath.startsWith("/api/v1/")) {
             // 랜딩 페이지 관련 API
             if (apiPath.equals("/") || apiPath.contains("landing")) {
-                return "page_view";
+                return EventType.PAGE_VIEW;
             }
             // 퀴즈 관련 API
             if (apiPath.contains("quiz") || apiPath.contains("style-quiz")) {
                 if (apiPath.contains("complete") || apiPath.contains("result")) {
-                    return "quiz_complete";
+                    return EventType.QUIZ_COMPLETE;
                 }
             }
             // 분석 관련 API
             if (apiPath.contains("result") || apiPath.contains("analysis")) {
-                return "result_generated";
+                return EventType.RESULT_GENERATED;
             }
         }
-        return "api_request";
+        return EventType.API_REQUEST;
     }
     
     /**
@@ -294,68 +524,4 @@ public class LogParser {
             return "/";
         }
     }
-    
-    /**
-     * 랜딩 페이지 접속 로그인지 확인
-     */
-    public static boolean isLandingPageAccess(ParsedLog log) {
-        if (log == null) {
-            return false;
-        }
-        
-        // 프론트엔드 로그: page_view 이벤트이고 경로가 "/"
-        if ("frontend".equals(log.getLogType()) && "page_view".equals(log.getEvent())) {
-            return "/".equals(log.getApiPath()) || "/".equals(log.getReferer());
-        }
-        
-        // 백엔드 로그: API 경로가 "/" 또는 랜딩 페이지 관련
-        if ("backend".equals(log.getLogType())) {
-            return "/".equals(log.getApiPath()) || log.getApiPath().contains("landing");
-        }
-        
-        return false;
-    }
-    
-    /**
-     * 퀴즈 완료 로그인지 확인
-     */
-    public static boolean isQuizComplete(ParsedLog log) {
-        if (log == null) {
-            return false;
-        }
-        
-        // 프론트엔드 로그: quiz_complete 이벤트
-        if ("frontend".equals(log.getLogType()) && "quiz_complete".equals(log.getEvent())) {
-            return true;
-        }
-        
-        // 백엔드 로그: API 경로에 quiz/complete 포함
-        if ("backend".equals(log.getLogType())) {
-            return log.getApiPath().contains("quiz") && 
-                   (log.getApiPath().contains("complete") || log.getApiPath().contains("result"));
-        }
-        
-        return false;
-    }
-    
-    /**
-     * AI 분석 완료 로그인지 확인
-     */
-    public static boolean isAnalysisComplete(ParsedLog log) {
-        if (log == null) {
-            return false;
-        }
-        
-        // 프론트엔드 로그: result_generated 이벤트
-        if ("frontend".equals(log.getLogType()) && "result_generated".equals(log.getEvent())) {
-            return true;
-        }
-        
-        // 백엔드 로그: API 경로에 result/analysis 포함
-        if ("backend".equals(log.getLogType())) {
-            return log.getApiPath().contains("result") || log.getApiPath().contains("analysis");
-        }
-        
-        return false;
-    }
 }
@@ -0,0 +1,60 @@
+package com.example.wardrobe.common.logging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 경로 문자열 사전 (bounded intern 테이블)
+ *
+ * 로그에서 추출한 API 경로/페이지 경로는 소수의 값이 반복해서 등장합니다.
+ * 같은 값을 하나의 String 인스턴스로 공유하여 파싱된 로그를 대량으로 보관할 때의 힙 사용량을 줄입니다.
+ *
+ * 사전 크기에 상한이 있고, 가득 차면 자주 쓰이지 않는 항목부터 밀어냅니다 (Caffeine W-TinyLFU).
+ * /api/v1/users/123 처럼 카디널리티가 높은 경로가 먼저 사전을 채워도, 반복해서 등장하는 경로가
+ * 그 자리를 차지하게 되므로 메모리는 상한 안에 머물고 흔한 경로는 계속 공유됩니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class PathDictionary {
+
+    private final Cache<String, String> entries;
+
+    /**
+     * 생성자
+     *
+     * @param maxSize 사전에 보관할 최대 항목 수
+     */
+    public PathDictionary(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .executor(Runnable::run) // 정리 작업을 호출 스레드에서 (공용 풀에 작업을 넘기지 않음)
+                .build();
+    }
+
+    /**
+     * 사전에 등록된 동일한 문자열 인스턴스를 반환합니다.
+     *
+     * @param value 원본 문자열
+     * @return 공유 인스턴스 (처음 보는 값이면 등록 후 원본 문자열)
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        return entries.get(value, key -> key);
+    }
+
+    /**
+     * 현재 등록된 항목 수
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+}
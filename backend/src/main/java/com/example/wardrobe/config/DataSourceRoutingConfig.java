@@ -0,0 +1,127 @@
+package com.example.wardrobe.config;
+
+import com.example.wardrobe.common.datasource.ReplicaRoutingDataSource;
+import com.example.wardrobe.common.datasource.ReplicaRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정
+ *
+ * datasource.routing.enabled=true일 때만 적용됩니다.
+ * spring.datasource는 primary(쓰기)로, datasource.routing.replicas는 읽기 복제본으로 사용하고,
+ * @Transactional(readOnly = true) 트랜잭션의 커넥션만 복제본에서 가져옵니다.
+ *
+ * 복제 지연 때문에 방금 쓴 데이터가 읽기 트랜잭션에서 바로 보이지 않을 수 있습니다 (최대 max-lag).
+ * 그래서 방금 쓴 데이터를 봐야 하는 조회(로그인 사용자 조회, 토큰 버전 확인, 가입 중복 확인)는
+ * 읽기 전용이 아닌 트랜잭션으로 primary에서 읽습니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    /**
+     * 라우팅 DataSource
+     *
+     * 트랜잭션의 readOnly 여부가 정해진 뒤(첫 SQL 실행 시) 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감쌉니다.
+     *
+     * @param dataSourceProperties spring.datasource 설정 (primary)
+     * @param routingProperties datasource.routing 설정
+     * @param environment spring.datasource.hikari 설정을 primary 풀에 적용하는 데 사용
+     * @param meterRegistry 메트릭 레지스트리
+     * @return DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            ReplicaRoutingProperties routingProperties,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (ReplicaRoutingProperties.ReplicaProperties replica : routingProperties.getReplicas()) {
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .driverClassName(replica.getDriverClassName() != null
+                            ? replica.getDriverClassName()
+                            : dataSourceProperties.determineDriverClassName())
+                    .build();
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(replica.isReadOnly());
+            if (replica.getMaximumPoolSize() != null) {
+                dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            }
+            replica.getDataSourceProperties().forEach(dataSource::addDataSourceProperty);
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, dataSource));
+        }
+
+        this.routingDataSource = new ReplicaRoutingDataSource(
+                primary,
+                replicas,
+                routingProperties.getStrategy(),
+                routingProperties.getMaxLag(),
+                routingProperties.getLagQuery(),
+                routingProperties.getValidationTimeout());
+        routingDataSource.checkHealth();
+
+        Gauge.builder("datasource.replicas.healthy", routingDataSource, ReplicaRoutingDataSource::getHealthyReplicaCount)
+                .description("Read replicas currently receiving read-only transactions")
+                .register(meterRegistry);
+        log.info("DataSource routing enabled: {} replicas ({} healthy), strategy={}, maxLag={}",
+                replicas.size(), routingDataSource.getHealthyReplicaCount(),
+                routingProperties.getStrategy(), routingProperties.getMaxLag());
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 복제본 상태 확인 (기본 5초마다)
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicaHealth() {
+        if (routingDataSource != null) {
+            routingDataSource.checkHealth();
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+}
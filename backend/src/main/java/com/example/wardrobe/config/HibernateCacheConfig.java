@@ -0,0 +1,95 @@
+package com.example.wardrobe.config;
+
+import com.example.wardrobe.domain.user.entity.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 설정
+ *
+ * 프로세스 내 JCache 구현(Caffeine)을 Hibernate 캐시 저장소로 사용합니다.
+ * 캐시 영역은 여기서 크기와 TTL을 정해 미리 만들고, 정의되지 않은 영역을 쓰려고 하면 시작 시 실패합니다.
+ * - users, users-natural-id: User 엔티티와 이메일 → ID (user.cache.max-size, user.cache.ttl)
+ * - 쿼리 결과: 캐시 힌트가 붙은 쿼리 결과 (테이블이 변경되면 그 테이블을 읽은 결과는 무효)
+ * - 테이블 변경 시각: 쿼리 결과 무효화 기준이므로 만료/크기 제한 없음
+ *
+ * 항목은 복사하지 않고 참조로 저장합니다 (Hibernate가 분해한 상태 배열만 저장하므로 안전).
+ * 적중률은 Hibernate 통계를 통해 Micrometer 메트릭 hibernate.second.level.cache.requests,
+ * hibernate.cache.natural.id.requests, hibernate.cache.query.requests로 확인할 수 있습니다.
+ *
+ * 노드마다 별도 캐시이므로, 다른 노드에서의 변경은 TTL 안에 반영됩니다 (UserCache와 같은 기준).
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "user.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    /**
+     * Hibernate 캐시 영역을 담는 CacheManager
+     *
+     * 컨텍스트마다 별도 CachingProvider 인스턴스를 사용해서 같은 JVM의 다른 컨텍스트와 영역을 공유하지 않습니다.
+     *
+     * @param maxSize 사용자 영역 최대 크기
+     * @param ttl 사용자 영역 유지 시간
+     * @return CacheManager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${user.cache.max-size:10000}") long maxSize,
+            @Value("${user.cache.ttl:10m}") Duration ttl) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(User.CACHE_REGION, region(OptionalLong.of(maxSize), ttl));
+        cacheManager.createCache(User.NATURAL_ID_CACHE_REGION, region(OptionalLong.of(maxSize), ttl));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(OptionalLong.of(maxSize), ttl));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                region(OptionalLong.empty(), null));
+        log.info("Hibernate second-level cache: maxSize={}, ttl={}", maxSize, ttl);
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate 캐시 설정 (application.yml의 spring.jpa.properties와 관계없이 적용)
+     *
+     * @param hibernateCacheManager 캐시 영역을 담은 CacheManager
+     * @return HibernatePropertiesCustomizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(OptionalLong maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setMaximumSize(maxSize);
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
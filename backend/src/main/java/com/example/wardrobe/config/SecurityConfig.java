@@ -1,15 +1,22 @@
 package com.example.wardrobe.config;
 
+import com.example.wardrobe.domain.user.entity.UserRole;
+import com.example.wardrobe.security.CalibratedBCryptPasswordEncoder;
 import com.example.wardrobe.security.CustomAccessDeniedHandler;
 import com.example.wardrobe.security.CustomAuthenticationEntryPoint;
 import com.example.wardrobe.security.JwtAuthenticationFilter;
+import com.example.wardrobe.security.PublicRoutes;
+import com.example.wardrobe.service.AnalyticsClusterService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -17,8 +24,10 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Security 설정 클래스
@@ -26,7 +35,7 @@ import java.util.List;
  * Spring Security 기본 설정을 관리합니다.
  * - 회원가입(/api/v1/users/signup)은 인증 없이 접근 가능
  * - 그 외 API는 인증 필요
- * - 비밀번호 암호화는 BCryptPasswordEncoder 사용
+ * - 비밀번호 암호화는 시작 시 지연 예산에 맞춰 cost를 정한 BCrypt 사용 ({bcrypt} 접두사)
  * 
  * @author Closet Canvas Team
  * @since 1.0
@@ -35,6 +44,8 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -55,78 +66,78 @@ public class SecurityConfig {
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer() {
         return (web) -> web.ignoring()
-                .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/swagger-ui/index.html")
-                .requestMatchers("/v3/api-docs/**", "/v3/api-docs.yaml", "/v3/api-docs.yml")
-                .requestMatchers("/swagger-resources/**", "/swagger-resources")
-                .requestMatchers("/webjars/**");
+                .requestMatchers(PublicRoutes.API_DOCS_MATCHER);
     }
 
     /**
      * PasswordEncoder 빈 등록
      * 
      * BCrypt 알고리즘을 사용하여 비밀번호를 암호화합니다.
+     * cost를 고정하지 않으면 시작 시 현재 머신에서 해시 한 번이 auth.password.hash-budget 안에 들어오는
+     * 가장 큰 cost를 측정해서 사용합니다.
+     * 
+     * 새 해시는 {bcrypt} 접두사를 붙여 저장하며, 접두사가 없는 기존 해시도 BCrypt로 검증합니다.
+     * 저장된 해시의 cost가 목표와 다르거나 접두사가 없으면 upgradeEncoding이 true가 되어
+     * 로그인 성공 시 다시 해싱됩니다.
      * 
-     * @return BCryptPasswordEncoder 인스턴스
+     * @param fixedCost 고정 cost (0이면 측정)
+     * @param hashBudget 해시 한 번의 지연 예산
+     * @param minCost 최소 cost
+     * @param maxCost 최대 cost
+     * @return DelegatingPasswordEncoder 인스턴스
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.password.cost:0}") int fixedCost,
+            @Value("${auth.password.hash-budget:100ms}") Duration hashBudget,
+            @Value("${auth.password.min-cost:10}") int minCost,
+            @Value("${auth.password.max-cost:14}") int maxCost) {
+        int cost = fixedCost > 0
+                ? fixedCost
+                : CalibratedBCryptPasswordEncoder.calibrate(hashBudget, minCost, maxCost);
+        PasswordEncoder bcrypt = new CalibratedBCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     /**
      * SecurityFilterChain 설정
      * 
-     * 공개 엔드포인트 (인증 불필요):
-     * - /api/v1/auth/** - 인증 관련 (로그인, 회원가입 등)
-     * - /api/v1/users/signup - 회원가입
-     * - /api/v1/health/** - Health 체크 (배포 환경 모니터링용)
-     * - /api/v1/feature1/** - Feature1 테스트 엔드포인트
-     * - /api/v1/recommend/** - 추천 API (임시로 인증 불필요)
+     * 공개 엔드포인트 (인증 불필요)는 PublicRoutes에 정의되어 있으며,
+     * JwtAuthenticationFilter도 같은 목록으로 필터 적용 여부를 판단합니다.
      * 
+     * /api/v1/admin/** 는 ADMIN 권한 필요 (/api/v1/admin/analytics/** 는 공개 경로로 먼저 허용,
+     * 단 PublicRoutes.PROTECTED에 있는 내보내기 등은 ADMIN 권한 필요)
+     * /api/v1/admin/analytics/partial 은 피어 공유 비밀값 헤더가 일치해야 접근 가능
      * 그 외 모든 엔드포인트는 인증 필요
      * 
      * @param http HttpSecurity
+     * @param analyticsClusterService 피어 공유 비밀값 확인
      * @return SecurityFilterChain
      * @throws Exception 설정 오류 시
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http, AnalyticsClusterService analyticsClusterService) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // CORS 설정 적용
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable())) // H2 콘솔 사용을 위해
                 .authorizeHttpRequests(auth -> auth
-                        // 공개 엔드포인트 (인증 불필요) - 순서 중요: 구체적인 경로를 먼저
-                        // 0. Swagger UI 및 API 문서 (최우선 - 개발 환경)
-                        .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/swagger-ui/index.html", "/swagger-ui/**/**").permitAll()
-                        .requestMatchers("/v3/api-docs/**", "/v3/api-docs.yaml", "/v3/api-docs.yml").permitAll()
-                        .requestMatchers("/swagger-resources/**", "/swagger-resources", "/swagger-resources/**/**").permitAll()
-                        .requestMatchers("/webjars/**", "/webjars/**/**").permitAll()
-                        
-                        // 1. Health 체크 (배포 환경 모니터링용 - 클라우드타입 등에서 필요)
-                        .requestMatchers("/api/v1/health", "/api/v1/health/**").permitAll()
-                        .requestMatchers("/", "/health", "/healthz").permitAll() // Cloud Type 기본 헬스체크 경로
-                        .requestMatchers("/actuator/health", "/actuator/info", "/actuator/**").permitAll() // Spring Boot Actuator 헬스체크
-                        
-                        // 2. 인증 관련 (로그인, 회원가입)
-                        .requestMatchers("/api/v1/auth/**").permitAll()
-                        .requestMatchers("/api/v1/users/signup").permitAll()
-                        
-                        // 4. 공개 API (임시로 인증 불필요)
-                        .requestMatchers("/api/v1/feature1/**").permitAll()
-                        .requestMatchers("/api/v1/recommend/**").permitAll()
-                        
-                        // 5. 어드민 분석 API (인증 불필요 - 공개 통계 데이터)
-                        .requestMatchers("/api/v1/admin/analytics/**").permitAll()
+                        // 비동기 요청(WebAsyncTask 등)의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         
-                        // 6. Spring Boot 기본 경로 (에러 핸들러 등)
-                        .requestMatchers("/error", "/error/**").permitAll()
+                        // 공개 엔드포인트 (인증 불필요) - PublicRoutes 참고
+                        .requestMatchers(PublicRoutes.PUBLIC_MATCHER).permitAll()
                         
-                        // 6. 개발 환경 전용 (H2 콘솔 - 프로덕션에서는 비활성화 권장)
-                        .requestMatchers("/h2-console/**").permitAll()
+                        // 노드별 부분 집계 - 코디네이터가 공유 비밀값 헤더를 보내야 허용
+                        .requestMatchers("/api/v1/admin/analytics/partial").access((authentication, context) ->
+                                new AuthorizationDecision(analyticsClusterService.isTrustedPeer(
+                                        context.getRequest().getHeader(AnalyticsClusterService.PEER_SECRET_HEADER))))
                         
-                        // TODO: 관리자 권한이 필요한 엔드포인트
-                        // .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                        // 관리자 권한이 필요한 엔드포인트 (공개 분석 API는 위의 PublicRoutes에서 먼저 허용됨)
+                        .requestMatchers("/api/v1/admin/**").hasRole(UserRole.ADMIN.name())
                         
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
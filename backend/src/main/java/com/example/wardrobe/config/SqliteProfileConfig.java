@@ -0,0 +1,61 @@
+package com.example.wardrobe.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * SQLite 프로필 설정 (application-sqlite.yml)
+ *
+ * SQLite 드라이버는 DB 파일은 만들지만 상위 디렉터리는 만들지 않으므로,
+ * DataSource가 생성되기 전에 spring.datasource.url의 디렉터리를 만들어 둡니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Configuration
+@Profile("sqlite")
+public class SqliteProfileConfig {
+
+    private static final String URL_PREFIX = "jdbc:sqlite:";
+
+    /**
+     * DB 파일 디렉터리 생성 (다른 빈보다 먼저 실행)
+     *
+     * @param environment 환경 설정
+     * @return BeanFactoryPostProcessor
+     */
+    @Bean
+    public static BeanFactoryPostProcessor sqliteDirectoryInitializer(Environment environment) {
+        return beanFactory -> {
+            String url = environment.getProperty("spring.datasource.url", "");
+            if (!url.startsWith(URL_PREFIX)) {
+                return;
+            }
+            String file = url.substring(URL_PREFIX.length());
+            int query = file.indexOf('?');
+            if (query >= 0) {
+                file = file.substring(0, query);
+            }
+            if (file.isEmpty() || file.startsWith(":memory:") || file.startsWith("file:")) {
+                return;
+            }
+            Path parent = Path.of(file).toAbsolutePath().getParent();
+            try {
+                Files.createDirectories(parent);
+                log.info("SQLite database file: {}", Path.of(file).toAbsolutePath());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create SQLite directory " + parent, e);
+            }
+        };
+    }
+}
@@ -1,20 +1,48 @@
 package com.example.wardrobe.controller;
 
+import com.example.wardrobe.common.analytics.HourlyAnomalyDetector;
+import com.example.wardrobe.common.logging.LogParser;
+import com.example.wardrobe.domain.analytics.dto.AnalyticsBucketResponse;
+import com.example.wardrobe.domain.analytics.dto.AnalyticsPartial;
+import com.example.wardrobe.domain.analytics.dto.ClusterAnalyticsResponse;
+import com.example.wardrobe.domain.analytics.dto.ExportFormat;
+import com.example.wardrobe.domain.analytics.dto.SessionStatsResponse;
+import com.example.wardrobe.domain.analytics.dto.WatermarkStatusResponse;
+import com.example.wardrobe.domain.analytics.entity.BucketGranularity;
+import com.example.wardrobe.domain.analytics.service.AnalyticsExportService;
+import com.example.wardrobe.domain.analytics.service.AnalyticsHistoryService;
+import com.example.wardrobe.domain.analytics.service.AnalyticsIngestService;
+import com.example.wardrobe.domain.analytics.service.MetricRegistry;
+import com.example.wardrobe.service.AnalyticsClusterService;
 import com.example.wardrobe.service.AnalyticsService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 분석 API 컨트롤러
  * 
  * 어드민 페이지에서 사용할 통계 데이터를 제공합니다.
- * 인증 없이 접근 가능한 공개 API입니다.
+ * 인증 없이 접근 가능한 공개 API입니다. 단, 원시 이벤트 내보내기(/export)와 클러스터 집계(/cluster)는
+ * ADMIN 권한이, 노드별 부분 집계(/partial)는 피어 공유 비밀값 헤더가 필요합니다.
+ * 
+ * 코디네이터 모드(analytics.cluster.coordinator=true)에서는 시간대별 조회 API가
+ * 모든 피어 노드의 집계를 병합한 결과를 반환합니다.
  * 
  * @author Closet Canvas Team
  * @since 1.0
@@ -25,6 +53,14 @@ import java.util.stream.Collectors;
 public class AnalyticsController {
     
     private final AnalyticsService analyticsService;
+    private final AnalyticsClusterService analyticsClusterService;
+    private final AnalyticsHistoryService analyticsHistoryService;
+    private final AnalyticsIngestService analyticsIngestService;
+    private final AnalyticsExportService analyticsExportService;
+    private final MetricRegistry metricRegistry;
+    
+    @Value("${analytics.export.timeout:30m}")
+    private Duration exportTimeout;
     
     /**
      * 시간대별 집계 응답 DTO
@@ -64,6 +100,10 @@ public class AnalyticsController {
      */
     @GetMapping("/landing-page-views")
     public ResponseEntity<List<HourlyAnalyticsResponse>> getLandingPageViews() {
+        if (analyticsClusterService.isCoordinator()) {
+            return ResponseEntity.ok(toHourlyResponse(
+                analyticsClusterService.aggregate().getMetric(AnalyticsService.METRIC_LANDING)));
+        }
         List<AnalyticsService.HourlyAnalytics> data = analyticsService.getLandingPageViews();
         List<HourlyAnalyticsResponse> response = data.stream()
             .map(item -> new HourlyAnalyticsResponse(item.getHour(), item.getCount()))
@@ -80,6 +120,10 @@ public class AnalyticsController {
      */
     @GetMapping("/quiz-completions")
     public ResponseEntity<List<HourlyAnalyticsResponse>> getQuizCompletions() {
+        if (analyticsClusterService.isCoordinator()) {
+            return ResponseEntity.ok(toHourlyResponse(
+                analyticsClusterService.aggregate().getMetric(AnalyticsService.METRIC_QUIZ)));
+        }
         List<AnalyticsService.HourlyAnalytics> data = analyticsService.getQuizCompletions();
         List<HourlyAnalyticsResponse> response = data.stream()
             .map(item -> new HourlyAnalyticsResponse(item.getHour(), item.getCount()))
@@ -96,10 +140,165 @@ public class AnalyticsController {
      */
     @GetMapping("/analysis-completions")
     public ResponseEntity<List<HourlyAnalyticsResponse>> getAnalysisCompletions() {
+        if (analyticsClusterService.isCoordinator()) {
+            return ResponseEntity.ok(toHourlyResponse(
+                analyticsClusterService.aggregate().getMetric(AnalyticsService.METRIC_ANALYSIS)));
+        }
         List<AnalyticsService.HourlyAnalytics> data = analyticsService.getAnalysisCompletions();
         List<HourlyAnalyticsResponse> response = data.stream()
             .map(item -> new HourlyAnalyticsResponse(item.getHour(), item.getCount()))
             .collect(Collectors.toList());
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * 이 노드의 병합 가능한 부분 집계 조회
+     * 
+     * GET /api/v1/admin/analytics/partial
+     * 
+     * 코디네이터가 피어 노드들을 조회할 때 사용합니다.
+     * analytics.cluster.secret과 같은 값을 X-Analytics-Peer-Secret 헤더로 보내야 합니다.
+     * 
+     * @return 이 노드의 AnalyticsPartial (시간대별 카운터, 합계, 고유 요청 스케치)
+     */
+    @GetMapping("/partial")
+    public ResponseEntity<AnalyticsPartial> getPartial() {
+        return ResponseEntity.ok(analyticsService.getLocalPartial());
+    }
+    
+    /**
+     * 클러스터 전체 집계 조회
+     * 
+     * GET /api/v1/admin/analytics/cluster
+     * 
+     * 로컬 노드와 설정된 피어 노드들의 partial을 병렬 조회하여 병합합니다. (ADMIN 권한 필요)
+     * 
+     * @return 메트릭별 병합 결과와 응답/실패 노드 목록
+     */
+    @GetMapping("/cluster")
+    public ResponseEntity<ClusterAnalyticsResponse> getClusterAnalytics() {
+        return ResponseEntity.ok(analyticsClusterService.getClusterAnalytics());
+    }
+    
+    /**
+     * 정의된 메트릭 목록 조회
+     * 
+     * GET /api/v1/admin/analytics/metrics
+     * 
+     * analytics.metrics 설정으로 정의된 메트릭 이름입니다. partial, cluster, history API의 메트릭 키로 사용됩니다.
+     * 
+     * @return 메트릭 이름 목록 (정의 순서)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<List<String>> getMetrics() {
+        return ResponseEntity.ok(metricRegistry.getMetricNames());
+    }
+    
+    /**
+     * 적재된 메트릭 이력 조회
+     * 
+     * GET /api/v1/admin/analytics/history?metric=landing&granularity=HOUR&from=2025-01-01T00:00:00&to=2025-01-02T00:00:00
+     * 
+     * @param metric 메트릭 이름 (GET /metrics 참고)
+     * @param granularity 버킷 단위 (MINUTE, HOUR, DAY)
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (미포함)
+     * @return 버킷 목록
+     */
+    @GetMapping("/history")
+    public ResponseEntity<List<AnalyticsBucketResponse>> getHistory(
+            @RequestParam String metric,
+            @RequestParam(defaultValue = "HOUR") BucketGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(analyticsHistoryService.getHistory(metric, granularity, from, to));
+    }
+    
+    /**
+     * 이벤트 시각 워터마크 상태 조회
+     * 
+     * GET /api/v1/admin/analytics/watermark
+     * 
+     * @return 워터마크, 늦게 도착한/버려진 이벤트 수, 확정된 시간 버킷
+     */
+    @GetMapping("/watermark")
+    public ResponseEntity<WatermarkStatusResponse> getWatermarkStatus() {
+        return ResponseEntity.ok(analyticsIngestService.getWatermarkStatus());
+    }
+    
+    /**
+     * 프론트엔드 세션 집계 조회
+     * 
+     * GET /api/v1/admin/analytics/sessions
+     * 
+     * @return 진행 중 세션 수와 시간대별 세션 수, 평균 세션 길이, 세션당 페이지 수
+     */
+    @GetMapping("/sessions")
+    public ResponseEntity<SessionStatsResponse> getSessionStats() {
+        return ResponseEntity.ok(analyticsIngestService.getSessionStats());
+    }
+    
+    /**
+     * 트래픽 이상 점수 조회
+     * 
+     * GET /api/v1/admin/analytics/anomalies
+     * 
+     * 메트릭별로 마지막으로 끝난 시간의 관측값이 기준선(EWMA + 요일/시간별 프로필)에서
+     * 얼마나 벗어났는지 z-score로 반환합니다.
+     * 
+     * @return 메트릭별 이상 점수
+     */
+    @GetMapping("/anomalies")
+    public ResponseEntity<List<HourlyAnomalyDetector.AnomalyScore>> getAnomalyScores() {
+        return ResponseEntity.ok(analyticsIngestService.getAnomalyScores());
+    }
+    
+    /**
+     * 파싱된 이벤트 내보내기
+     * 
+     * GET /api/v1/admin/analytics/export?format=CSV&from=2025-01-01T00:00:00&to=2025-01-02T00:00:00&event=PAGE_VIEW&gzip=true
+     * 
+     * 로그를 한 줄씩 읽어 바로 응답에 쓰므로 행 수가 많아도 메모리 사용량이 일정합니다.
+     * gzip=true이면 .gz 파일로 내려받습니다.
+     * 
+     * 내보내기는 오래 걸릴 수 있으므로 이 요청에만 analytics.export.timeout(기본 30분)을 적용합니다.
+     * 다른 비동기 요청(로그인/회원가입 등)은 spring.mvc.async.request-timeout을 따릅니다.
+     * 
+     * 원본 로그(요청 경로, Referer 등)를 그대로 내보내므로 ADMIN 권한이 필요합니다. (PublicRoutes.PROTECTED)
+     * 
+     * @param format 출력 형식 (CSV, NDJSON)
+     * @param from 시작 시각 (포함, 선택)
+     * @param to 종료 시각 (미포함, 선택)
+     * @param event 포함할 이벤트 종류 (여러 개 지정 가능, 생략 시 전체)
+     * @param gzip gzip 압축 여부
+     * @param response 이벤트를 기록할 응답
+     * @return 이벤트 스트림을 쓰는 비동기 작업
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportEvents(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Set<LogParser.EventType> event,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        String filename = "events." + format.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            analyticsExportService.export(response.getOutputStream(), format, from, to, event, gzip);
+            response.flushBuffer();
+            return null;
+        });
+    }
+    
+    /**
+     * 병합된 메트릭을 시간대별 응답 형식으로 변환
+     */
+    private List<HourlyAnalyticsResponse> toHourlyResponse(AnalyticsPartial.MetricPartial metric) {
+        long[] counts = metric.getHourlyCounts();
+        return IntStream.range(0, 24)
+            .mapToObj(hour -> new HourlyAnalyticsResponse(hour, counts[hour]))
+            .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.wardrobe.domain.analytics.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 버킷 응답 DTO
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public record AnalyticsBucketResponse(
+        LocalDateTime bucketStart,
+        long count
+) {
+}
@@ -0,0 +1,159 @@
+package com.example.wardrobe.domain.analytics.dto;
+
+import com.example.wardrobe.common.analytics.HyperLogLog;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 노드별 부분 집계 DTO
+ *
+ * 각 백엔드 인스턴스가 자신의 로그 파일로 계산한 집계 결과입니다.
+ * 모든 필드가 병합 가능(mergeable)한 형태이므로, 코디네이터는 여러 노드의 partial을
+ * 순서와 상관없이 합쳐 전체 통계를 만들 수 있습니다.
+ * - hourlyCounts: 시간대별(0-23) 카운터 → 합산
+ * - total: 전체 카운터 → 합산
+ * - uniqueRequestSketch: requestId HyperLogLog 레지스터 → 레지스터별 max
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class AnalyticsPartial {
+
+    private String nodeId;
+    private LocalDateTime generatedAt;
+    private Map<String, MetricPartial> metrics = new LinkedHashMap<>();
+
+    public AnalyticsPartial() {
+    }
+
+    public AnalyticsPartial(String nodeId) {
+        this.nodeId = nodeId;
+        this.generatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 메트릭에 로그 한 건을 기록
+     *
+     * @param metric 메트릭 이름
+     * @param hour 시간대 (0-23, 모르면 -1)
+     * @param requestId 요청 ID (고유 요청 수 추정용)
+     */
+    public void record(String metric, int hour, String requestId) {
+        metrics.computeIfAbsent(metric, key -> new MetricPartial()).record(hour, requestId);
+    }
+
+    /**
+     * 다른 노드의 partial을 병합
+     *
+     * @param other 병합할 partial
+     */
+    public void merge(AnalyticsPartial other) {
+        if (other == null || other.getMetrics() == null) {
+            return;
+        }
+        other.getMetrics().forEach((metric, partial) ->
+                metrics.computeIfAbsent(metric, key -> new MetricPartial()).merge(partial));
+    }
+
+    /**
+     * 메트릭 partial 조회 (없으면 빈 partial)
+     *
+     * @param metric 메트릭 이름
+     * @return MetricPartial
+     */
+    public MetricPartial getMetric(String metric) {
+        MetricPartial partial = metrics.get(metric);
+        return partial != null ? partial : new MetricPartial();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public Map<String, MetricPartial> getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Map<String, MetricPartial> metrics) {
+        this.metrics = metrics != null ? new LinkedHashMap<>(metrics) : new LinkedHashMap<>();
+    }
+
+    /**
+     * 메트릭 하나의 병합 가능한 집계
+     */
+    public static class MetricPartial {
+        private long[] hourlyCounts = new long[24];
+        private long total;
+        private HyperLogLog uniqueRequests = new HyperLogLog();
+
+        void record(int hour, String requestId) {
+            if (hour >= 0 && hour < 24) {
+                hourlyCounts[hour]++;
+            }
+            total++;
+            uniqueRequests.add(requestId);
+        }
+
+        void merge(MetricPartial other) {
+            long[] otherCounts = other.getHourlyCounts();
+            for (int hour = 0; hour < 24 && hour < otherCounts.length; hour++) {
+                hourlyCounts[hour] += otherCounts[hour];
+            }
+            total += other.getTotal();
+            uniqueRequests.merge(other.uniqueRequests);
+        }
+
+        public long[] getHourlyCounts() {
+            return hourlyCounts;
+        }
+
+        public void setHourlyCounts(long[] hourlyCounts) {
+            this.hourlyCounts = new long[24];
+            if (hourlyCounts != null) {
+                System.arraycopy(hourlyCounts, 0, this.hourlyCounts, 0, Math.min(24, hourlyCounts.length));
+            }
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+
+        /**
+         * HyperLogLog 레지스터 (JSON에서는 Base64 문자열로 직렬화됨)
+         */
+        public byte[] getUniqueRequestSketch() {
+            return uniqueRequests.toByteArray();
+        }
+
+        public void setUniqueRequestSketch(byte[] sketch) {
+            this.uniqueRequests = sketch != null ? new HyperLogLog(sketch) : new HyperLogLog();
+        }
+
+        /**
+         * 고유 요청 수 추정값
+         */
+        @JsonIgnore
+        public long getEstimatedUniqueRequests() {
+            return uniqueRequests.estimate();
+        }
+    }
+}
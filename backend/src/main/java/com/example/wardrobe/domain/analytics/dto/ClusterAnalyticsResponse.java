@@ -0,0 +1,47 @@
+package com.example.wardrobe.domain.analytics.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클러스터 전체 집계 응답 DTO
+ *
+ * 코디네이터가 로컬 노드와 피어 노드들의 partial을 병합한 결과입니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public record ClusterAnalyticsResponse(
+        /**
+         * 집계에 포함된 노드 ID 목록
+         */
+        List<String> respondedNodes,
+
+        /**
+         * 타임아웃/오류로 제외된 피어 URL 목록
+         */
+        List<String> failedPeers,
+
+        /**
+         * 메트릭별 병합 결과
+         */
+        Map<String, MergedMetric> metrics
+) {
+
+    /**
+     * 메트릭 하나의 병합 결과
+     */
+    public record MergedMetric(
+            long[] hourlyCounts,
+            long total,
+            long estimatedUniqueRequests
+    ) {
+        public static MergedMetric from(AnalyticsPartial.MetricPartial partial) {
+            return new MergedMetric(
+                    partial.getHourlyCounts().clone(),
+                    partial.getTotal(),
+                    partial.getEstimatedUniqueRequests()
+            );
+        }
+    }
+}
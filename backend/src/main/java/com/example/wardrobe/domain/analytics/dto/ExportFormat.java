@@ -0,0 +1,28 @@
+package com.example.wardrobe.domain.analytics.dto;
+
+/**
+ * 이벤트 내보내기 형식
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
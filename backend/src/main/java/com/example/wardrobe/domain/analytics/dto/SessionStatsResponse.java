@@ -0,0 +1,34 @@
+package com.example.wardrobe.domain.analytics.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 세션 집계 응답 DTO
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public record SessionStatsResponse(
+        /**
+         * 진행 중인 세션 수
+         */
+        int activeSessions,
+
+        /**
+         * 세션 시작 시간대별 집계 (오래된 순)
+         */
+        List<HourlySessions> hours
+) {
+
+    /**
+     * 시간대 하나의 세션 집계
+     */
+    public record HourlySessions(
+            LocalDateTime hourStart,
+            long sessions,
+            double averageDurationSeconds,
+            double averagePagesPerSession
+    ) {
+    }
+}
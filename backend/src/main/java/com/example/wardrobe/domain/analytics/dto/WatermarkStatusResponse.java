@@ -0,0 +1,36 @@
+package com.example.wardrobe.domain.analytics.dto;
+
+import com.example.wardrobe.common.analytics.WatermarkedHourlyCounter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 시각 워터마크 상태 응답 DTO
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public record WatermarkStatusResponse(
+        /**
+         * 현재 워터마크 (아직 이벤트가 없으면 null)
+         */
+        LocalDateTime watermark,
+
+        /**
+         * 워터마크 이후 허용 지연 안에 도착해 반영된 이벤트 수 (메트릭별)
+         */
+        Map<String, Long> lateEvents,
+
+        /**
+         * 허용 지연을 넘겨 버려진 이벤트 수 (메트릭별)
+         */
+        Map<String, Long> droppedEvents,
+
+        /**
+         * 확정된 시간 버킷 (오래된 순)
+         */
+        List<WatermarkedHourlyCounter.FinalizedBucket> finalizedHours
+) {
+}
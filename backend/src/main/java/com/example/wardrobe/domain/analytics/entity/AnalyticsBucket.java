@@ -0,0 +1,90 @@
+package com.example.wardrobe.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 집계 버킷 엔티티
+ * 
+ * 메트릭별로 일정 단위(분/시간/일) 구간의 카운트를 저장합니다.
+ * (metric, granularity, bucket_start) 조합은 유일하며,
+ * 보존 작업은 (granularity, bucket_start) 인덱스로 오래된 행을 찾습니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Entity
+@Table(
+        name = "analytics_buckets",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_analytics_buckets_metric_granularity_start",
+                columnNames = {"metric", "granularity", "bucket_start"}
+        ),
+        indexes = @Index(name = "idx_analytics_buckets_granularity_start", columnList = "granularity, bucket_start")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalyticsBucket {
+
+    /**
+     * 버킷 ID (PK)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 메트릭 이름 (landing, quiz, analysis 등)
+     */
+    @Column(nullable = false, length = 50)
+    private String metric;
+
+    /**
+     * 버킷 단위
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private BucketGranularity granularity;
+
+    /**
+     * 버킷 시작 시각
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * 구간 내 카운트
+     */
+    @Column(name = "event_count", nullable = false)
+    private long count;
+
+    /**
+     * AnalyticsBucket 엔티티 생성자
+     * 
+     * @param metric 메트릭 이름
+     * @param granularity 버킷 단위
+     * @param bucketStart 버킷 시작 시각
+     * @param count 카운트
+     */
+    @Builder
+    public AnalyticsBucket(String metric, BucketGranularity granularity, LocalDateTime bucketStart, long count) {
+        this.metric = metric;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.count = count;
+    }
+
+    /**
+     * 카운트 누적
+     * 
+     * @param delta 더할 값
+     */
+    public void addCount(long delta) {
+        this.count += delta;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.wardrobe.domain.analytics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그 적재 위치 엔티티
+ * 
+ * 로그 파일별로 어디까지 읽어서 버킷에 반영했는지 기록합니다.
+ * 버킷 갱신과 같은 트랜잭션에서 저장되므로, 재시작해도 같은 줄을 두 번 세지 않습니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Entity
+@Table(name = "analytics_ingest_cursors")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalyticsIngestCursor {
+
+    /**
+     * 로그 파일 경로 (PK)
+     */
+    @Id
+    @Column(name = "file_path", length = 500)
+    private String filePath;
+
+    /**
+     * 다음에 읽을 바이트 위치
+     */
+    @Column(nullable = false)
+    private long position;
+
+    /**
+     * 읽고 있는 파일의 식별자 (inode 등, 로테이션 감지용 / 지원하지 않는 파일 시스템이면 null)
+     */
+    @Column(name = "file_key", length = 100)
+    private String fileKey;
+
+    public AnalyticsIngestCursor(String filePath, long position, String fileKey) {
+        this.filePath = filePath;
+        this.position = position;
+        this.fileKey = fileKey;
+    }
+
+    /**
+     * 읽기 위치 갱신
+     * 
+     * @param position 새 위치
+     */
+    public void moveTo(long position) {
+        this.position = position;
+    }
+
+    /**
+     * 위치는 그대로 두고 파일 식별자만 기록 (식별자 없이 저장된 위치를 이어서 읽을 때)
+     *
+     * @param fileKey 파일 식별자
+     */
+    public void identify(String fileKey) {
+        this.fileKey = fileKey;
+    }
+
+    /**
+     * 다른 파일(로테이션으로 새로 생긴 파일)을 처음부터 읽도록 전환
+     *
+     * @param fileKey 새 파일의 식별자
+     */
+    public void switchTo(String fileKey) {
+        this.fileKey = fileKey;
+        this.position = 0L;
+    }
+}
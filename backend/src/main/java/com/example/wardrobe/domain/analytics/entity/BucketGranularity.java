@@ -0,0 +1,45 @@
+package com.example.wardrobe.domain.analytics.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 분석 버킷 단위 Enum
+ * 
+ * 분 단위로 적재된 데이터는 보존 기간이 지나면 시간 단위, 다시 일 단위로 다운샘플링됩니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public enum BucketGranularity {
+    /**
+     * 분 단위 (원본 적재 단위)
+     */
+    MINUTE(ChronoUnit.MINUTES),
+
+    /**
+     * 시간 단위
+     */
+    HOUR(ChronoUnit.HOURS),
+
+    /**
+     * 일 단위
+     */
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    BucketGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * 시각을 이 단위의 버킷 시작 시각으로 내림
+     * 
+     * @param time 시각
+     * @return 버킷 시작 시각
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
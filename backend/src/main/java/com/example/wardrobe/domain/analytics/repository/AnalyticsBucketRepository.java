@@ -0,0 +1,78 @@
+package com.example.wardrobe.domain.analytics.repository;
+
+import com.example.wardrobe.domain.analytics.entity.AnalyticsBucket;
+import com.example.wardrobe.domain.analytics.entity.BucketGranularity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 분석 버킷 Repository 인터페이스
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public interface AnalyticsBucketRepository extends JpaRepository<AnalyticsBucket, Long> {
+
+    /**
+     * 메트릭/단위/시작 시각으로 버킷 조회 (적재 및 다운샘플링 시 upsert 용도)
+     * 
+     * @param metric 메트릭 이름
+     * @param granularity 버킷 단위
+     * @param bucketStart 버킷 시작 시각
+     * @return 버킷이 존재하면 Optional<AnalyticsBucket>, 없으면 Optional.empty()
+     */
+    Optional<AnalyticsBucket> findByMetricAndGranularityAndBucketStart(
+            String metric, BucketGranularity granularity, LocalDateTime bucketStart);
+
+    /**
+     * 기준 시각 이전의 버킷을 한 배치만큼 조회
+     * 
+     * 보존 작업이 한 번에 처리하는 행 수를 Pageable로 제한합니다.
+     * 
+     * @param granularity 버킷 단위
+     * @param cutoff 기준 시각 (이 시각 이전 버킷만 조회)
+     * @param pageable 배치 크기
+     * @return 버킷 목록 (ID 오름차순)
+     */
+    List<AnalyticsBucket> findByGranularityAndBucketStartBeforeOrderByIdAsc(
+            BucketGranularity granularity, LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 기간 내 메트릭 버킷 조회
+     * 
+     * @param metric 메트릭 이름
+     * @param granularity 버킷 단위
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (미포함)
+     * @return 버킷 목록 (시작 시각 오름차순)
+     */
+    List<AnalyticsBucket> findByMetricAndGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+            String metric, BucketGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 버킷 카운트 누적 (없으면 생성)
+     * 
+     * 트랜잭션 안에서 호출해야 변경 감지로 반영됩니다.
+     * 
+     * @param metric 메트릭 이름
+     * @param granularity 버킷 단위
+     * @param bucketStart 버킷 시작 시각
+     * @param delta 더할 값
+     */
+    default void addCount(String metric, BucketGranularity granularity, LocalDateTime bucketStart, long delta) {
+        findByMetricAndGranularityAndBucketStart(metric, granularity, bucketStart)
+                .ifPresentOrElse(
+                        bucket -> bucket.addCount(delta),
+                        () -> save(AnalyticsBucket.builder()
+                                .metric(metric)
+                                .granularity(granularity)
+                                .bucketStart(bucketStart)
+                                .count(delta)
+                                .build())
+                );
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.wardrobe.domain.analytics.repository;
+
+import com.example.wardrobe.domain.analytics.entity.AnalyticsIngestCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 로그 적재 위치 Repository 인터페이스
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public interface AnalyticsIngestCursorRepository extends JpaRepository<AnalyticsIngestCursor, String> {
+}
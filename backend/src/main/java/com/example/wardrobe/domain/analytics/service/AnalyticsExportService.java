@@ -0,0 +1,230 @@
+package com.example.wardrobe.domain.analytics.service;
+
+import com.example.wardrobe.common.logging.LogParser;
+import com.example.wardrobe.domain.analytics.dto.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 이벤트 내보내기 서비스
+ * 
+ * 로그 파일을 한 줄씩 읽어 파싱하고, 조건에 맞는 이벤트를 바로 출력 스트림에 씁니다.
+ * 파일 전체나 결과 목록을 메모리에 올리지 않으므로 행 수와 무관하게 메모리 사용량이 일정합니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsExportService {
+
+    private static final String CSV_HEADER = "timestamp,log_type,event,request_id,method,api_path,referer";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${analytics.log.path:./logs/application.log}")
+    private String logFilePath;
+
+    @Value("${analytics.log.api.path:./logs/api-requests.log}")
+    private String apiLogFilePath;
+
+    /**
+     * 조건에 맞는 이벤트를 출력 스트림에 기록
+     * 
+     * @param out 출력 스트림 (닫지 않음)
+     * @param format 출력 형식
+     * @param from 시작 시각 (포함, null이면 제한 없음)
+     * @param to 종료 시각 (미포함, null이면 제한 없음)
+     * @param events 포함할 이벤트 종류 (비어 있으면 전체)
+     * @param gzip gzip 압축 여부
+     * @return 기록한 행 수
+     * @throws IOException 출력 실패 시
+     */
+    public long export(OutputStream out, ExportFormat format, LocalDateTime from, LocalDateTime to,
+                       Set<LogParser.EventType> events, boolean gzip) throws IOException {
+        EventFilter filter = new EventFilter(
+                from != null ? from.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MIN_VALUE,
+                to != null ? to.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MAX_VALUE,
+                events
+        );
+
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzipStream != null ? gzipStream : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long rows = 0;
+        rowWriter.begin();
+        for (String filePath : new String[]{logFilePath, apiLogFilePath}) {
+            rows += exportFile(Paths.get(filePath), filter, rowWriter);
+        }
+        rowWriter.end();
+
+        writer.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        log.debug("Exported {} events as {}", rows, format);
+        return rows;
+    }
+
+    private long exportFile(Path path, EventFilter filter, RowWriter rowWriter) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        long rows = 0;
+        // 잘못된 바이트가 있어도 중단하지 않도록 디코딩 오류는 대체 문자로 처리
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                LogParser.ParsedLog parsed = LogParser.parse(line);
+                if (parsed != null && filter.accepts(parsed)) {
+                    rowWriter.write(parsed);
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private record EventFilter(long fromMillis, long toMillis, Set<LogParser.EventType> events) {
+
+        boolean accepts(LogParser.ParsedLog parsed) {
+            if (events != null && !events.isEmpty() && !events.contains(parsed.getEvent())) {
+                return false;
+            }
+            if (fromMillis == Long.MIN_VALUE && toMillis == Long.MAX_VALUE) {
+                return true;
+            }
+            long millis = parsed.getTimestampMillis();
+            return parsed.hasTimestamp() && millis >= fromMillis && millis < toMillis;
+        }
+    }
+
+    private interface RowWriter {
+
+        default void begin() throws IOException {
+        }
+
+        void write(LogParser.ParsedLog parsed) throws IOException;
+
+        default void end() throws IOException {
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(LogParser.ParsedLog parsed) throws IOException {
+            writer.write(parsed.hasTimestamp() ? parsed.getTimestamp().toString() : "");
+            writer.write(',');
+            writer.write(parsed.getLogType() != null ? parsed.getLogType().getCode() : "");
+            writer.write(',');
+            writer.write(parsed.getEvent() != null ? parsed.getEvent().getCode() : "");
+            writer.write(',');
+            writeCsvField(writer, parsed.getRequestId());
+            writer.write(',');
+            writer.write(parsed.getMethod() != null ? parsed.getMethod().name() : "");
+            writer.write(',');
+            writeCsvField(writer, parsed.getApiPath());
+            writer.write(',');
+            writeCsvField(writer, parsed.getReferer());
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * CSV 필드 기록 (RFC 4180)
+     *
+     * 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 안의 큰따옴표는 두 번 씁니다. null은 빈 필드입니다.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            generator = objectMapper.getFactory().createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(LogParser.ParsedLog parsed) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("timestamp", parsed.hasTimestamp() ? parsed.getTimestamp().toString() : null);
+            generator.writeStringField("logType", parsed.getLogType() != null ? parsed.getLogType().getCode() : null);
+            generator.writeStringField("event", parsed.getEvent() != null ? parsed.getEvent().getCode() : null);
+            generator.writeStringField("requestId", parsed.getRequestId());
+            generator.writeStringField("method", parsed.getMethod() != null ? parsed.getMethod().name() : null);
+            generator.writeStringField("apiPath", parsed.getApiPath());
+            generator.writeStringField("referer", parsed.getReferer());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.close();
+        }
+    }
+}
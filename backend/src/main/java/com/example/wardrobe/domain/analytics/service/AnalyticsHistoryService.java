@@ -0,0 +1,47 @@
+package com.example.wardrobe.domain.analytics.service;
+
+import com.example.wardrobe.domain.analytics.dto.AnalyticsBucketResponse;
+import com.example.wardrobe.domain.analytics.entity.BucketGranularity;
+import com.example.wardrobe.domain.analytics.repository.AnalyticsBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분석 이력 조회 서비스
+ * 
+ * 적재된 버킷을 기간/단위별로 조회합니다.
+ * 보존 작업이 오래된 데이터를 다운샘플링하므로, 조회 대상 행 수는 서비스 운영 기간과 무관하게 일정합니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnalyticsHistoryService {
+
+    private final AnalyticsBucketRepository bucketRepository;
+
+    /**
+     * 메트릭 버킷 이력 조회
+     * 
+     * @param metric 메트릭 이름
+     * @param granularity 버킷 단위
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (미포함)
+     * @return 버킷 목록 (시작 시각 오름차순)
+     */
+    public List<AnalyticsBucketResponse> getHistory(
+            String metric, BucketGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return bucketRepository
+                .findByMetricAndGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        metric, granularity, from, to)
+                .stream()
+                .map(bucket -> new AnalyticsBucketResponse(bucket.getBucketStart(), bucket.getCount()))
+                .toList();
+    }
+}
@@ -0,0 +1,425 @@
+package com.example.wardrobe.domain.analytics.service;
+
+import com.example.wardrobe.common.analytics.HourlyAnomalyDetector;
+import com.example.wardrobe.common.analytics.SessionTracker;
+import com.example.wardrobe.common.analytics.WatermarkedHourlyCounter;
+import com.example.wardrobe.common.logging.LogParser;
+import com.example.wardrobe.domain.analytics.dto.SessionStatsResponse;
+import com.example.wardrobe.domain.analytics.dto.WatermarkStatusResponse;
+import com.example.wardrobe.domain.analytics.entity.AnalyticsIngestCursor;
+import com.example.wardrobe.domain.analytics.entity.BucketGranularity;
+import com.example.wardrobe.domain.analytics.repository.AnalyticsBucketRepository;
+import com.example.wardrobe.domain.analytics.repository.AnalyticsIngestCursorRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그 적재 서비스
+ *
+ * 로그 파일에서 마지막으로 읽은 위치 이후에 추가된 줄만 읽어서
+ * 메트릭별 분 단위 버킷(analytics_buckets)에 누적합니다.
+ * 버킷 갱신과 읽기 위치 저장은 하나의 트랜잭션으로 처리됩니다.
+ *
+ * 집계는 이벤트 발생 시각 기준이며, 로그 파일별 워터마크로 늦게 도착한 이벤트를 판단합니다.
+ * 허용 지연(allowed-lateness-ms) 안의 늦은 이벤트는 원래 시간 버킷에 반영되고,
+ * 그보다 늦은 이벤트는 버킷에 반영하지 않고 따로 셉니다.
+ *
+ * 프론트엔드 이벤트는 세션 ID(없으면 요청 ID) 기준으로 세션을 재구성하여 시간대별 세션 통계도 함께 집계합니다.
+ * 버킷에 반영되는 이벤트는 이상 탐지 기준선(EWMA + 요일/시간별 프로필)에도 증분 반영되며,
+ * 기준선은 워터마크로 시간이 확정될 때 갱신됩니다.
+ * 워터마크/세션/이상 탐지 같은 메모리 상태는 트랜잭션이 커밋된 뒤에 반영하므로,
+ * 롤백 후 같은 줄을 다시 읽어도 두 번 세지 않습니다.
+ *
+ * 설정:
+ * - analytics.ingest.interval-ms: 적재 주기 (기본 60초)
+ * - analytics.ingest.max-bytes-per-run: 파일당 1회 최대 읽기 크기 (기본 8MB)
+ * - analytics.watermark.delay-ms: 워터마크 지연 (기본 5분)
+ * - analytics.watermark.allowed-lateness-ms: 허용 지연 (기본 1시간)
+ * - analytics.session.inactivity-gap-ms: 세션 비활동 간격 (기본 30분)
+ * - analytics.session.max-active: 동시에 추적할 최대 세션 수 (기본 100,000)
+ * - analytics.anomaly.alpha / seasonal-alpha / threshold: 이상 탐지 EWMA 가중치와 |z-score| 기준
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsIngestService {
+
+    private final AnalyticsBucketRepository bucketRepository;
+    private final AnalyticsIngestCursorRepository cursorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricRegistry metricRegistry;
+
+    @Value("${analytics.log.path:./logs/application.log}")
+    private String logFilePath;
+
+    @Value("${analytics.log.api.path:./logs/api-requests.log}")
+    private String apiLogFilePath;
+
+    @Value("${analytics.ingest.max-bytes-per-run:8388608}")
+    private int maxBytesPerRun;
+
+    @Value("${analytics.watermark.delay-ms:300000}")
+    private long watermarkDelayMillis;
+
+    @Value("${analytics.watermark.allowed-lateness-ms:3600000}")
+    private long allowedLatenessMillis;
+
+    @Value("${analytics.watermark.max-finalized-buckets:504}")
+    private int maxFinalizedBuckets;
+
+    @Value("${analytics.session.inactivity-gap-ms:1800000}")
+    private long sessionInactivityGapMillis;
+
+    @Value("${analytics.session.max-active:100000}")
+    private int maxActiveSessions;
+
+    @Value("${analytics.session.max-hours:168}")
+    private int maxSessionHours;
+
+    @Value("${analytics.anomaly.alpha:0.1}")
+    private double anomalyAlpha;
+
+    @Value("${analytics.anomaly.seasonal-alpha:0.3}")
+    private double anomalySeasonalAlpha;
+
+    @Value("${analytics.anomaly.threshold:3.0}")
+    private double anomalyThreshold;
+
+    private WatermarkedHourlyCounter eventTimeWindow;
+    private SessionTracker sessionTracker;
+    private HourlyAnomalyDetector anomalyDetector;
+    private final Map<String, TailedFile> tailedFiles = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initEventTimeWindow() {
+        this.eventTimeWindow = new WatermarkedHourlyCounter(
+                watermarkDelayMillis, allowedLatenessMillis, maxFinalizedBuckets);
+        this.sessionTracker = new SessionTracker(
+                sessionInactivityGapMillis, maxActiveSessions, maxSessionHours);
+        this.anomalyDetector = new HourlyAnomalyDetector(
+                anomalyAlpha, anomalySeasonalAlpha, anomalyThreshold);
+    }
+
+    /**
+     * 주기적으로 로그 파일의 새 줄을 적재
+     */
+    @Scheduled(
+            fixedDelayString = "${analytics.ingest.interval-ms:60000}",
+            initialDelayString = "${analytics.ingest.initial-delay-ms:30000}"
+    )
+    public void ingestScheduled() {
+        for (String filePath : new String[]{logFilePath, apiLogFilePath}) {
+            try {
+                int lines = ingest(filePath);
+                if (lines > 0) {
+                    log.debug("Ingested {} lines from {}", lines, filePath);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to ingest log file {}: {}", filePath, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 로그 파일 하나의 새 줄을 분 단위 버킷에 반영
+     *
+     * 완전한 줄(개행으로 끝나는 줄)만 처리하고, 쓰는 중인 마지막 줄은 다음 실행에서 읽습니다.
+     * 한 줄이 max-bytes-per-run보다 길면 그 줄은 건너뛰고 다음 줄부터 읽습니다.
+     *
+     * 파일은 열어 둔 채로 읽기 때문에, 로테이션으로 이름이 바뀌어도 이전 파일을 끝까지 읽은 뒤
+     * 새 파일로 넘어갑니다 (파일 식별자가 바뀌면 로테이션으로 판단).
+     * 파일 크기가 저장된 위치보다 작으면(같은 파일을 비운 경우) 처음부터 읽습니다.
+     *
+     * @param filePath 로그 파일 경로
+     * @return 처리한 줄 수
+     */
+    public int ingest(String filePath) {
+        Path path = Paths.get(filePath);
+        String cursorKey = path.toAbsolutePath().normalize().toString();
+        String currentKey = Files.exists(path) ? fileKey(path) : null;
+
+        int lines = 0;
+        TailedFile tailed = tailedFiles.get(cursorKey);
+        if (tailed != null && (!Files.exists(path) || !Objects.equals(tailed.fileKey(), currentKey))) {
+            // 로테이션: 열어 둔 이전 파일을 끝까지 읽은 뒤 닫음
+            Chunk chunk = ingestChunk(cursorKey, tailed, true);
+            lines += chunk.lines();
+            if (!chunk.exhausted()) {
+                return lines;
+            }
+            tailedFiles.remove(cursorKey);
+            closeQuietly(tailed);
+            log.info("Log file {} rotated, switching to the new file", cursorKey);
+        }
+        if (!Files.exists(path)) {
+            return lines;
+        }
+
+        tailed = tailedFiles.computeIfAbsent(cursorKey, key -> open(path, currentKey));
+        return lines + ingestChunk(cursorKey, tailed, false).lines();
+    }
+
+    /**
+     * 열어 둔 파일에서 한 번에 읽을 만큼 읽어서 반영 (버킷 갱신과 위치 저장은 한 트랜잭션)
+     *
+     * @param rotated 로테이션된 이전 파일이면 true (더 이상 쓰이지 않으므로 개행 없는 마지막 줄도 처리)
+     */
+    private Chunk ingestChunk(String cursorKey, TailedFile tailed, boolean rotated) {
+        PendingEvents pending = new PendingEvents(eventTimeWindow.batch(cursorKey));
+        Chunk result = transactionTemplate.execute(status -> {
+            AnalyticsIngestCursor cursor = cursorRepository.findById(cursorKey)
+                    .orElseGet(() -> cursorRepository.save(new AnalyticsIngestCursor(cursorKey, 0L, tailed.fileKey())));
+            if (cursor.getFileKey() == null) {
+                cursor.identify(tailed.fileKey());
+            } else if (!cursor.getFileKey().equals(tailed.fileKey())) {
+                // 저장된 위치는 이전 파일 기준 (중단된 동안 로테이션됨)
+                cursor.switchTo(tailed.fileKey());
+            }
+
+            try {
+                FileChannel channel = tailed.channel();
+                long size = channel.size();
+                long position = cursor.getPosition();
+                if (position > size) {
+                    log.warn("Log file {} was truncated in place, reading from the beginning", cursorKey);
+                    position = 0L;
+                    cursor.moveTo(0L);
+                }
+                if (position == size) {
+                    return new Chunk(0, true);
+                }
+
+                ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size - position, maxBytesPerRun));
+                int read;
+                do {
+                    read = channel.read(buffer, position + buffer.position());
+                } while (read > 0 && buffer.hasRemaining());
+
+                int length = buffer.position();
+                int end = rotated && position + length == size ? length - 1 : lastNewline(buffer.array(), length);
+                if (end < 0) {
+                    if (length < maxBytesPerRun) {
+                        return new Chunk(0, false); // 쓰는 중인 줄
+                    }
+                    long newline = nextNewline(channel, position + length, size);
+                    if (newline < 0 && !rotated) {
+                        return new Chunk(0, false); // 긴 줄이 아직 끝나지 않음
+                    }
+                    newline = newline < 0 ? size - 1 : newline;
+                    log.warn("Skipped a {}-byte line in {} (max-bytes-per-run {})",
+                            newline - position, cursorKey, maxBytesPerRun);
+                    cursor.moveTo(newline + 1);
+                    return new Chunk(1, newline + 1 == size);
+                }
+
+                String chunk = new String(buffer.array(), 0, end + 1, StandardCharsets.UTF_8);
+                Map<BucketKey, Long> counts = new HashMap<>();
+                int[] lineCount = {0};
+                chunk.lines().forEach(line -> {
+                    lineCount[0]++;
+                    LogParser.ParsedLog parsed = LogParser.parse(line);
+                    if (parsed == null || !parsed.hasTimestamp()) {
+                        return;
+                    }
+                    if (parsed.getLogType() == LogParser.LogType.FRONTEND) {
+                        pending.sessionEvents().add(parsed);
+                    }
+                    LocalDateTime minute = BucketGranularity.MINUTE.truncate(parsed.getTimestamp());
+                    metricRegistry.forEachMatchingMetric(parsed, metric -> {
+                        if (pending.window().offer(metric, parsed.getTimestampMillis())
+                                != WatermarkedHourlyCounter.Admission.DROPPED) {
+                            counts.merge(new BucketKey(metric, minute), 1L, Long::sum);
+                            pending.anomalyEvents().add(new MetricEvent(metric, parsed.getTimestampMillis()));
+                        }
+                    });
+                });
+
+                counts.forEach((key, count) ->
+                        bucketRepository.addCount(key.metric(), BucketGranularity.MINUTE, key.bucketStart(), count));
+                cursor.moveTo(position + end + 1);
+                return new Chunk(lineCount[0], position + end + 1 == size);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // 커밋된 뒤에만 메모리 상태에 반영 (예외로 롤백되면 여기까지 오지 않음)
+        List<WatermarkedHourlyCounter.FinalizedBucket> finalized = pending.window().commit();
+        pending.sessionEvents().forEach(parsed -> sessionTracker.record(parsed.getSessionKey(),
+                parsed.getTimestampMillis(), parsed.getEvent() == LogParser.EventType.PAGE_VIEW));
+        pending.anomalyEvents().forEach(event -> anomalyDetector.increment(event.metric(), event.timestampMillis()));
+        anomalyDetector.closeHours(finalized);
+        return result != null ? result : new Chunk(0, false);
+    }
+
+    /**
+     * 워터마크 상태 조회
+     *
+     * @return 워터마크, 늦은/버려진 이벤트 수, 확정된 시간 버킷
+     */
+    public WatermarkStatusResponse getWatermarkStatus() {
+        long watermark = eventTimeWindow.getWatermark();
+        return new WatermarkStatusResponse(
+                watermark == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(
+                        Math.floorDiv(watermark, 1000L), (int) Math.floorMod(watermark, 1000L) * 1_000_000, ZoneOffset.UTC),
+                eventTimeWindow.getLateCounts(),
+                eventTimeWindow.getDroppedCounts(),
+                eventTimeWindow.getFinalizedBuckets()
+        );
+    }
+
+    /**
+     * 세션 집계 조회
+     *
+     * @return 진행 중 세션 수와 세션 시작 시간대별 세션 수/평균 길이/세션당 페이지 수
+     */
+    public SessionStatsResponse getSessionStats() {
+        return new SessionStatsResponse(
+                sessionTracker.getActiveSessionCount(),
+                sessionTracker.getHourlyStats().stream()
+                        .map(stats -> new SessionStatsResponse.HourlySessions(
+                                stats.hourStart(),
+                                stats.sessions(),
+                                stats.averageDurationSeconds(),
+                                stats.averagePagesPerSession()))
+                        .toList()
+        );
+    }
+
+    /**
+     * 메트릭별 이상 점수 조회
+     *
+     * @return 마지막으로 끝난 시간의 관측값/기대값/z-score (메트릭 이름순)
+     */
+    public List<HourlyAnomalyDetector.AnomalyScore> getAnomalyScores() {
+        return anomalyDetector.getScores();
+    }
+
+    /**
+     * 열어 둔 파일 닫기
+     */
+    @PreDestroy
+    void closeTailedFiles() {
+        tailedFiles.values().forEach(AnalyticsIngestService::closeQuietly);
+        tailedFiles.clear();
+    }
+
+    private static TailedFile open(Path path, String fileKey) {
+        try {
+            return new TailedFile(FileChannel.open(path, StandardOpenOption.READ), fileKey);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(TailedFile tailed) {
+        try {
+            tailed.channel().close();
+        } catch (IOException e) {
+            log.debug("Failed to close log file: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파일 식별자 (Unix에서는 장치/inode, 지원하지 않으면 null)
+     */
+    private static String fileKey(Path path) {
+        try {
+            Object key = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            return key != null ? key.toString() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * from 이후 첫 개행 위치 (없으면 -1)
+     */
+    private static long nextNewline(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(8192);
+        for (long offset = from; offset < size; ) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return offset + i;
+                }
+            }
+            offset += read;
+        }
+        return -1;
+    }
+
+    private static int lastNewline(byte[] bytes, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record BucketKey(String metric, LocalDateTime bucketStart) {
+    }
+
+    /**
+     * 열어 둔 로그 파일과 열 때의 파일 식별자
+     */
+    private record TailedFile(FileChannel channel, String fileKey) {
+    }
+
+    /**
+     * 한 번 읽은 결과
+     *
+     * @param lines 처리한 줄 수
+     * @param exhausted 파일 끝까지 읽었는지
+     */
+    private record Chunk(int lines, boolean exhausted) {
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 메모리 상태에 반영할 이벤트
+     */
+    private record PendingEvents(WatermarkedHourlyCounter.Batch window,
+                                 List<LogParser.ParsedLog> sessionEvents,
+                                 List<MetricEvent> anomalyEvents) {
+
+        PendingEvents(WatermarkedHourlyCounter.Batch window) {
+            this(window, new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    private record MetricEvent(String metric, long timestampMillis) {
+    }
+}
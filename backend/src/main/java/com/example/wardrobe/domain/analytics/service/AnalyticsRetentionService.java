@@ -0,0 +1,141 @@
+package com.example.wardrobe.domain.analytics.service;
+
+import com.example.wardrobe.domain.analytics.entity.AnalyticsBucket;
+import com.example.wardrobe.domain.analytics.entity.BucketGranularity;
+import com.example.wardrobe.domain.analytics.repository.AnalyticsBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분석 데이터 보존/다운샘플링 서비스
+ *
+ * 저장소가 무한히 커지지 않도록 주기적으로 오래된 버킷을 정리합니다.
+ * - 분 단위: minute-days 보다 오래되면 시간 단위로 합산 후 삭제
+ * - 시간 단위: hour-days 보다 오래되면 일 단위로 합산 후 삭제
+ * - 일 단위: day-days 보다 오래되면 삭제 (0이면 영구 보관)
+ *
+ * 한 트랜잭션에서 batch-size 행만 처리하므로 긴 락을 잡지 않고,
+ * 실행당 max-batches 배치까지만 처리해서 밀린 데이터가 많아도 한 번에 몰리지 않습니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsRetentionService {
+
+    private final AnalyticsBucketRepository bucketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.retention.minute-days:7}")
+    private int minuteRetentionDays;
+
+    @Value("${analytics.retention.hour-days:90}")
+    private int hourRetentionDays;
+
+    @Value("${analytics.retention.day-days:730}")
+    private int dayRetentionDays;
+
+    @Value("${analytics.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${analytics.retention.max-batches:100}")
+    private int maxBatches;
+
+    /**
+     * 보존 작업 실행 (기본: 매시 15분)
+     */
+    @Scheduled(cron = "${analytics.retention.cron:0 15 * * * *}")
+    public void runRetention() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int minuteRows = downsample(BucketGranularity.MINUTE, BucketGranularity.HOUR, now.minusDays(minuteRetentionDays));
+        int hourRows = downsample(BucketGranularity.HOUR, BucketGranularity.DAY, now.minusDays(hourRetentionDays));
+        int dayRows = dayRetentionDays > 0 ? purge(BucketGranularity.DAY, now.minusDays(dayRetentionDays)) : 0;
+
+        if (minuteRows + hourRows + dayRows > 0) {
+            log.info("Analytics retention: minute->hour {}, hour->day {}, day purged {}", minuteRows, hourRows, dayRows);
+        }
+    }
+
+    /**
+     * 기준 시각 이전의 source 버킷을 target 단위로 합산하고 삭제
+     *
+     * 기준 시각은 target 단위로 내림해서, target 버킷 하나가 항상 한 번에 완성되도록 합니다.
+     *
+     * @param source 원본 단위
+     * @param target 다운샘플링 단위
+     * @param cutoff 기준 시각
+     * @return 처리한 source 행 수
+     */
+    public int downsample(BucketGranularity source, BucketGranularity target, LocalDateTime cutoff) {
+        LocalDateTime alignedCutoff = target.truncate(cutoff);
+        int processed = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer rows = transactionTemplate.execute(status -> {
+                List<AnalyticsBucket> buckets = bucketRepository.findByGranularityAndBucketStartBeforeOrderByIdAsc(
+                        source, alignedCutoff, PageRequest.of(0, batchSize));
+                if (buckets.isEmpty()) {
+                    return 0;
+                }
+
+                Map<String, Map<LocalDateTime, Long>> rollup = new HashMap<>();
+                for (AnalyticsBucket bucket : buckets) {
+                    rollup.computeIfAbsent(bucket.getMetric(), key -> new HashMap<>())
+                            .merge(target.truncate(bucket.getBucketStart()), bucket.getCount(), Long::sum);
+                }
+                rollup.forEach((metric, starts) -> starts.forEach((start, count) ->
+                        bucketRepository.addCount(metric, target, start, count)));
+
+                bucketRepository.deleteAllInBatch(buckets);
+                return buckets.size();
+            });
+
+            int count = rows != null ? rows : 0;
+            processed += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 기준 시각 이전의 버킷을 배치 단위로 삭제
+     *
+     * @param granularity 버킷 단위
+     * @param cutoff 기준 시각
+     * @return 삭제한 행 수
+     */
+    public int purge(BucketGranularity granularity, LocalDateTime cutoff) {
+        int processed = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer rows = transactionTemplate.execute(status -> {
+                List<AnalyticsBucket> buckets = bucketRepository.findByGranularityAndBucketStartBeforeOrderByIdAsc(
+                        granularity, cutoff, PageRequest.of(0, batchSize));
+                bucketRepository.deleteAllInBatch(buckets);
+                return buckets.size();
+            });
+
+            int count = rows != null ? rows : 0;
+            processed += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+}
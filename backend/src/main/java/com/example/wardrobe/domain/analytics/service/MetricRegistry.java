@@ -0,0 +1,150 @@
+package com.example.wardrobe.domain.analytics.service;
+
+import com.example.wardrobe.common.analytics.MetricMatcher;
+import com.example.wardrobe.common.logging.LogParser;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 메트릭 정의 레지스트리
+ *
+ * analytics.metrics 설정에서 메트릭별 규칙을 읽어 하나의 MetricMatcher로 컴파일합니다.
+ * 설정이 없으면 기본 메트릭(landing, quiz, analysis)을 사용합니다.
+ *
+ * 설정 예시:
+ * <pre>
+ * analytics:
+ *   metrics:
+ *     quiz:
+ *       - log-type: FRONTEND
+ *         events: [QUIZ_COMPLETE]
+ *       - log-type: BACKEND
+ *         path-contains: ["quiz", "complete|result"]
+ * </pre>
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@ConfigurationProperties(prefix = "analytics")
+public class MetricRegistry {
+
+    public static final String METRIC_LANDING = "landing";
+    public static final String METRIC_QUIZ = "quiz";
+    public static final String METRIC_ANALYSIS = "analysis";
+
+    /**
+     * 메트릭 이름별 규칙 목록 (규칙 중 하나만 맞아도 해당 메트릭)
+     */
+    @Getter
+    @Setter
+    private Map<String, List<RuleProperties>> metrics = new LinkedHashMap<>();
+
+    private MetricMatcher matcher;
+
+    /**
+     * 메트릭 규칙 설정
+     */
+    @Getter
+    @Setter
+    public static class RuleProperties {
+        /**
+         * 로그 출처 (생략 시 전체)
+         */
+        private LogParser.LogType logType;
+
+        /**
+         * 이벤트 종류 (생략 시 전체)
+         */
+        private Set<LogParser.EventType> events;
+
+        /**
+         * 경로가 이 값 중 하나와 같으면 해당
+         */
+        private List<String> pathEquals;
+
+        /**
+         * 경로가 모든 항목을 포함하면 해당 (항목 안에서는 '|'로 구분한 키워드 중 하나)
+         */
+        private List<String> pathContains;
+
+        /**
+         * referer에도 경로 조건 적용
+         */
+        private boolean includeReferer;
+    }
+
+    @PostConstruct
+    void compile() {
+        List<MetricMatcher.Rule> rules = new ArrayList<>();
+        if (metrics.isEmpty()) {
+            rules.addAll(defaultRules());
+        } else {
+            metrics.forEach((metric, ruleList) -> ruleList.forEach(rule -> rules.add(new MetricMatcher.Rule(
+                    metric, rule.getLogType(), rule.getEvents(), rule.getPathEquals(), rule.getPathContains(),
+                    rule.isIncludeReferer()))));
+        }
+        this.matcher = MetricMatcher.compile(rules);
+        log.info("Analytics metrics: {}", matcher.getMetricNames());
+    }
+
+    /**
+     * 로그 한 건이 해당하는 메트릭마다 action 실행
+     *
+     * @param log 파싱된 로그
+     * @param action 메트릭 이름을 받는 콜백
+     */
+    public void forEachMatchingMetric(LogParser.ParsedLog log, Consumer<String> action) {
+        matcher.forEachMatch(log, action);
+    }
+
+    /**
+     * 로그 한 건이 특정 메트릭에 해당하는지 확인
+     */
+    public boolean matches(LogParser.ParsedLog log, String metric) {
+        return matcher.matches(log, metric);
+    }
+
+    /**
+     * 정의된 메트릭 이름 (정의 순서)
+     */
+    public List<String> getMetricNames() {
+        return matcher.getMetricNames();
+    }
+
+    /**
+     * 기본 메트릭 정의
+     *
+     * - landing: 프론트엔드 page_view 중 경로나 referer가 "/" / 백엔드 경로가 "/" 이거나 "landing" 포함
+     * - quiz: 프론트엔드 quiz_complete / 백엔드 경로에 "quiz"와 "complete" 또는 "result" 포함
+     * - analysis: 프론트엔드 result_generated / 백엔드 경로에 "result" 또는 "analysis" 포함
+     */
+    static List<MetricMatcher.Rule> defaultRules() {
+        return List.of(
+                new MetricMatcher.Rule(METRIC_LANDING, LogParser.LogType.FRONTEND,
+                        Set.of(LogParser.EventType.PAGE_VIEW), List.of("/"), null, true),
+                new MetricMatcher.Rule(METRIC_LANDING, LogParser.LogType.BACKEND,
+                        null, List.of("/"), List.of("landing"), false),
+                new MetricMatcher.Rule(METRIC_QUIZ, LogParser.LogType.FRONTEND,
+                        Set.of(LogParser.EventType.QUIZ_COMPLETE), null, null, false),
+                new MetricMatcher.Rule(METRIC_QUIZ, LogParser.LogType.BACKEND,
+                        null, null, List.of("quiz", "complete|result"), false),
+                new MetricMatcher.Rule(METRIC_ANALYSIS, LogParser.LogType.FRONTEND,
+                        Set.of(LogParser.EventType.RESULT_GENERATED), null, null, false),
+                new MetricMatcher.Rule(METRIC_ANALYSIS, LogParser.LogType.BACKEND,
+                        null, null, List.of("result|analysis"), false)
+        );
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.wardrobe.domain.auth.controller;
 
 import com.example.wardrobe.domain.auth.dto.LoginRequest;
+import com.example.wardrobe.domain.auth.dto.LogoutRequest;
+import com.example.wardrobe.domain.auth.dto.RefreshTokenRequest;
 import com.example.wardrobe.domain.auth.dto.TokenResponse;
 import com.example.wardrobe.domain.auth.service.AuthService;
+import com.example.wardrobe.domain.auth.service.RefreshTokenService;
+import com.example.wardrobe.security.JwtTokenProvider;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 인증 컨트롤러
  * 
@@ -22,19 +30,70 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 로그인
      * 
      * 이메일과 비밀번호를 검증하고, 성공 시 JWT 토큰을 발급합니다.
+     * 비밀번호 검증이 끝나면 응답합니다 (요청 스레드는 그동안 반환됨).
      * 
      * @param request 로그인 요청 DTO
+     * @param servletRequest 클라이언트 IP 확인용 (프록시 뒤라면 server.forward-headers-strategy 설정 필요)
      * @return 토큰 응답 (Access Token 포함)
      */
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
-        TokenResponse response = authService.login(request);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<TokenResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                                  HttpServletRequest servletRequest) {
+        return authService.login(request, servletRequest.getRemoteAddr()).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Access Token 재발급
+     * 
+     * Refresh Token을 검증하고 새 Access Token과 새 Refresh Token을 발급합니다.
+     * 제출한 Refresh Token은 더 이상 사용할 수 없습니다.
+     * 
+     * @param request 토큰 재발급 요청 DTO
+     * @return 토큰 응답 (Access Token, Refresh Token 포함)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(refreshTokenService.refresh(request.getRefreshToken()));
+    }
+
+    /**
+     * 로그아웃
+     * 
+     * Authorization 헤더의 Access Token을 만료 전에 폐기하고,
+     * 요청 본문에 Refresh Token이 있으면 함께 폐기합니다.
+     * 
+     * @param authorization Authorization 헤더 (Bearer 토큰)
+     * @param request 로그아웃 요청 DTO (선택)
+     * @return 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) LogoutRequest request) {
+        authService.logout(
+                JwtTokenProvider.resolveBearerToken(authorization),
+                request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
     }
-}
 
+    /**
+     * 모든 기기에서 로그아웃
+     * 
+     * 요청한 사용자에게 지금까지 발급된 Access Token과 Refresh Token을 모두 폐기합니다.
+     * 
+     * @param authorization Authorization 헤더 (Bearer 토큰)
+     * @return 204 No Content
+     */
+    @PostMapping("/revoke-all")
+    public ResponseEntity<Void> revokeAll(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        authService.revokeAll(JwtTokenProvider.resolveBearerToken(authorization));
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.wardrobe.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그아웃 요청 DTO
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequest {
+
+    /**
+     * 함께 폐기할 Refresh Token (선택)
+     */
+    private String refreshToken;
+}
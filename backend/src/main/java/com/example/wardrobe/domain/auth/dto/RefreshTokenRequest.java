@@ -0,0 +1,24 @@
+package com.example.wardrobe.domain.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 재발급 요청 DTO
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    /**
+     * Refresh Token
+     */
+    @NotBlank(message = "Refresh Token은 필수입니다.")
+    private String refreshToken;
+}
@@ -15,10 +15,18 @@ public record TokenResponse(
         /**
          * 토큰 타입 (Bearer)
          */
-        String tokenType
+        String tokenType,
+
+        /**
+         * Refresh Token (Access Token 재발급용, 한 번 사용하면 새 토큰으로 교체됨)
+         */
+        String refreshToken
 ) {
     public TokenResponse(String accessToken) {
-        this(accessToken, "Bearer");
+        this(accessToken, "Bearer", null);
     }
-}
 
+    public TokenResponse(String accessToken, String refreshToken) {
+        this(accessToken, "Bearer", refreshToken);
+    }
+}
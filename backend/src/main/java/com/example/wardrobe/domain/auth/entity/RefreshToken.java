@@ -0,0 +1,112 @@
+package com.example.wardrobe.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token 엔티티
+ * 
+ * 클라이언트에는 불투명한 난수 토큰만 전달하고, DB에는 SHA-256 해시만 저장합니다.
+ * 토큰은 한 번 사용하면(재발급) 사용 처리되고 같은 계열(family)의 새 토큰으로 교체됩니다.
+ * 사용된 토큰이 다시 제출되면 탈취로 보고 같은 계열의 토큰을 모두 폐기합니다.
+ * 
+ * 사용된 토큰도 재사용 탐지를 위해 만료 시각까지 보관하며, 만료된 행은 배치로 삭제됩니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Entity
+@Table(
+        name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+
+    /**
+     * Refresh Token ID (PK)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 토큰 SHA-256 해시 (Base64URL)
+     */
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    /**
+     * 토큰 계열 ID (로그인 한 번에서 이어지는 재발급 체인)
+     */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    /**
+     * 사용자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 발급 시점의 사용자 토큰 버전 (버전이 바뀌면 이 토큰도 무효)
+     */
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion;
+
+    /**
+     * 만료 시각
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 사용(재발급) 시각 (사용 전이면 null)
+     */
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    /**
+     * 폐기 여부 (재사용 탐지, 로그아웃 등)
+     */
+    @Column(nullable = false)
+    private boolean revoked;
+
+    /**
+     * RefreshToken 엔티티 생성자
+     * 
+     * @param tokenHash 토큰 해시
+     * @param familyId 토큰 계열 ID
+     * @param userId 사용자 ID
+     * @param tokenVersion 사용자 토큰 버전
+     * @param expiresAt 만료 시각
+     */
+    @Builder
+    public RefreshToken(String tokenHash, String familyId, Long userId, long tokenVersion, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 만료 여부
+     * 
+     * @param now 현재 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.wardrobe.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 Access Token 엔티티
+ * 
+ * 만료 전에 폐기(로그아웃)된 JWT의 토큰 ID(jti)를 저장합니다.
+ * 토큰이 만료되면 더 이상 확인할 필요가 없으므로 만료 시각이 지난 행은 삭제됩니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Entity
+@Table(
+        name = "revoked_tokens",
+        indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+
+    /**
+     * 토큰 ID (jti 클레임)
+     */
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    /**
+     * 사용자 ID
+     */
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 토큰 만료 시각 (이후 삭제 대상)
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * RevokedToken 엔티티 생성자
+     * 
+     * @param tokenId 토큰 ID (jti)
+     * @param userId 사용자 ID
+     * @param expiresAt 토큰 만료 시각
+     */
+    public RevokedToken(String tokenId, Long userId, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -4,6 +4,7 @@ package com.example.wardrobe.domain.auth.exception;
  * 잘못된 인증 정보 예외
  * 
  * 로그인 시 이메일 또는 비밀번호가 일치하지 않을 때 발생하는 예외입니다.
+ * 무차별 대입 공격에서 가장 많이 발생하는 예외라 스택 트레이스를 채우지 않습니다.
  * 
  * @author Closet Canvas Team
  * @since 1.0
@@ -14,7 +15,7 @@ public class InvalidCredentialsException extends RuntimeException {
      * 생성자
      */
     public InvalidCredentialsException() {
-        super("이메일 또는 비밀번호가 올바르지 않습니다.");
+        super("이메일 또는 비밀번호가 올바르지 않습니다.", null, false, false);
     }
 }
 
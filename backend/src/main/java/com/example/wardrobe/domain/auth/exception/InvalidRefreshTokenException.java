@@ -0,0 +1,19 @@
+package com.example.wardrobe.domain.auth.exception;
+
+/**
+ * 유효하지 않은 Refresh Token 예외
+ * 
+ * Refresh Token이 존재하지 않거나, 만료/폐기되었거나, 이미 사용된 경우 발생하는 예외입니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    /**
+     * 생성자
+     */
+    public InvalidRefreshTokenException() {
+        super("유효하지 않은 Refresh Token입니다. 다시 로그인해주세요.");
+    }
+}
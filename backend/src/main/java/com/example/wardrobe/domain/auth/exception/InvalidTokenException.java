@@ -0,0 +1,19 @@
+package com.example.wardrobe.domain.auth.exception;
+
+/**
+ * 유효하지 않은 Access Token 예외
+ * 
+ * 토큰 폐기 요청 등에서 Access Token이 없거나, 만료/폐기되었을 때 발생하는 예외입니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    /**
+     * 생성자
+     */
+    public InvalidTokenException() {
+        super("유효하지 않은 토큰입니다.");
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.wardrobe.domain.auth.exception;
+
+import lombok.Getter;
+
+/**
+ * 로그인 시도 횟수 초과 예외
+ * 
+ * 같은 이메일 또는 같은 IP에서 허용된 횟수보다 많이 로그인을 시도했을 때 발생하는 예외입니다.
+ * 공격 트래픽에서 대량으로 발생하므로 스택 트레이스를 만들지 않습니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Getter
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    /**
+     * 다시 시도할 수 있을 때까지 남은 시간 (초)
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * 생성자
+     * 
+     * @param retryAfterSeconds 다시 시도할 수 있을 때까지 남은 시간 (초)
+     */
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.wardrobe.domain.auth.repository;
+
+import com.example.wardrobe.domain.auth.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Refresh Token Repository 인터페이스
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 해시로 조회 (유니크 인덱스)
+     * 
+     * @param tokenHash 토큰 해시
+     * @return 토큰이 존재하면 Optional<RefreshToken>, 없으면 Optional.empty()
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 아직 사용/폐기되지 않은 토큰을 사용 처리
+     * 
+     * 같은 토큰으로 동시에 재발급을 요청해도 한 요청만 성공하도록 조건부 UPDATE로 처리합니다.
+     * 
+     * @param id 토큰 ID
+     * @param usedAt 사용 시각
+     * @return 갱신된 행 수 (0이면 이미 사용되었거나 폐기된 토큰)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken t set t.usedAt = :usedAt where t.id = :id and t.usedAt is null and t.revoked = false")
+    int markUsed(@Param("id") Long id, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * 토큰 계열 전체 폐기
+     * 
+     * @param familyId 토큰 계열 ID
+     * @return 폐기된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId and t.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * 만료된 토큰 ID를 한 배치만큼 조회
+     * 
+     * @param cutoff 기준 시각 (이 시각 이전에 만료된 토큰만 조회)
+     * @param pageable 배치 크기
+     * @return 토큰 ID 목록 (ID 오름차순)
+     */
+    @Query("select t.id from RefreshToken t where t.expiresAt < :cutoff order by t.id asc")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package com.example.wardrobe.domain.auth.repository;
+
+import com.example.wardrobe.domain.auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기된 Access Token Repository 인터페이스
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 ID 조회 (Bloom 필터 재구성용)
+     * 
+     * @param now 현재 시각
+     * @return 토큰 ID 목록
+     */
+    @Query("select r.tokenId from RevokedToken r where r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 폐기 토큰 삭제
+     * 
+     * 토큰 유효기간(기본 30분)만큼만 보관되므로 한 번의 DELETE로 처리합니다.
+     * 
+     * @param cutoff 기준 시각 (이 시각 이전에 만료된 행 삭제)
+     * @return 삭제한 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
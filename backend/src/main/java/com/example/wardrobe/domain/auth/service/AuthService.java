@@ -3,19 +3,30 @@ package com.example.wardrobe.domain.auth.service;
 import com.example.wardrobe.domain.auth.dto.LoginRequest;
 import com.example.wardrobe.domain.auth.dto.TokenResponse;
 import com.example.wardrobe.domain.auth.exception.InvalidCredentialsException;
+import com.example.wardrobe.domain.auth.exception.InvalidTokenException;
+import com.example.wardrobe.domain.auth.exception.TooManyLoginAttemptsException;
 import com.example.wardrobe.domain.user.entity.User;
 import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.example.wardrobe.domain.user.service.UserService;
 import com.example.wardrobe.security.JwtTokenProvider;
+import com.example.wardrobe.security.PasswordHasher;
+import com.example.wardrobe.security.PasswordHashingBusyException;
+import com.example.wardrobe.security.TokenRevocationChecker;
+import com.example.wardrobe.security.TokenVersionChecker;
+import com.example.wardrobe.security.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 인증 서비스
  * 
- * 로그인 및 JWT 토큰 발급을 담당합니다.
+ * 로그인 및 JWT 토큰(Access Token + Refresh Token) 발급, 로그아웃/토큰 폐기를 담당합니다.
+ * 로그인에 성공한 사용자의 비밀번호 해시가 현재 BCrypt 설정과 다르면 다시 해싱하여 저장합니다.
  * 
  * @author Closet Canvas Team
  * @since 1.0
@@ -27,24 +38,41 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserService userService;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginRateLimiter loginRateLimiter;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationChecker tokenRevocationChecker;
+    private final TokenVersionChecker tokenVersionChecker;
 
     /**
      * 로그인 및 JWT 토큰 발급
      * 
      * 이메일과 비밀번호를 검증하고, 성공 시 JWT 토큰을 발급합니다.
+     * 사용자 조회는 호출 스레드에서 하고, 비밀번호 검증과 토큰 발급은 비밀번호 해싱 스레드에서 이어서 실행합니다.
+     * 사용자 조회 전에 IP/이메일별 시도 횟수를 먼저 확인합니다.
+     * 
+     * 가입 직후의 로그인도 성공해야 하므로 사용자 조회는 읽기 전용이 아닌 트랜잭션으로 해서
+     * 복제본(복제 지연이 있을 수 있음)이 아니라 primary에서 읽습니다.
+     * 2차 캐시에 남은 이전 비밀번호 해시로 검증하지 않도록 캐시도 거치지 않습니다.
      * 
      * @param request 로그인 요청 DTO
-     * @return 토큰 응답 DTO
-     * @throws InvalidCredentialsException 이메일 또는 비밀번호가 올바르지 않을 때
+     * @param clientIp 클라이언트 IP (시도 횟수 제한용, null이면 IP 제한 생략)
+     * @return 토큰 응답 DTO (비밀번호가 틀리면 InvalidCredentialsException으로 완료)
+     * @throws TooManyLoginAttemptsException 시도 횟수 한도를 넘었을 때
+     * @throws InvalidCredentialsException 이메일이 존재하지 않을 때
+     * @throws PasswordHashingBusyException 비밀번호 해싱 대기열이 가득 찼을 때
      */
     @Transactional
-    public TokenResponse login(LoginRequest request) {
+    public CompletableFuture<TokenResponse> login(LoginRequest request, String clientIp) {
         log.info("🔐 [로그인] 로그인 시도 - 이메일: {}", request.getEmail());
 
-        // 사용자 조회
-        User user = userRepository.findByEmail(request.getEmail())
+        // 시도 횟수 제한 (DB 조회와 BCrypt 전에 확인)
+        loginRateLimiter.acquire(request.getEmail(), clientIp);
+
+        // 사용자 조회 (비밀번호 해시는 2차 캐시가 아니라 DB에서 읽음)
+        User user = userRepository.findForLoginByEmail(request.getEmail())
                 .orElseThrow(() -> {
                     log.warn("❌ [로그인] 실패 - 이메일을 찾을 수 없습니다: {}", request.getEmail());
                     return new InvalidCredentialsException();
@@ -52,26 +80,99 @@ public class AuthService {
 
         log.info("✅ [로그인] 사용자 찾기 성공 - ID: {}, 이메일: {}", user.getId(), user.getEmail());
 
-        // 비밀번호 검증
-        boolean passwordMatches = passwordEncoder.matches(request.getPassword(), user.getPassword());
-        
         if (user.getPassword() == null) {
             log.error("❌ [로그인] 실패 - 사용자 비밀번호가 null입니다. ID: {}", user.getId());
             throw new InvalidCredentialsException();
         }
 
-        if (!passwordMatches) {
-            log.warn("❌ [로그인] 실패 - 비밀번호가 일치하지 않습니다. 이메일: {}", request.getEmail());
-            throw new InvalidCredentialsException();
+        // 비밀번호 검증 (해싱 스레드)
+        return passwordHasher.matches(request.getPassword(), user.getPassword())
+                .thenApply(passwordMatches -> {
+                    if (!passwordMatches) {
+                        log.warn("❌ [로그인] 실패 - 비밀번호가 일치하지 않습니다. 이메일: {}", request.getEmail());
+                        throw new InvalidCredentialsException();
+                    }
+
+                    log.info("✅ [로그인] 비밀번호 검증 성공");
+                    rehashIfNeeded(user, request.getPassword());
+
+                    // JWT 토큰 생성
+                    String accessToken = jwtTokenProvider.generateToken(
+                            user.getId(), user.getEmail(), List.of(user.getRole().getAuthority()),
+                            user.getTokenVersion());
+                    String refreshToken = refreshTokenService.issue(user.getId(), user.getTokenVersion());
+                    log.info("✅ [로그인] JWT 토큰 생성 완료 - 이메일: {}", user.getEmail());
+
+                    return new TokenResponse(accessToken, refreshToken);
+                });
+    }
+
+    /**
+     * 저장된 해시의 알고리즘/cost가 현재 설정보다 약하면 검증에 성공한 평문으로 다시 해싱하여 저장
+     * 
+     * 로그인 응답을 기다리게 하지 않도록 해싱 스레드에 넘기기만 하고 결과는 기다리지 않습니다.
+     * 재해싱은 사용자당 한 번만 일어나며, 해싱 대기열이 가득 찼거나 저장에 실패하면
+     * 로그인은 그대로 진행하고 다음 로그인에서 다시 시도합니다.
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            passwordHasher.encode(rawPassword)
+                    .thenAccept(rehashed -> {
+                        if (userService.rehashPassword(user.getId(), user.getPassword(), rehashed)) {
+                            log.info("🔁 [로그인] 비밀번호 재해싱 완료 - ID: {}", user.getId());
+                        }
+                    })
+                    .exceptionally(ex -> {
+                        log.warn("[로그인] 비밀번호 재해싱 실패 - ID: {}, 원인: {}", user.getId(), ex.getMessage());
+                        return null;
+                    });
+        } catch (PasswordHashingBusyException e) {
+            log.debug("[로그인] 해싱 대기열이 가득 차서 재해싱을 다음 로그인으로 미룸 - ID: {}", user.getId());
         }
+    }
 
-        log.info("✅ [로그인] 비밀번호 검증 성공");
+    /**
+     * 로그아웃
+     * 
+     * Access Token을 만료 전에 폐기하고, Refresh Token이 있으면 그 토큰 계열도 폐기합니다.
+     * 이미 유효하지 않은 토큰이면 아무것도 하지 않습니다.
+     * 
+     * @param accessToken Access Token (없으면 null)
+     * @param refreshToken Refresh Token (없으면 null)
+     */
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        VerifiedToken verified = jwtTokenProvider.verify(accessToken);
+        if (verified != null && verified.tokenId() != null) {
+            tokenRevocationChecker.revoke(verified.tokenId(), verified.userId(), verified.expiresAt());
+            log.info("👋 [로그아웃] Access Token 폐기 - 사용자 ID: {}", verified.userId());
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
 
-        // JWT 토큰 생성
-        String accessToken = jwtTokenProvider.generateToken(user.getEmail());
-        log.info("✅ [로그인] JWT 토큰 생성 완료 - 이메일: {}", user.getEmail());
+    /**
+     * 사용자의 모든 토큰 폐기
+     * 
+     * 토큰 버전을 올려서 지금까지 발급된 Access Token과 Refresh Token을 모두 무효화합니다.
+     * 
+     * @param accessToken 요청한 사용자의 Access Token
+     * @throws InvalidTokenException 토큰이 없거나 유효하지 않은 경우
+     */
+    @Transactional
+    public void revokeAll(String accessToken) {
+        VerifiedToken verified = jwtTokenProvider.verify(accessToken);
+        if (verified == null || !verified.hasPrincipalClaims()
+                || (verified.tokenId() != null && tokenRevocationChecker.isRevoked(verified.tokenId()))
+                || !tokenVersionChecker.isCurrent(verified.userId(), verified.tokenVersion())) {
+            throw new InvalidTokenException();
+        }
 
-        return new TokenResponse(accessToken);
+        userService.revokeAllTokens(verified.userId());
+        log.info("🔒 [토큰 폐기] 모든 토큰 폐기 - 사용자 ID: {}", verified.userId());
     }
 }
-
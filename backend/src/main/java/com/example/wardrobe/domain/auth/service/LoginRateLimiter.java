@@ -0,0 +1,113 @@
+package com.example.wardrobe.domain.auth.service;
+
+import com.example.wardrobe.domain.auth.exception.TooManyLoginAttemptsException;
+import com.example.wardrobe.security.StripedTokenBucketLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 제한기
+ * 
+ * 비밀번호 검증(BCrypt) 전에 클라이언트 IP별, 이메일별 토큰 버킷을 확인해서
+ * 한도를 넘은 시도는 DB 조회나 해싱 없이 429로 거절합니다.
+ * 버킷은 메모리에만 있으므로 제한은 노드별로 적용됩니다.
+ * 
+ * 설정:
+ * - auth.rate-limit.enabled: 사용 여부 (기본 true)
+ * - auth.rate-limit.ip.capacity / ip.refill-interval: IP별 연속 허용 횟수와 1회 충전 간격 (기본 30회, 2초)
+ * - auth.rate-limit.email.capacity / email.refill-interval: 이메일별 (기본 10회, 12초)
+ * - auth.rate-limit.max-keys: 추적할 최대 키 수 (기본 200,000, 가득 차면 유휴 버킷을 정리하고 자리가 없으면 새 키는 거절)
+ * - auth.rate-limit.evict-interval-ms: 가득 찬 버킷 정리 주기 (기본 60초)
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final boolean enabled;
+    private final StripedTokenBucketLimiter ipBuckets;
+    private final StripedTokenBucketLimiter emailBuckets;
+    private final Counter ipRejected;
+    private final Counter emailRejected;
+
+    /**
+     * 생성자
+     */
+    public LoginRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${auth.rate-limit.ip.refill-interval:2s}") Duration ipRefillInterval,
+            @Value("${auth.rate-limit.email.capacity:10}") int emailCapacity,
+            @Value("${auth.rate-limit.email.refill-interval:12s}") Duration emailRefillInterval,
+            @Value("${auth.rate-limit.max-keys:200000}") int maxKeys) {
+        this.enabled = enabled;
+        int maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.ipBuckets = new StripedTokenBucketLimiter(
+                ipCapacity, ipRefillInterval.toNanos(), STRIPES, maxKeysPerStripe, System::nanoTime);
+        this.emailBuckets = new StripedTokenBucketLimiter(
+                emailCapacity, emailRefillInterval.toNanos(), STRIPES, maxKeysPerStripe, System::nanoTime);
+
+        this.ipRejected = Counter.builder("auth.login.rate-limited").tag("key", "ip").register(meterRegistry);
+        this.emailRejected = Counter.builder("auth.login.rate-limited").tag("key", "email").register(meterRegistry);
+        Gauge.builder("auth.login.rate-limit.keys", this, limiter -> limiter.ipBuckets.size() + limiter.emailBuckets.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 1회 허용 확인
+     * 
+     * IP 버킷을 먼저 확인하고, 통과하면 이메일 버킷을 확인합니다.
+     * 
+     * @param email 로그인 이메일
+     * @param clientIp 클라이언트 IP (null이면 IP 제한 생략)
+     * @throws TooManyLoginAttemptsException 한도를 넘은 경우
+     */
+    public void acquire(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        if (clientIp != null) {
+            long wait = ipBuckets.tryAcquire(clientIp);
+            if (wait > 0) {
+                ipRejected.increment();
+                throw new TooManyLoginAttemptsException(toRetryAfterSeconds(wait));
+            }
+        }
+        if (email != null) {
+            long wait = emailBuckets.tryAcquire(email.toLowerCase(Locale.ROOT));
+            if (wait > 0) {
+                emailRejected.increment();
+                throw new TooManyLoginAttemptsException(toRetryAfterSeconds(wait));
+            }
+        }
+    }
+
+    /**
+     * 가득 찬(유휴) 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${auth.rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        int removed = ipBuckets.evictIdle() + emailBuckets.evictIdle();
+        if (removed > 0) {
+            log.debug("Evicted {} idle login rate-limit buckets", removed);
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
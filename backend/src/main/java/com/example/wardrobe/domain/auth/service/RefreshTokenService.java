@@ -0,0 +1,191 @@
+package com.example.wardrobe.domain.auth.service;
+
+import com.example.wardrobe.domain.auth.dto.TokenResponse;
+import com.example.wardrobe.domain.auth.entity.RefreshToken;
+import com.example.wardrobe.domain.auth.exception.InvalidRefreshTokenException;
+import com.example.wardrobe.domain.auth.repository.RefreshTokenRepository;
+import com.example.wardrobe.domain.user.dto.CachedUser;
+import com.example.wardrobe.domain.user.service.UserCache;
+import com.example.wardrobe.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Refresh Token 서비스
+ * 
+ * 로그인 시 Refresh Token을 발급하고, Refresh Token으로 Access Token을 재발급합니다.
+ * 재발급은 토큰 해시 인덱스 조회 한 번과 JWT 서명(HMAC) 한 번으로 끝나며 비밀번호 해싱을 하지 않습니다.
+ * 
+ * - 토큰은 32바이트 난수(Base64URL)이고, DB에는 SHA-256 해시만 저장합니다.
+ * - 재발급할 때마다 기존 토큰은 사용 처리되고 같은 계열의 새 토큰이 발급됩니다 (rotation).
+ * - 이미 사용된 토큰이 다시 제출되면 탈취로 보고 계열 전체를 폐기합니다.
+ * - 사용자 토큰 버전이 바뀌었으면(비밀번호 변경 등) 계열 전체를 폐기합니다.
+ * - 만료된 행은 주기적으로 배치 삭제합니다.
+ * 
+ * 설정:
+ * - jwt.refresh.expiration: Refresh Token 유효기간 (초, 기본 14일)
+ * - jwt.refresh.cleanup.cron / batch-size / max-batches: 만료 토큰 정리 주기와 배치 크기
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserCache userCache;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jwt.refresh.expiration:1209600}")
+    private long refreshTokenValiditySeconds;
+
+    @Value("${jwt.refresh.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${jwt.refresh.cleanup.max-batches:100}")
+    private int maxBatches;
+
+    /**
+     * 새 토큰 계열로 Refresh Token 발급 (로그인 시)
+     * 
+     * @param userId 사용자 ID
+     * @param tokenVersion 사용자 토큰 버전
+     * @return Refresh Token (평문, 클라이언트에만 전달)
+     */
+    @Transactional
+    public String issue(Long userId, long tokenVersion) {
+        return issue(userId, tokenVersion, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Refresh Token으로 Access Token 재발급
+     * 
+     * 제출된 토큰은 사용 처리되고 새 Refresh Token이 함께 발급됩니다.
+     * 재사용이 감지되어 계열을 폐기한 경우에도 폐기는 커밋됩니다.
+     * 
+     * @param rawToken Refresh Token
+     * @return 새 Access Token과 새 Refresh Token
+     * @throws InvalidRefreshTokenException 토큰이 없거나 만료/폐기/재사용된 경우
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public TokenResponse refresh(String rawToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        if (token.isRevoked() || token.isExpired(now)) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        // 이미 사용된 토큰이면 탈취된 것으로 보고 계열 전체 폐기 (동시 재발급도 한 요청만 통과)
+        if (token.getUsedAt() != null || refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId());
+            log.warn("⚠️ [토큰 재발급] 사용된 Refresh Token 재사용 감지 - 사용자 ID: {}, 폐기된 토큰: {}",
+                    token.getUserId(), revoked);
+            throw new InvalidRefreshTokenException();
+        }
+
+        CachedUser user = userCache.findById(token.getUserId()).orElse(null);
+        if (user == null || user.tokenVersion() != token.getTokenVersion()) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+            throw new InvalidRefreshTokenException();
+        }
+
+        String accessToken = jwtTokenProvider.generateToken(
+                user.id(), user.email(), List.of(user.role().getAuthority()), user.tokenVersion());
+        String refreshToken = issue(user.id(), user.tokenVersion(), token.getFamilyId());
+        return new TokenResponse(accessToken, refreshToken);
+    }
+
+    /**
+     * Refresh Token 계열 폐기 (로그아웃)
+     * 
+     * @param rawToken Refresh Token (없는 토큰이면 무시)
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * 만료된 Refresh Token 정리 (기본: 매시 30분)
+     */
+    @Scheduled(cron = "${jwt.refresh.cleanup.cron:0 30 * * * *}")
+    public void purgeExpiredScheduled() {
+        int purged = purgeExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    /**
+     * 기준 시각 이전에 만료된 Refresh Token을 배치 단위로 삭제
+     * 
+     * @param cutoff 기준 시각
+     * @return 삭제한 행 수
+     */
+    public int purgeExpired(LocalDateTime cutoff) {
+        int processed = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer rows = transactionTemplate.execute(status -> {
+                List<Long> ids = refreshTokenRepository.findExpiredIds(cutoff, PageRequest.of(0, batchSize));
+                refreshTokenRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            });
+
+            int count = rows != null ? rows : 0;
+            processed += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    private String issue(Long userId, long tokenVersion, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .userId(userId)
+                .tokenVersion(tokenVersion)
+                .expiresAt(LocalDateTime.now().plusSeconds(refreshTokenValiditySeconds))
+                .build());
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
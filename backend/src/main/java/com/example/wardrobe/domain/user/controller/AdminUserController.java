@@ -0,0 +1,72 @@
+package com.example.wardrobe.domain.user.controller;
+
+import com.example.wardrobe.domain.user.dto.UserDirectoryPage;
+import com.example.wardrobe.domain.user.dto.UserImportResult;
+import com.example.wardrobe.domain.user.service.UserDirectoryService;
+import com.example.wardrobe.domain.user.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 관리자용 사용자 컨트롤러
+ * 
+ * 관리자 권한(ADMIN)이 있는 요청만 허용됩니다 (SecurityConfig 참고).
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@RestController
+@RequestMapping(value = "/api/v1/admin/users", produces = "application/json;charset=UTF-8")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final UserImportService userImportService;
+    private final UserDirectoryService userDirectoryService;
+
+    /**
+     * 사용자 목록 조회 (키셋 페이지네이션)
+     * 
+     * GET /api/v1/admin/users?email=prefix&cursor=...&size=20
+     * 조건이 없으면 가입일 최신순, email 또는 nickname 접두어를 주면 해당 값 순서로 반환합니다.
+     * 다음 페이지는 응답의 nextCursor를 같은 조건과 함께 cursor로 넘겨 조회합니다.
+     * 
+     * @param email 이메일 접두어 (선택)
+     * @param nickname 닉네임 접두어 (선택, email과 함께 사용할 수 없음)
+     * @param cursor 다음 페이지 커서 (선택)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 사용자 목록 페이지
+     */
+    @GetMapping
+    public ResponseEntity<UserDirectoryPage> listUsers(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String nickname,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userDirectoryService.list(email, nickname, cursor, size));
+    }
+
+    /**
+     * 사용자 대량 가져오기
+     * 
+     * POST /api/v1/admin/users/import
+     * 본문은 한 줄에 사용자 하나씩인 NDJSON입니다: {"email":"a@b.com","password":"password123","nickname":"닉네임"}
+     * 본문 전체를 메모리에 올리지 않고 스트림으로 읽으며 배치 단위로 저장합니다.
+     * 
+     * @param body 요청 본문 스트림
+     * @return 가져오기 결과 (저장/중복/잘못된/실패한 행 수)
+     * @throws IOException 본문을 읽을 수 없는 경우
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<UserImportResult> importUsers(InputStream body) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(body));
+    }
+}
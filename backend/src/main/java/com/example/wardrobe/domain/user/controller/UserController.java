@@ -5,6 +5,7 @@ import com.example.wardrobe.domain.user.dto.UpdateProfileRequest;
 import com.example.wardrobe.domain.user.dto.UserProfileResponse;
 import com.example.wardrobe.domain.user.entity.User;
 import com.example.wardrobe.domain.user.service.UserService;
+import com.example.wardrobe.security.AuthenticatedUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -13,6 +14,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 사용자 컨트롤러
  * 
@@ -32,26 +35,21 @@ public class UserController {
     /**
      * 회원가입
      * 
+     * 비밀번호 암호화가 끝나면 응답합니다 (요청 스레드는 그동안 반환됨).
+     * 
      * @param request 회원가입 요청 DTO
      * @return 생성된 사용자 프로필 응답
      */
     @PostMapping("/signup")
-    public ResponseEntity<UserProfileResponse> signup(@Valid @RequestBody SignupRequest request) {
-        User user = userService.signup(
+    public CompletableFuture<ResponseEntity<UserProfileResponse>> signup(@Valid @RequestBody SignupRequest request) {
+        return userService.signup(
                 request.getEmail(),
                 request.getPassword(),
                 request.getNickname()
-        );
-
-        UserProfileResponse response = new UserProfileResponse(
-                user.getId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getProfileImageUrl(),
-                user.getCreatedAt()
-        );
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        ).thenApply(user -> {
+            // 방금 저장한 엔티티가 있으므로 다시 조회하지 않음
+            return ResponseEntity.status(HttpStatus.CREATED).body(UserProfileResponse.from(user));
+        });
     }
 
     /**
@@ -61,20 +59,13 @@ public class UserController {
      */
     @GetMapping("/me")
     public ResponseEntity<UserProfileResponse> getCurrentUserProfile() {
-        // SecurityContext에서 현재 인증된 사용자 이메일 가져오기
+        // SecurityContext에서 현재 인증된 사용자 가져오기
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
 
-        // 이메일로 사용자 조회
-        User user = userService.getUserByEmail(email);
-
-        UserProfileResponse response = new UserProfileResponse(
-                user.getId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getProfileImageUrl(),
-                user.getCreatedAt()
-        );
+        // 토큰 클레임에 사용자 ID가 있으면 PK로, 아니면 이메일로 프로필만 조회
+        UserProfileResponse response = authentication.getPrincipal() instanceof AuthenticatedUser principal
+                ? userService.getProfileById(principal.getUserId())
+                : userService.getProfileByEmail(authentication.getName());
 
         return ResponseEntity.ok(response);
     }
@@ -87,17 +78,7 @@ public class UserController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<UserProfileResponse> getUserProfile(@PathVariable Long id) {
-        User user = userService.getUserById(id);
-
-        UserProfileResponse response = new UserProfileResponse(
-                user.getId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getProfileImageUrl(),
-                user.getCreatedAt()
-        );
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(userService.getProfileById(id));
     }
 
     /**
@@ -117,15 +98,7 @@ public class UserController {
                 request.getProfileImageUrl()
         );
 
-        UserProfileResponse response = new UserProfileResponse(
-                user.getId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getProfileImageUrl(),
-                user.getCreatedAt()
-        );
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(UserProfileResponse.from(user));
     }
 }
 
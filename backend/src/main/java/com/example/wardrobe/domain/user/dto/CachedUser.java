@@ -0,0 +1,57 @@
+package com.example.wardrobe.domain.user.dto;
+
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.entity.UserRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 캐시 항목
+ * 
+ * UserCache에 저장되는 불변 사용자 정보입니다. 2차 캐시를 거쳐 조회한 User 엔티티에서 만듭니다.
+ * 여러 요청 스레드가 같은 인스턴스를 공유하므로 엔티티 대신 이 레코드를 저장하며,
+ * 비밀번호 해시는 담지 않습니다 (비밀번호 확인은 항상 DB에서 조회한 엔티티로 합니다).
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public record CachedUser(
+        Long id,
+        String email,
+        String nickname,
+        String profileImageUrl,
+        AuthProvider provider,
+        UserRole role,
+        long tokenVersion,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * User 엔티티로부터 캐시 항목 생성
+     * 
+     * @param user User 엔티티
+     * @return 캐시 항목 (비밀번호 제외)
+     */
+    public static CachedUser from(User user) {
+        return new CachedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getProfileImageUrl(),
+                user.getProvider(),
+                user.getRole(),
+                user.getTokenVersion(),
+                user.getCreatedAt()
+        );
+    }
+
+    /**
+     * 프로필 응답으로 변환
+     * 
+     * @return 프로필 응답
+     */
+    public UserProfileResponse toProfile() {
+        return new UserProfileResponse(id, email, nickname, profileImageUrl, createdAt);
+    }
+}
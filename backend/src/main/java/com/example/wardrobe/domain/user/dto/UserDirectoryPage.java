@@ -0,0 +1,22 @@
+package com.example.wardrobe.domain.user.dto;
+
+import java.util.List;
+
+/**
+ * 관리자 사용자 목록 페이지 DTO
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public record UserDirectoryPage(
+        /**
+         * 이번 페이지의 사용자 프로필
+         */
+        List<UserProfileResponse> users,
+
+        /**
+         * 다음 페이지 커서 (마지막 페이지면 null)
+         */
+        String nextCursor
+) {
+}
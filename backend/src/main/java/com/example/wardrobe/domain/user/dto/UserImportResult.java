@@ -0,0 +1,30 @@
+package com.example.wardrobe.domain.user.dto;
+
+/**
+ * 사용자 대량 가져오기 결과 DTO
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public record UserImportResult(
+        /**
+         * 새로 저장한 사용자 수
+         */
+        long imported,
+
+        /**
+         * 이미 가입된(또는 같은 파일에서 중복된) 이메일이라 건너뛴 행 수
+         */
+        long duplicates,
+
+        /**
+         * 형식이 잘못되어 건너뛴 행 수
+         */
+        long invalid,
+
+        /**
+         * 비밀번호 해싱 등 처리 중 오류로 저장하지 못한 행 수
+         */
+        long failed
+) {
+}
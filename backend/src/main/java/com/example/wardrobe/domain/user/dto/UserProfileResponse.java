@@ -1,10 +1,14 @@
 package com.example.wardrobe.domain.user.dto;
 
+import com.example.wardrobe.domain.user.entity.User;
+
 import java.time.LocalDateTime;
 
 /**
  * 사용자 프로필 응답 DTO
  * 
+ * 단건 조회는 사용자 캐시 항목(CachedUser)에서, 목록 조회는 UserRepository의 프로젝션 쿼리로 바로 만듭니다.
+ * 
  * @author Closet Canvas Team
  * @since 1.0
  */
@@ -15,5 +19,21 @@ public record UserProfileResponse(
         String profileImageUrl,
         LocalDateTime createdAt
 ) {
+
+    /**
+     * 엔티티에서 생성 (저장/수정 직후처럼 이미 엔티티가 있는 경우)
+     * 
+     * @param user 사용자 엔티티
+     * @return 프로필 응답
+     */
+    public static UserProfileResponse from(User user) {
+        return new UserProfileResponse(
+                user.getId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getProfileImageUrl(),
+                user.getCreatedAt()
+        );
+    }
 }
 
@@ -5,6 +5,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * 사용자 엔티티
@@ -12,27 +17,54 @@ import lombok.NoArgsConstructor;
  * 회원 정보를 관리하는 엔티티입니다.
  * 이메일/비밀번호 기반 로컬 회원가입과 소셜 로그인(Google)을 지원합니다.
  * 
+ * Hibernate 2차 캐시(READ_WRITE)에 저장되며, 이메일은 자연 키(natural id)로 매핑되어
+ * 이메일 → ID 변환도 캐시됩니다. 엔티티 변경은 커밋 시 Hibernate가 캐시에 반영합니다.
+ * 
  * @author Closet Canvas Team
  * @since 1.0
  */
 @Entity
-@Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
+@Table(
+        name = "users",
+        uniqueConstraints = @UniqueConstraint(name = "uk_users_email", columnNames = "email"),
+        indexes = {
+                @Index(name = "idx_users_created_at_id", columnList = "created_at desc, id desc"),
+                @Index(name = "idx_users_nickname_id", columnList = "nickname, id")
+        }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
 
+    /**
+     * 2차 캐시 영역 이름 (엔티티)
+     */
+    public static final String CACHE_REGION = "users";
+
+    /**
+     * 2차 캐시 영역 이름 (이메일 → ID)
+     */
+    public static final String NATURAL_ID_CACHE_REGION = "users-natural-id";
+
     /**
      * 사용자 ID (PK)
+     * 시퀀스에서 50개씩 미리 할당받아(pooled) INSERT 전에 ID를 알 수 있으므로 JDBC 배치가 가능합니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     /**
      * 이메일 주소
-     * 유니크 제약조건이 있으며, 필수 입력입니다.
+     * 유니크 제약조건(uk_users_email, 로그인 조회와 관리자 이메일 접두어 검색 인덱스 겸용)이 있으며, 필수 입력입니다.
+     * 변경할 수 없는 자연 키입니다.
      */
-    @Column(unique = true, nullable = false, length = 100)
+    @NaturalId
+    @Column(nullable = false, length = 100)
     private String email;
 
     /**
@@ -64,6 +96,24 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, length = 20)
     private AuthProvider provider;
 
+    /**
+     * 토큰 버전
+     * JWT에 함께 담기며, 값이 바뀌면 이전에 발급된 토큰은 모두 무효가 됩니다.
+     * 기존 행이 있는 테이블에도 컬럼을 추가할 수 있도록 DB 기본값은 0입니다.
+     */
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion;
+
+    /**
+     * 권한
+     * 일반 사용자(USER) 또는 관리자(ADMIN)이며, 발급되는 JWT의 roles 클레임에 담깁니다.
+     */
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'USER'")
+    @Column(nullable = false, length = 20)
+    private UserRole role;
+
     /**
      * User 엔티티 생성자
      * 
@@ -72,14 +122,17 @@ public class User extends BaseTimeEntity {
      * @param nickname 닉네임
      * @param profileImageUrl 프로필 이미지 URL
      * @param provider 인증 제공자
+     * @param role 권한 (null이면 USER)
      */
     @Builder
-    public User(String email, String password, String nickname, String profileImageUrl, AuthProvider provider) {
+    public User(String email, String password, String nickname, String profileImageUrl, AuthProvider provider,
+                UserRole role) {
         this.email = email;
         this.password = password;
         this.nickname = nickname;
         this.profileImageUrl = profileImageUrl;
         this.provider = provider;
+        this.role = role != null ? role : UserRole.USER;
     }
 
     /**
@@ -103,10 +156,31 @@ public class User extends BaseTimeEntity {
     /**
      * 비밀번호 변경
      * 
+     * 기존에 발급된 토큰은 모두 무효가 됩니다.
+     * 
      * @param encryptedPassword 암호화된 새 비밀번호
      */
     public void updatePassword(String encryptedPassword) {
         this.password = encryptedPassword;
+        increaseTokenVersion();
+    }
+
+    /**
+     * 비밀번호 재해싱 (같은 비밀번호를 다른 알고리즘/cost로 다시 암호화한 값으로 교체)
+     * 
+     * 비밀번호 자체는 바뀌지 않으므로 기존 토큰은 그대로 유효합니다.
+     * 
+     * @param encryptedPassword 다시 암호화한 비밀번호
+     */
+    public void rehashPassword(String encryptedPassword) {
+        this.password = encryptedPassword;
+    }
+
+    /**
+     * 토큰 버전 증가 (기존에 발급된 모든 토큰 무효화)
+     */
+    public void increaseTokenVersion() {
+        this.tokenVersion++;
     }
 }
 
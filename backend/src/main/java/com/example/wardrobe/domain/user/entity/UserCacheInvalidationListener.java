@@ -0,0 +1,57 @@
+package com.example.wardrobe.domain.user.entity;
+
+import com.example.wardrobe.domain.user.service.UserCache;
+import com.example.wardrobe.security.TokenVersionChecker;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 캐시 무효화 엔티티 리스너
+ * 
+ * User가 수정/삭제되면 트랜잭션 커밋 직후에 사용자 캐시와 토큰 버전 캐시에서 해당 사용자를 제거합니다.
+ * 롤백되면 제거하지 않습니다.
+ * 
+ * Hibernate가 EntityManagerFactory 생성 중에 Spring 빈으로 이 리스너를 만들기 때문에,
+ * Repository를 사용하는 의존성은 순환 참조를 피하도록 지연 주입합니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    private final UserCache userCache;
+    private final TokenVersionChecker tokenVersionChecker;
+
+    public UserCacheInvalidationListener(@Lazy UserCache userCache, @Lazy TokenVersionChecker tokenVersionChecker) {
+        this.userCache = userCache;
+        this.tokenVersionChecker = tokenVersionChecker;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        Long userId = user.getId();
+        String email = user.getEmail();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId, email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId, email);
+            }
+        });
+    }
+
+    private void evict(Long userId, String email) {
+        userCache.evict(userId, email);
+        tokenVersionChecker.evict(userId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.wardrobe.domain.user.entity;
+
+/**
+ * 사용자 권한 Enum
+ * 
+ * JWT roles 클레임과 Spring Security 권한(ROLE_ 접두사)으로 사용됩니다.
+ * 관리자 API(/api/v1/admin/**, 공개 분석 API 제외)는 ADMIN만 호출할 수 있습니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public enum UserRole {
+    /**
+     * 일반 사용자
+     */
+    USER,
+    
+    /**
+     * 관리자
+     */
+    ADMIN;
+
+    /**
+     * Spring Security 권한 이름
+     * 
+     * @return ROLE_ 접두사가 붙은 권한 이름 (예: ROLE_ADMIN)
+     */
+    public String getAuthority() {
+        return "ROLE_" + name();
+    }
+}
@@ -4,6 +4,7 @@ package com.example.wardrobe.domain.user.exception;
  * 이메일 중복 예외
  * 
  * 회원가입 시 이미 존재하는 이메일로 가입을 시도할 때 발생하는 예외입니다.
+ * 정상적인 입력 오류이므로 스택 트레이스 없이 생성합니다.
  * 
  * @author Closet Canvas Team
  * @since 1.0
@@ -16,7 +17,7 @@ public class EmailAlreadyExistsException extends RuntimeException {
      * @param email 중복된 이메일 주소
      */
     public EmailAlreadyExistsException(String email) {
-        super("이미 사용 중인 이메일입니다: " + email);
+        super("이미 사용 중인 이메일입니다: " + email, null, false, false);
     }
 }
 
@@ -0,0 +1,22 @@
+package com.example.wardrobe.domain.user.exception;
+
+/**
+ * 잘못된 사용자 목록 조회 요청 예외
+ * 
+ * 관리자 사용자 목록에서 커서를 해석할 수 없거나 검색 조건이 잘못된 경우 발생하는 예외입니다.
+ * 정상적인 입력 오류이므로 스택 트레이스 없이 생성합니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class InvalidUserQueryException extends RuntimeException {
+
+    /**
+     * 생성자
+     * 
+     * @param message 예외 메시지
+     */
+    public InvalidUserQueryException(String message) {
+        super(message, null, false, false);
+    }
+}
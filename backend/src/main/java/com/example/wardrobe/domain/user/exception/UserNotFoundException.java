@@ -4,6 +4,7 @@ package com.example.wardrobe.domain.user.exception;
  * 사용자를 찾을 수 없는 예외
  * 
  * 존재하지 않는 사용자 ID로 조회하거나 수정을 시도할 때 발생하는 예외입니다.
+ * 응답에는 메시지만 쓰이므로 스택 트레이스는 만들지 않습니다.
  * 
  * @author Closet Canvas Team
  * @since 1.0
@@ -16,7 +17,7 @@ public class UserNotFoundException extends RuntimeException {
      * @param userId 찾을 수 없는 사용자 ID
      */
     public UserNotFoundException(Long userId) {
-        super("사용자를 찾을 수 없습니다. ID: " + userId);
+        super("사용자를 찾을 수 없습니다. ID: " + userId, null, false, false);
     }
 
     /**
@@ -25,7 +26,7 @@ public class UserNotFoundException extends RuntimeException {
      * @param message 에러 메시지
      */
     public UserNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
 
@@ -0,0 +1,27 @@
+package com.example.wardrobe.domain.user.repository;
+
+import com.example.wardrobe.domain.user.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 사용자 자연 키(이메일) 조회 Repository
+ * 
+ * 파생 쿼리(where email = ?)는 매번 DB를 조회하므로, 이메일 조회는 Hibernate 자연 키 API로 구현합니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * 이메일로 사용자 조회
+     * 
+     * 로그인 시 이메일로 사용자를 찾을 때 사용됩니다.
+     * 이메일 → ID는 자연 키 캐시에서, 사용자는 2차 캐시에서 먼저 찾고 없을 때만 DB를 조회합니다.
+     * 
+     * @param email 조회할 이메일 주소
+     * @return 사용자가 존재하면 Optional<User>, 없으면 Optional.empty()
+     */
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,29 @@
+package com.example.wardrobe.domain.user.repository;
+
+import com.example.wardrobe.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 사용자 자연 키(이메일) 조회 구현
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
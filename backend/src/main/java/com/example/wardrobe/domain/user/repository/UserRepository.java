@@ -1,8 +1,18 @@
 package com.example.wardrobe.domain.user.repository;
 
+import com.example.wardrobe.domain.user.dto.UserProfileResponse;
 import com.example.wardrobe.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,16 +20,18 @@ import java.util.Optional;
  * 
  * User 엔티티에 대한 데이터 접근 계층입니다.
  * Spring Data JPA의 메서드 네이밍 컨벤션을 사용하여 쿼리를 자동 생성합니다.
+ * 이메일 조회(findByEmail)는 UserNaturalIdRepository에서 자연 키 캐시를 거쳐 처리합니다.
+ * 로그인은 캐시를 거치지 않는 findForLoginByEmail을 사용합니다.
  * 
  * @author Closet Canvas Team
  * @since 1.0
  */
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
     /**
      * 이메일로 사용자 존재 여부 확인
      * 
-     * 회원가입 시 이메일 중복 체크에 사용됩니다.
+     * 회원가입 시 유니크 제약 위반이 이메일 중복 때문인지 확인하는 데 사용됩니다.
      * 
      * @param email 확인할 이메일 주소
      * @return 이메일이 존재하면 true, 없으면 false
@@ -27,13 +39,161 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     /**
-     * 이메일로 사용자 조회
+     * 주어진 이메일 중 이미 가입된 이메일 조회
      * 
-     * 로그인 시 이메일로 사용자를 찾을 때 사용됩니다.
+     * 대량 가져오기에서 배치 단위 중복 확인에 사용됩니다.
      * 
-     * @param email 조회할 이메일 주소
-     * @return 사용자가 존재하면 Optional<User>, 없으면 Optional.empty()
+     * @param emails 확인할 이메일 목록
+     * @return 이미 존재하는 이메일 목록
      */
-    Optional<User> findByEmail(String email);
-}
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 사용자 토큰 버전 조회
+     * 
+     * JWT 토큰 버전 검사에 사용됩니다. 엔티티 전체 대신 컬럼 하나만 읽습니다.
+     * 
+     * @param id 사용자 ID
+     * @return 토큰 버전 (사용자가 없으면 Optional.empty())
+     */
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * 로그인용 이메일 조회 (2차 캐시를 읽지 않음)
+     * 
+     * 비밀번호 해시와 권한은 DB에서 직접 읽어야 하므로 자연 키 캐시(findByEmail)를 거치지 않습니다.
+     * 다른 노드나 SQL로 비밀번호가 바뀌어도 이전 비밀번호로 로그인되지 않습니다.
+     * 읽은 값으로 2차 캐시를 갱신(REFRESH)하므로 이후 프로필 조회도 최신 값을 봅니다.
+     * 
+     * @param email 이메일 주소
+     * @return 사용자 (없으면 Optional.empty())
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    @Query("select u from User u where u.email = :email")
+    Optional<User> findForLoginByEmail(@Param("email") String email);
+
+    /**
+     * 사용자 목록 첫 페이지 (가입일 최신순, 키셋 페이지네이션)
+     * 
+     * 아래 *After 메서드와 함께 OFFSET 없이 (created_at desc, id desc) 인덱스(idx_users_created_at_id)를 따라 읽습니다.
+     * 인덱스가 정렬 순서와 같으므로 전체를 정렬하지 않고 페이지 크기만큼만 읽습니다.
+     * 페이지 크기는 pageable의 size만 사용합니다 (page 번호는 항상 0).
+     * 
+     * @param pageable 페이지 크기
+     * @return 프로필 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("select new com.example.wardrobe.domain.user.dto.UserProfileResponse("
+            + "u.id, u.email, u.nickname, u.profileImageUrl, u.createdAt) from User u "
+            + "order by u.createdAt desc, u.id desc")
+    List<UserProfileResponse> findDirectoryPage(Pageable pageable);
 
+    /**
+     * 사용자 목록 다음 페이지 (가입일 최신순)
+     * 
+     * 커서 조건을 "created_at <= ? and (created_at < ? or id < ?)"로 써서 OR 앞의 범위 조건으로
+     * 인덱스 탐색 시작점을 잡도록 합니다 (OR로만 쓰면 옵티마이저가 범위 탐색을 못 하고 전체를 읽을 수 있음).
+     * 
+     * @param createdAt 이전 페이지 마지막 사용자의 가입일시
+     * @param id 이전 페이지 마지막 사용자의 ID
+     * @param pageable 페이지 크기
+     * @return 프로필 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("select new com.example.wardrobe.domain.user.dto.UserProfileResponse("
+            + "u.id, u.email, u.nickname, u.profileImageUrl, u.createdAt) from User u "
+            + "where u.createdAt <= :createdAt and (u.createdAt < :createdAt or u.id < :id) "
+            + "order by u.createdAt desc, u.id desc")
+    List<UserProfileResponse> findDirectoryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    /**
+     * 이메일 접두어 검색 첫 페이지 (이메일순)
+     * 
+     * 유니크 인덱스(uk_users_email)의 범위 스캔으로 처리됩니다.
+     * 
+     * @param pattern LIKE 패턴 (접두어의 %, _, !를 '!'로 이스케이프하고 끝에 '%'를 붙인 값)
+     * @param pageable 페이지 크기
+     * @return 프로필 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("select new com.example.wardrobe.domain.user.dto.UserProfileResponse("
+            + "u.id, u.email, u.nickname, u.profileImageUrl, u.createdAt) from User u "
+            + "where u.email like :pattern escape '!' "
+            + "order by u.email")
+    List<UserProfileResponse> findByEmailPrefix(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * 이메일 접두어 검색 다음 페이지
+     * 
+     * @param pattern LIKE 패턴
+     * @param email 이전 페이지 마지막 사용자의 이메일
+     * @param pageable 페이지 크기
+     * @return 프로필 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("select new com.example.wardrobe.domain.user.dto.UserProfileResponse("
+            + "u.id, u.email, u.nickname, u.profileImageUrl, u.createdAt) from User u "
+            + "where u.email like :pattern escape '!' and u.email > :email "
+            + "order by u.email")
+    List<UserProfileResponse> findByEmailPrefixAfter(@Param("pattern") String pattern,
+                                                     @Param("email") String email,
+                                                     Pageable pageable);
+
+    /**
+     * 닉네임 접두어 검색 첫 페이지 (닉네임, ID순)
+     * 
+     * (nickname, id) 인덱스(idx_users_nickname_id)의 범위 스캔으로 처리됩니다.
+     * 
+     * @param pattern LIKE 패턴
+     * @param pageable 페이지 크기
+     * @return 프로필 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("select new com.example.wardrobe.domain.user.dto.UserProfileResponse("
+            + "u.id, u.email, u.nickname, u.profileImageUrl, u.createdAt) from User u "
+            + "where u.nickname like :pattern escape '!' "
+            + "order by u.nickname, u.id")
+    List<UserProfileResponse> findByNicknamePrefix(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * 닉네임 접두어 검색 다음 페이지
+     * 
+     * @param pattern LIKE 패턴
+     * @param nickname 이전 페이지 마지막 사용자의 닉네임
+     * @param id 이전 페이지 마지막 사용자의 ID
+     * @param pageable 페이지 크기
+     * @return 프로필 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("select new com.example.wardrobe.domain.user.dto.UserProfileResponse("
+            + "u.id, u.email, u.nickname, u.profileImageUrl, u.createdAt) from User u "
+            + "where u.nickname like :pattern escape '!' "
+            + "and u.nickname >= :nickname and (u.nickname > :nickname or u.id > :id) "
+            + "order by u.nickname, u.id")
+    List<UserProfileResponse> findByNicknamePrefixAfter(@Param("pattern") String pattern,
+                                                        @Param("nickname") String nickname,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+}
@@ -0,0 +1,148 @@
+package com.example.wardrobe.domain.user.service;
+
+import com.example.wardrobe.domain.user.dto.CachedUser;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 조회 캐시
+ * 
+ * ID와 이메일 두 키로 사용자를 찾을 수 있는 프로세스 내 캐시입니다.
+ * - users.by-id: 사용자 ID → 사용자 (불변 CachedUser, 비밀번호 해시 제외)
+ *   캐시에 없으면 User 엔티티를 ID 또는 이메일 자연 키로 읽어 변환합니다 (Hibernate 2차 캐시 적중 시 DB 조회 없음).
+ * - users.by-email: 이메일 → 사용자 ID
+ * 
+ * 크기와 TTL로 제한되며, 사용자 변경이 커밋되면 UserCacheInvalidationListener가 해당 항목을 제거합니다.
+ * 적중률 등 통계는 Micrometer(cache.gets, cache.puts, cache.evictions ...)로 노출됩니다.
+ * 
+ * DB 조회는 캐시 잠금 밖에서 하므로, 변경이 커밋되기 전에 이전 값을 읽은 요청이 제거 직후에 그 값을
+ * 다시 저장할 수 있습니다. 이를 막기 위해 제거할 때마다 무효화 세대를 올리고, 조회 전후로 세대가
+ * 바뀌었으면 조회 결과를 캐시에 저장하지 않습니다 (그 요청의 응답으로만 사용).
+ * 
+ * 캐시에 없을 때의 조회는 복제본이 아니라 primary에서 합니다 (새 쓰기 트랜잭션).
+ * 무효화 직후 복제 지연 중인 복제본에서 읽으면 수정 전 값이 다시 캐시에 저장되기 때문입니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate primaryRead;
+    private final Cache<Long, CachedUser> usersById;
+    private final Cache<String, Long> userIdsByEmail;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 생성자
+     * 
+     * @param userRepository 사용자 Repository
+     * @param transactionManager primary 조회 트랜잭션에 사용할 트랜잭션 매니저
+     * @param meterRegistry 메트릭 레지스트리
+     * @param maxSize 캐시 최대 크기
+     * @param ttl 캐시 유지 시간
+     */
+    public UserCache(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${user.cache.max-size:10000}") long maxSize,
+            @Value("${user.cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        // 읽기 전용 트랜잭션(UserService) 안에서 호출돼도 복제본으로 라우팅되지 않도록 항상 새 쓰기 트랜잭션으로 조회
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryRead.setReadOnly(false);
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.userIdsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByEmail, "users.by-email");
+    }
+
+    /**
+     * ID로 사용자 조회 (캐시에 없으면 DB 조회 후 저장)
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 (없으면 Optional.empty())
+     */
+    public Optional<CachedUser> findById(Long userId) {
+        CachedUser cached = usersById.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = invalidations.get();
+        Optional<CachedUser> user = primaryRead.execute(status ->
+                userRepository.findById(userId).map(CachedUser::from));
+        user.ifPresent(found -> put(found, generation));
+        return user;
+    }
+
+    /**
+     * 이메일로 사용자 조회 (캐시에 없으면 DB 조회 후 저장)
+     * 
+     * @param email 사용자 이메일
+     * @return 사용자 (없으면 Optional.empty())
+     */
+    public Optional<CachedUser> findByEmail(String email) {
+        Long userId = userIdsByEmail.getIfPresent(email);
+        if (userId != null) {
+            CachedUser cached = usersById.getIfPresent(userId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        long generation = invalidations.get();
+        Optional<CachedUser> user = primaryRead.execute(status ->
+                userRepository.findByEmail(email).map(CachedUser::from));
+        user.ifPresent(found -> put(found, generation));
+        return user;
+    }
+
+    /**
+     * 사용자 캐시 항목 제거
+     * 
+     * 세대를 먼저 올린 뒤 제거하므로, 진행 중이던 조회는 이전 값을 저장하지 못하거나
+     * 저장하더라도 이어지는 제거에 지워집니다.
+     * 
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     */
+    public void evict(Long userId, String email) {
+        invalidations.incrementAndGet();
+        usersById.invalidate(userId);
+        userIdsByEmail.invalidate(email);
+    }
+
+    /**
+     * 조회를 시작한 뒤 무효화가 없었을 때만 저장 (키 단위로 원자적으로 확인)
+     */
+    private void put(CachedUser user, long generation) {
+        usersById.asMap().compute(user.id(), (id, current) ->
+                invalidations.get() == generation ? user : current);
+        userIdsByEmail.asMap().compute(user.email(), (email, current) ->
+                invalidations.get() == generation ? user.id() : current);
+    }
+}
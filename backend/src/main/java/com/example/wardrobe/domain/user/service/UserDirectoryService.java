@@ -0,0 +1,157 @@
+package com.example.wardrobe.domain.user.service;
+
+import com.example.wardrobe.domain.user.dto.UserDirectoryPage;
+import com.example.wardrobe.domain.user.dto.UserProfileResponse;
+import com.example.wardrobe.domain.user.exception.InvalidUserQueryException;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 관리자 사용자 목록 서비스
+ *
+ * OFFSET 대신 키셋(커서) 페이지네이션을 사용해서 몇 번째 페이지든 인덱스 범위 스캔 한 번으로 읽습니다.
+ * 정렬과 커서는 검색 조건에 따라 정해집니다.
+ * - 조건 없음: 가입일 최신순, 커서 (created_at, id)
+ * - 이메일 접두어: 이메일순, 커서 email (유니크)
+ * - 닉네임 접두어: 닉네임순, 커서 (nickname, id)
+ *
+ * 커서는 "종류|ID|정렬 키"를 Base64URL로 인코딩한 값이며, 다른 검색 조건의 커서는 거절합니다.
+ * 조회는 모두 프로젝션(UserProfileResponse)이고 읽기 전용 트랜잭션이라 복제본이 설정되어 있으면 복제본에서 읽습니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserDirectoryService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final char LIKE_ESCAPE = '!';
+    private static final String KIND_CREATED = "c";
+    private static final String KIND_EMAIL = "e";
+    private static final String KIND_NICKNAME = "n";
+
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자 목록 조회
+     *
+     * @param emailPrefix 이메일 접두어 (선택, nicknamePrefix와 함께 쓸 수 없음)
+     * @param nicknamePrefix 닉네임 접두어 (선택)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 사용자 목록 페이지
+     * @throws InvalidUserQueryException 커서나 검색 조건이 잘못된 경우
+     */
+    public UserDirectoryPage list(String emailPrefix, String nicknamePrefix, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidUserQueryException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        boolean byEmail = hasText(emailPrefix);
+        boolean byNickname = hasText(nicknamePrefix);
+        if (byEmail && byNickname) {
+            throw new InvalidUserQueryException("이메일과 닉네임 검색은 함께 사용할 수 없습니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽음
+        Pageable limit = PageRequest.ofSize(size + 1);
+        String[] after = hasText(cursor) ? decode(cursor) : null;
+        String kind = byEmail ? KIND_EMAIL : byNickname ? KIND_NICKNAME : KIND_CREATED;
+        if (after != null && !after[0].equals(kind)) {
+            throw new InvalidUserQueryException("검색 조건과 맞지 않는 커서입니다.");
+        }
+
+        List<UserProfileResponse> rows = switch (kind) {
+            case KIND_EMAIL -> after == null
+                    ? userRepository.findByEmailPrefix(likePrefix(emailPrefix), limit)
+                    : userRepository.findByEmailPrefixAfter(likePrefix(emailPrefix), after[2], limit);
+            case KIND_NICKNAME -> after == null
+                    ? userRepository.findByNicknamePrefix(likePrefix(nicknamePrefix), limit)
+                    : userRepository.findByNicknamePrefixAfter(likePrefix(nicknamePrefix), after[2], id(after), limit);
+            default -> after == null
+                    ? userRepository.findDirectoryPage(limit)
+                    : userRepository.findDirectoryPageAfter(createdAt(after), id(after), limit);
+        };
+
+        if (rows.size() <= size) {
+            return new UserDirectoryPage(rows, null);
+        }
+        List<UserProfileResponse> page = rows.subList(0, size);
+        return new UserDirectoryPage(List.copyOf(page), encode(kind, page.get(size - 1)));
+    }
+
+    private static String encode(String kind, UserProfileResponse last) {
+        String key = switch (kind) {
+            case KIND_EMAIL -> last.email();
+            case KIND_NICKNAME -> last.nickname();
+            default -> last.createdAt().toString();
+        };
+        String raw = kind + "|" + last.id() + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     *
+     * @return [종류, ID, 정렬 키]
+     */
+    private static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length == 3) {
+                return parts;
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 거절
+        }
+        throw new InvalidUserQueryException("잘못된 커서입니다.");
+    }
+
+    private static Long id(String[] cursor) {
+        try {
+            return Long.valueOf(cursor[1]);
+        } catch (NumberFormatException e) {
+            throw new InvalidUserQueryException("잘못된 커서입니다.");
+        }
+    }
+
+    private static LocalDateTime createdAt(String[] cursor) {
+        try {
+            return LocalDateTime.parse(cursor[2]);
+        } catch (DateTimeParseException e) {
+            throw new InvalidUserQueryException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 접두어를 LIKE 패턴으로 변환 (와일드카드 문자는 이스케이프해서 글자 그대로 비교)
+     */
+    static String likePrefix(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 2);
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.wardrobe.domain.user.service;
+
+import com.example.wardrobe.domain.user.dto.SignupRequest;
+import com.example.wardrobe.domain.user.dto.UserImportResult;
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.example.wardrobe.security.PasswordHasher;
+import com.example.wardrobe.security.PasswordHashingBusyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 사용자 대량 가져오기 서비스
+ * 
+ * NDJSON(한 줄에 {"email","password","nickname"} 하나)을 스트림으로 읽어 batch-size 행씩 처리합니다.
+ * 1. 배치 안의 이메일을 한 번에 조회해서 이미 가입된 이메일은 건너뜀 (해싱 전에 걸러냄)
+ * 2. 남은 행의 비밀번호를 PasswordHasher로 병렬 해싱 (동시에 hash-parallelism개까지만 넣어서
+ *    로그인/회원가입 요청이 해싱 대기열에서 밀려나지 않게 함)
+ * 3. 한 트랜잭션에서 persist 후 flush (시퀀스 ID라서 JDBC 배치 INSERT로 전송)
+ * 
+ * 파일 안의 중복 이메일은 같은 배치 안에서는 메모리로, 배치 사이에서는 1단계 조회로 걸러집니다.
+ * 각 행은 회원가입과 같은 규칙(SignupRequest의 Bean Validation 제약)으로 검증하며,
+ * 해싱에 실패한 행은 그 행만 실패로 세고 나머지 행은 계속 저장합니다.
+ * 
+ * 처리 중 다른 요청이 같은 이메일로 가입해서 배치가 실패하면, 그 배치만 한 행씩 다시 저장합니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final long BUSY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectReader rowReader;
+
+    @Value("${user.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${user.import.hash-parallelism:0}")
+    private int hashParallelism;
+
+    /**
+     * 생성자
+     * 
+     * @param userRepository 사용자 Repository
+     * @param passwordHasher 비밀번호 해싱 실행기
+     * @param transactionTemplate 배치별 트랜잭션
+     * @param entityManager 엔티티 매니저
+     * @param validator 행 검증에 사용할 Validator
+     * @param objectMapper 행 파싱에 사용할 ObjectMapper
+     */
+    public UserImportService(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager,
+            Validator validator,
+            ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.rowReader = objectMapper.readerFor(SignupRequest.class);
+    }
+
+    /**
+     * NDJSON 스트림에서 사용자 가져오기
+     * 
+     * @param ndjson 요청 본문 스트림 (UTF-8)
+     * @return 가져오기 결과
+     * @throws IOException 스트림을 읽을 수 없는 경우
+     */
+    public UserImportResult importUsers(InputStream ndjson) throws IOException {
+        Counts counts = new Counts();
+        Map<String, SignupRequest> batch = new LinkedHashMap<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            SignupRequest row = parse(line);
+            if (row == null) {
+                counts.invalid++;
+                continue;
+            }
+            // 앞선 배치와의 중복은 DB 조회로, 같은 배치 안의 중복은 여기서 걸러냄
+            if (batch.putIfAbsent(row.getEmail().trim(), row) != null) {
+                counts.duplicates++;
+                continue;
+            }
+            if (batch.size() >= batchSize) {
+                importBatch(batch, counts);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, counts);
+        }
+
+        log.info("사용자 가져오기 완료 - 저장: {}, 중복: {}, 잘못된 행: {}, 실패: {}",
+                counts.imported, counts.duplicates, counts.invalid, counts.failed);
+        return new UserImportResult(counts.imported, counts.duplicates, counts.invalid, counts.failed);
+    }
+
+    private void importBatch(Map<String, SignupRequest> batch, Counts counts) {
+        List<String> existing = userRepository.findExistingEmails(batch.keySet());
+        existing.forEach(batch::remove);
+        counts.duplicates += existing.size();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<User> users = hashAll(batch, counts);
+        if (users.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                users.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            counts.imported += users.size();
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 가입한 사용자와 겹침 - 이 배치만 한 행씩 저장
+            for (User user : users) {
+                try {
+                    userRepository.saveAndFlush(User.builder()
+                            .email(user.getEmail())
+                            .password(user.getPassword())
+                            .nickname(user.getNickname())
+                            .provider(AuthProvider.LOCAL)
+                            .build());
+                    counts.imported++;
+                } catch (DataIntegrityViolationException duplicate) {
+                    counts.duplicates++;
+                }
+            }
+        }
+    }
+
+    /**
+     * 비밀번호를 병렬로 해싱해서 User 목록 생성 (입력 순서 유지, 해싱에 실패한 행은 실패로 세고 제외)
+     */
+    private List<User> hashAll(Map<String, SignupRequest> batch, Counts counts) {
+        int window = hashParallelism > 0
+                ? hashParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        List<CompletableFuture<String>> hashes = new ArrayList<>(batch.size());
+        Deque<CompletableFuture<String>> inFlight = new ArrayDeque<>(window);
+
+        for (SignupRequest row : batch.values()) {
+            if (inFlight.size() >= window) {
+                awaitQuietly(inFlight.removeFirst());
+            }
+            CompletableFuture<String> hash = submit(row.getPassword(), inFlight);
+            hashes.add(hash);
+            inFlight.addLast(hash);
+        }
+
+        List<User> users = new ArrayList<>(batch.size());
+        int i = 0;
+        for (Map.Entry<String, SignupRequest> entry : batch.entrySet()) {
+            String hash;
+            try {
+                hash = hashes.get(i++).join();
+            } catch (CompletionException e) {
+                log.warn("사용자 가져오기 - 비밀번호 해싱 실패로 건너뜀: {}", entry.getKey(), e.getCause());
+                counts.failed++;
+                continue;
+            }
+            users.add(User.builder()
+                    .email(entry.getKey())
+                    .password(hash)
+                    .nickname(entry.getValue().getNickname())
+                    .provider(AuthProvider.LOCAL)
+                    .build());
+        }
+        return users;
+    }
+
+    /**
+     * 해싱 대기열이 가득 차 있으면 먼저 넣은 작업이 끝나길 기다렸다가 다시 시도
+     */
+    private CompletableFuture<String> submit(String password, Deque<CompletableFuture<String>> inFlight) {
+        while (true) {
+            try {
+                return passwordHasher.encode(password);
+            } catch (PasswordHashingBusyException e) {
+                if (inFlight.isEmpty()) {
+                    LockSupport.parkNanos(BUSY_BACKOFF_NANOS);
+                } else {
+                    awaitQuietly(inFlight.removeFirst());
+                }
+            }
+        }
+    }
+
+    /**
+     * 앞서 넣은 해싱 작업이 끝나길 기다림 (실패는 결과를 모을 때 행 단위로 처리)
+     */
+    private static void awaitQuietly(CompletableFuture<String> hash) {
+        try {
+            hash.join();
+        } catch (CompletionException e) {
+            // hashAll에서 해당 행을 실패로 처리
+        }
+    }
+
+    /**
+     * 한 줄을 파싱하고 회원가입 요청과 같은 제약으로 검증 (잘못된 행이면 null)
+     */
+    private SignupRequest parse(String line) {
+        try {
+            SignupRequest row = rowReader.readValue(line);
+            return row != null && validator.validate(row).isEmpty() ? row : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static final class Counts {
+        private long imported;
+        private long duplicates;
+        private long invalid;
+        private long failed;
+    }
+}
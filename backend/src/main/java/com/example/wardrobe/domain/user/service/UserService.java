@@ -1,14 +1,22 @@
 package com.example.wardrobe.domain.user.service;
 
+import com.example.wardrobe.domain.user.dto.CachedUser;
+import com.example.wardrobe.domain.user.dto.UserProfileResponse;
 import com.example.wardrobe.domain.user.entity.AuthProvider;
 import com.example.wardrobe.domain.user.entity.User;
 import com.example.wardrobe.domain.user.exception.EmailAlreadyExistsException;
 import com.example.wardrobe.domain.user.exception.UserNotFoundException;
 import com.example.wardrobe.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.example.wardrobe.security.PasswordHasher;
+import com.example.wardrobe.security.PasswordHashingBusyException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 사용자 서비스 클래스
@@ -20,72 +28,130 @@ import org.springframework.transaction.annotation.Transactional;
  * @since 1.0
  */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserCache userCache;
+    private final TransactionTemplate writeTransaction;
+
+    /**
+     * 생성자
+     * 
+     * @param userRepository 사용자 Repository
+     * @param passwordHasher 비밀번호 해싱 실행기
+     * @param userCache 사용자 캐시
+     * @param transactionManager 회원가입 INSERT(와 중복 확인) 트랜잭션에 사용할 트랜잭션 매니저
+     */
+    public UserService(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            UserCache userCache,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.userCache = userCache;
+        // 해싱이 이미 끝나 있으면 INSERT가 호출 스레드의 읽기 전용 트랜잭션 안에서 실행될 수 있으므로
+        // 항상 새 쓰기 트랜잭션으로 저장 (읽기 전용이 아니므로 복제본 라우팅 대상도 아님)
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeTransaction.setReadOnly(false);
+    }
 
     /**
      * 회원가입
      * 
-     * 이메일 중복 체크 후 비밀번호를 암호화하여 사용자를 저장합니다.
+     * 비밀번호를 암호화한 뒤 INSERT 한 번으로 사용자를 저장합니다 (비밀번호 해싱 스레드에서, 별도 쓰기 트랜잭션으로 실행).
+     * 이메일 중복은 미리 조회하지 않고 email 유니크 제약으로 판단하므로, 동시에 같은 이메일로 가입해도
+     * 한 명만 성공합니다. 제약 위반이 나면 그때만 이메일 존재 여부를 확인해 EmailAlreadyExistsException으로 바꿉니다.
+     * 이 확인은 방금 커밋된 다른 가입을 봐야 하므로 복제본이 아니라 primary에서 합니다.
      * 
      * @param email 이메일 주소
      * @param password 비밀번호 (평문)
      * @param nickname 닉네임 (선택)
-     * @return 저장된 User 엔티티
-     * @throws EmailAlreadyExistsException 이미 존재하는 이메일인 경우
+     * @return 저장된 User 엔티티 (이미 존재하는 이메일이면 EmailAlreadyExistsException으로 완료)
+     * @throws PasswordHashingBusyException 비밀번호 해싱 대기열이 가득 찬 경우
      */
-    @Transactional
-    public User signup(String email, String password, String nickname) {
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(email)) {
-            throw new EmailAlreadyExistsException(email);
-        }
-
-        // 비밀번호 암호화
-        String encryptedPassword = passwordEncoder.encode(password);
-
-        // User 엔티티 생성 및 저장
-        User user = User.builder()
-                .email(email)
-                .password(encryptedPassword)
-                .nickname(nickname)
-                .provider(AuthProvider.LOCAL)
-                .build();
+    public CompletableFuture<User> signup(String email, String password, String nickname) {
+        return passwordHasher.encode(password)
+                .thenApply(encryptedPassword -> insert(User.builder()
+                        .email(email)
+                        .password(encryptedPassword)
+                        .nickname(nickname)
+                        .provider(AuthProvider.LOCAL)
+                        .build()));
+    }
 
-        return userRepository.save(user);
+    private User insert(User user) {
+        try {
+            return writeTransaction.execute(status -> userRepository.saveAndFlush(user));
+        } catch (DataIntegrityViolationException e) {
+            // 충돌한 행은 방금 커밋되어 복제본에는 아직 없을 수 있으므로 쓰기 트랜잭션으로 primary에서 확인
+            if (Boolean.TRUE.equals(writeTransaction.execute(status -> userRepository.existsByEmail(user.getEmail())))) {
+                throw new EmailAlreadyExistsException(user.getEmail());
+            }
+            throw e;
+        }
     }
 
     /**
      * 사용자 프로필 조회
      * 
+     * 사용자 캐시를 먼저 확인합니다. 캐시 항목에는 비밀번호 해시가 없습니다.
+     * 
      * @param userId 사용자 ID
-     * @return User 엔티티
+     * @return 캐시된 사용자 정보
      * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
      */
-    public User getUserById(Long userId) {
-        return userRepository.findById(userId)
+    public CachedUser getUserById(Long userId) {
+        return userCache.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
     }
 
     /**
      * 이메일로 사용자 조회
      * 
+     * 사용자 캐시를 먼저 확인합니다. 캐시 항목에는 비밀번호 해시가 없습니다.
+     * 
      * @param email 사용자 이메일
-     * @return User 엔티티
+     * @return 캐시된 사용자 정보
      * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
      */
-    public User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
+    public CachedUser getUserByEmail(String email) {
+        return userCache.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("이메일: " + email));
     }
 
+    /**
+     * ID로 프로필 조회
+     * 
+     * 사용자 캐시에서 응답을 만듭니다 (캐시에 없으면 엔티티를 읽어 변환한 뒤 캐시에 저장).
+     * 
+     * @param userId 사용자 ID
+     * @return 프로필 응답
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
+     */
+    public UserProfileResponse getProfileById(Long userId) {
+        return getUserById(userId).toProfile();
+    }
+
+    /**
+     * 이메일로 프로필 조회
+     * 
+     * @param email 사용자 이메일
+     * @return 프로필 응답
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
+     */
+    public UserProfileResponse getProfileByEmail(String email) {
+        return getUserByEmail(email).toProfile();
+    }
+
     /**
      * 프로필 수정
      * 
+     * 캐시가 아닌 DB에서 영속 상태의 사용자를 조회해 수정하며, 커밋되면 캐시에서 제거됩니다.
+     * 
      * @param userId 사용자 ID
      * @param nickname 새로운 닉네임 (null이면 변경하지 않음)
      * @param profileImageUrl 새로운 프로필 이미지 URL (null이면 변경하지 않음)
@@ -94,7 +160,8 @@ public class UserService {
      */
     @Transactional
     public User updateProfile(Long userId, String nickname, String profileImageUrl) {
-        User user = getUserById(userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
 
         if (nickname != null && !nickname.isBlank()) {
             user.updateNickname(nickname);
@@ -106,5 +173,40 @@ public class UserService {
 
         return user;
     }
-}
 
+    /**
+     * 비밀번호 재해싱 결과 저장
+     * 
+     * 그 사이 비밀번호가 바뀌었으면(저장된 해시가 previousHash와 다르면) 저장하지 않습니다.
+     * 
+     * @param userId 사용자 ID
+     * @param previousHash 재해싱 전 저장되어 있던 해시
+     * @param rehashedPassword 같은 비밀번호를 다시 암호화한 값
+     * @return 저장했으면 true
+     */
+    @Transactional
+    public boolean rehashPassword(Long userId, String previousHash, String rehashedPassword) {
+        return userRepository.findById(userId)
+                .filter(user -> previousHash.equals(user.getPassword()))
+                .map(user -> {
+                    user.rehashPassword(rehashedPassword);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * 사용자의 모든 토큰 폐기 (토큰 버전 증가)
+     * 
+     * 커밋되면 캐시된 토큰 버전도 제거되어 기존 토큰이 바로 거부됩니다.
+     * 
+     * @param userId 사용자 ID
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
+     */
+    @Transactional
+    public void revokeAllTokens(Long userId) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId))
+                .increaseTokenVersion();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.wardrobe.security;
+
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자
+ * 
+ * 사용자명은 이메일이므로 authentication.getName()은 기존과 같이 이메일을 반환합니다.
+ * 비밀번호는 보관하지 않습니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class AuthenticatedUser extends User {
+
+    private final Long userId;
+
+    private AuthenticatedUser(Long userId, String email, String[] roles) {
+        super(email, "", AuthorityUtils.createAuthorityList(roles));
+        this.userId = userId;
+    }
+
+    /**
+     * 검증된 토큰에서 인증 사용자 생성
+     * 
+     * @param token 클레임을 가진 검증된 토큰
+     * @return 인증 사용자
+     */
+    public static AuthenticatedUser from(VerifiedToken token) {
+        return new AuthenticatedUser(token.userId(), token.subject(), token.roles().toArray(new String[0]));
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.wardrobe.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom 필터
+ *
+ * "확실히 없음"은 정확하고, "있을 수도 있음"은 설정한 오탐률 이내로 틀릴 수 있는 집합입니다.
+ * 비트 배열은 AtomicLongArray라서 add와 mightContain을 락 없이 동시에 호출할 수 있습니다.
+ * 해시는 64비트 FNV-1a 한 번으로 두 값을 만들고, k개 위치는 이중 해싱(h1 + i * h2)으로 구합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * 생성자
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 목표 오탐률 (0~1)
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    /**
+     * 원소 추가
+     *
+     * @param value 원소
+     */
+    public void add(String value) {
+        long hash = fnv1a(value);
+        long h1 = hash;
+        long h2 = mix(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(index);
+            while ((current & mask) == 0 && !words.compareAndSet(index, current, current | mask)) {
+                current = words.get(index);
+            }
+        }
+    }
+
+    /**
+     * 원소가 있을 수도 있는지 확인
+     *
+     * @param value 원소
+     * @return false면 확실히 없음, true면 있을 수도 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = fnv1a(value);
+        long h1 = hash;
+        long h2 = mix(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비트 수
+     */
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * 해시 함수 수
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private static long fnv1a(String value) {
+        // 문자 단위로 계산해서 바이트 배열을 만들지 않음
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * MurmurHash3 fmix64 (두 번째 해시, 홀수로 맞춰 모든 위치를 돌 수 있게 함)
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash | 1L;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.wardrobe.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 실행 환경에 맞춘 BCrypt 인코더
+ *
+ * 시작 시 현재 머신에서 해시 한 번이 지연 예산 안에 들어오는 가장 큰 cost를 측정해서 사용합니다.
+ * 저장된 해시의 cost가 목표 cost보다 낮으면 upgradeEncoding이 true를 반환해서
+ * 로그인 성공 시 새 cost로 다시 해싱되도록 합니다. 더 느린 머신에서 목표 cost가 낮게 측정되더라도
+ * 이미 더 높은 cost로 저장된 해시를 낮추지는 않습니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final int MIN_BCRYPT_COST = 4;
+    private static final int MAX_BCRYPT_COST = 31;
+    private static final int PROBE_ROUNDS = 3;
+    private static final String PROBE_PASSWORD = "calibration-probe-password";
+
+    private final int cost;
+
+    /**
+     * 생성자
+     *
+     * @param cost BCrypt cost (log2 라운드 수)
+     */
+    public CalibratedBCryptPasswordEncoder(int cost) {
+        super(cost);
+        this.cost = cost;
+    }
+
+    /**
+     * 목표 cost
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * 저장된 해시의 cost가 목표 cost보다 낮으면 true
+     *
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 다시 해싱해야 하면 true
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedCost = costOf(encodedPassword);
+        return storedCost > 0 && storedCost < cost;
+    }
+
+    /**
+     * 지연 예산에 맞는 cost 측정
+     *
+     * minCost로 몇 번 해싱해서 가장 짧은 시간을 재고, cost가 1 오를 때마다 시간이 두 배가 된다고 보고
+     * 예산 안에 들어오는 가장 큰 cost를 고릅니다. minCost부터 예산을 넘으면 minCost를 사용합니다.
+     *
+     * @param budget 해시 한 번의 지연 예산
+     * @param minCost 최소 cost (보안 하한)
+     * @param maxCost 최대 cost
+     * @return 선택된 cost
+     */
+    public static int calibrate(Duration budget, int minCost, int maxCost) {
+        int lower = Math.max(MIN_BCRYPT_COST, minCost);
+        int upper = Math.min(MAX_BCRYPT_COST, Math.max(lower, maxCost));
+
+        long probeNanos = Long.MAX_VALUE;
+        BCrypt.hashpw(PROBE_PASSWORD, BCrypt.gensalt(lower)); // 워밍업
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(PROBE_PASSWORD, BCrypt.gensalt(lower));
+            probeNanos = Math.min(probeNanos, System.nanoTime() - start);
+        }
+
+        long budgetNanos = budget.toNanos();
+        int selected = lower;
+        long estimate = probeNanos;
+        while (selected < upper && estimate * 2 <= budgetNanos) {
+            estimate *= 2;
+            selected++;
+        }
+
+        log.info("BCrypt cost calibrated: cost={} (cost {} took {}ms, estimated {}ms, budget {}ms)",
+                selected, lower, probeNanos / 1_000_000, estimate / 1_000_000, budget.toMillis());
+        return selected;
+    }
+
+    /**
+     * BCrypt 해시에서 cost 추출 ($2a$10$... 형식)
+     *
+     * @param encodedPassword BCrypt 해시
+     * @return cost (형식이 아니면 -1)
+     */
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$'
+                || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.wardrobe.security;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 이 서비스가 발급한 HS256 토큰 전용 경량 검증기
+ *
+ * jjwt는 토큰마다 헤더/클레임 Map과 빌더, 새 Mac을 만듭니다. 이 검증기는 우리 토큰 형식만 처리합니다.
+ * - 헤더 세그먼트가 발급 시 헤더와 글자 단위로 같을 때만 처리하고, 아니면 null을 반환해 jjwt로 넘깁니다.
+ * - 스레드별 Mac과 작업 버퍼를 재사용하고, 계산한 서명을 Base64URL 바이트로 인코딩해서
+ *   토큰의 서명 세그먼트와 상수 시간으로 비교합니다 (디코딩 없음).
+ * - 클레임은 스트리밍 파서로 필요한 필드(sub, exp, iat, uid, roles, ver, jti)만 읽습니다.
+ *   모르는 클레임(nbf 등)이 있으면 jjwt로 넘깁니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public final class CompactHs256Verifier {
+
+    /**
+     * 서명 불일치, 만료 등 확실히 유효하지 않은 토큰 (null은 "처리할 수 없음"을 뜻함)
+     */
+    static final VerifiedToken REJECTED = new VerifiedToken(null, null, null, null, List.of(), null, null);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 32;
+    private static final int SIGNATURE_LENGTH = 43; // 32바이트의 패딩 없는 Base64URL 길이
+    private static final byte[] BASE64URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final int[] BASE64URL_INDEX = new int[128];
+
+    static {
+        Arrays.fill(BASE64URL_INDEX, -1);
+        for (int i = 0; i < BASE64URL.length; i++) {
+            BASE64URL_INDEX[BASE64URL[i]] = i;
+        }
+    }
+
+    private final String expectedHeader;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ThreadLocal<Scratch> scratch;
+
+    /**
+     * 생성자
+     *
+     * @param secretKey 서명 키 (발급에 사용하는 키와 같아야 함)
+     * @param expectedHeader 발급 토큰의 헤더 세그먼트 (Base64URL)
+     */
+    public CompactHs256Verifier(SecretKey secretKey, String expectedHeader) {
+        this.expectedHeader = expectedHeader;
+        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getEncoded(), ALGORITHM);
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(keySpec));
+    }
+
+    /**
+     * 토큰 검증
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임, 유효하지 않으면 REJECTED, 이 검증기가 처리할 수 없는 형식이면 null
+     */
+    public VerifiedToken verify(String token) {
+        int headerEnd = token.indexOf('.');
+        if (headerEnd != expectedHeader.length() || !token.startsWith(expectedHeader)) {
+            return null;
+        }
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.length() - payloadEnd - 1 != SIGNATURE_LENGTH
+                || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return REJECTED;
+        }
+
+        Scratch s = scratch.get();
+        byte[] signingInput = s.ascii(token, payloadEnd);
+        if (signingInput == null) {
+            return REJECTED;
+        }
+        if (!s.signatureMatches(signingInput, payloadEnd, token, payloadEnd + 1)) {
+            return REJECTED;
+        }
+
+        int payloadLength = s.decodePayload(signingInput, headerEnd + 1, payloadEnd);
+        if (payloadLength < 0) {
+            return REJECTED;
+        }
+        return readClaims(s.payload, payloadLength);
+    }
+
+    private VerifiedToken readClaims(byte[] json, int length) {
+        String subject = null;
+        String tokenId = null;
+        Long issuedAt = null;
+        Long expiresAt = null;
+        Long userId = null;
+        Long tokenVersion = null;
+        List<String> roles = List.of();
+
+        try (JsonParser parser = jsonFactory.createParser(json, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "sub" -> subject = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "jti" -> tokenId = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "iat" -> issuedAt = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                    case "exp" -> expiresAt = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                    case JwtTokenProvider.CLAIM_USER_ID ->
+                            userId = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                    case JwtTokenProvider.CLAIM_TOKEN_VERSION ->
+                            tokenVersion = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                    case JwtTokenProvider.CLAIM_ROLES -> {
+                        if (value != JsonToken.START_ARRAY) {
+                            return null;
+                        }
+                        List<String> values = new ArrayList<>(2);
+                        while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                            values.add(parser.getText());
+                        }
+                        if (parser.currentToken() != JsonToken.END_ARRAY) {
+                            return null;
+                        }
+                        roles = List.copyOf(values);
+                    }
+                    default -> {
+                        return null; // 모르는 클레임은 jjwt가 판단
+                    }
+                }
+            }
+        } catch (Exception e) {
+            return null;
+        }
+
+        if (expiresAt == null) {
+            return REJECTED;
+        }
+        Instant expiration = Instant.ofEpochSecond(expiresAt);
+        if (!expiration.isAfter(Instant.now())) {
+            return REJECTED;
+        }
+        return new VerifiedToken(
+                subject,
+                issuedAt != null ? Instant.ofEpochSecond(issuedAt) : null,
+                expiration,
+                userId,
+                roles,
+                tokenVersion,
+                tokenId
+        );
+    }
+
+    /**
+     * 스레드별 Mac과 작업 버퍼
+     */
+    private static final class Scratch {
+        private final Mac mac;
+        private final byte[] macOut = new byte[MAC_LENGTH];
+        private byte[] input = new byte[512];
+        private byte[] payload = new byte[384];
+
+        private Scratch(SecretKeySpec keySpec) {
+            try {
+                this.mac = Mac.getInstance(ALGORITHM);
+                this.mac.init(keySpec);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        }
+
+        /**
+         * 토큰 앞부분(header.payload)을 ASCII 바이트로 복사 (ASCII가 아니면 null)
+         */
+        private byte[] ascii(String token, int length) {
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = token.charAt(i);
+                if (c >= 128) {
+                    return null;
+                }
+                input[i] = (byte) c;
+            }
+            return input;
+        }
+
+        /**
+         * HMAC을 계산해서 Base64URL로 인코딩하며 토큰 서명과 상수 시간 비교
+         */
+        private boolean signatureMatches(byte[] signingInput, int length, String token, int signatureStart) {
+            try {
+                mac.update(signingInput, 0, length);
+                mac.doFinal(macOut, 0);
+            } catch (ShortBufferException e) {
+                mac.reset();
+                return false;
+            }
+
+            int diff = 0;
+            int out = signatureStart;
+            int i = 0;
+            for (; i + 3 <= MAC_LENGTH; i += 3) {
+                int bits = (macOut[i] & 0xff) << 16 | (macOut[i + 1] & 0xff) << 8 | (macOut[i + 2] & 0xff);
+                diff |= BASE64URL[(bits >>> 18) & 0x3f] ^ token.charAt(out++);
+                diff |= BASE64URL[(bits >>> 12) & 0x3f] ^ token.charAt(out++);
+                diff |= BASE64URL[(bits >>> 6) & 0x3f] ^ token.charAt(out++);
+                diff |= BASE64URL[bits & 0x3f] ^ token.charAt(out++);
+            }
+            // 남은 2바이트 -> 3글자
+            int bits = (macOut[i] & 0xff) << 16 | (macOut[i + 1] & 0xff) << 8;
+            diff |= BASE64URL[(bits >>> 18) & 0x3f] ^ token.charAt(out++);
+            diff |= BASE64URL[(bits >>> 12) & 0x3f] ^ token.charAt(out++);
+            diff |= BASE64URL[(bits >>> 6) & 0x3f] ^ token.charAt(out);
+            return diff == 0;
+        }
+
+        /**
+         * 페이로드 세그먼트를 Base64URL 디코딩
+         *
+         * @return 디코딩된 길이 (형식이 잘못되면 -1)
+         */
+        private int decodePayload(byte[] source, int start, int end) {
+            int length = end - start;
+            if (length % 4 == 1) {
+                return -1;
+            }
+            int maxDecoded = length * 3 / 4;
+            if (payload.length < maxDecoded) {
+                payload = new byte[Math.max(maxDecoded, payload.length * 2)];
+            }
+
+            int out = 0;
+            int bits = 0;
+            int bitCount = 0;
+            for (int i = start; i < end; i++) {
+                int value = BASE64URL_INDEX[source[i]];
+                if (value < 0) {
+                    return -1;
+                }
+                bits = bits << 6 | value;
+                bitCount += 6;
+                if (bitCount >= 8) {
+                    bitCount -= 8;
+                    payload[out++] = (byte) (bits >>> bitCount);
+                }
+            }
+            return out;
+        }
+    }
+}
@@ -2,10 +2,11 @@ package com.example.wardrobe.security;
 
 import com.example.wardrobe.common.exception.ErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
@@ -17,15 +18,28 @@ import java.io.IOException;
  * 인가 실패 시 처리하는 Handler
  * 
  * 인증은 되었지만 권한이 없을 때 403 Forbidden 응답을 반환합니다.
+ * 응답 본문은 미리 만들어 둔 ObjectWriter로 직렬화합니다.
  * 
  * @author Closet Canvas Team
  * @since 1.0
  */
 @Component
-@RequiredArgsConstructor
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper objectMapper;
+    private static final String MESSAGE = "접근 권한이 없습니다.";
+
+    private final ObjectWriter errorWriter;
+
+    /**
+     * 생성자
+     * 
+     * @param objectMapper 애플리케이션 ObjectMapper
+     */
+    public CustomAccessDeniedHandler(ObjectMapper objectMapper) {
+        // 주입된 ObjectMapper 설정과 관계없이 timestamp는 ISO-8601 문자열로 (GlobalExceptionHandler 응답과 같은 형식)
+        this.errorWriter = objectMapper.writerFor(ErrorResponse.class)
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
 
     @Override
     public void handle(
@@ -35,14 +49,13 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
         
         ErrorResponse errorResponse = ErrorResponse.of(
                 403,
-                "접근 권한이 없습니다.",
+                MESSAGE,
                 request.getRequestURI()
         );
 
         response.setStatus(HttpServletResponse.SC_FORBIDDEN);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding("UTF-8");
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        response.getWriter().write(errorWriter.writeValueAsString(errorResponse));
     }
 }
-
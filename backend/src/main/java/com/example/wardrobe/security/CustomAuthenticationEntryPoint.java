@@ -2,10 +2,11 @@ package com.example.wardrobe.security;
 
 import com.example.wardrobe.common.exception.ErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
@@ -17,15 +18,28 @@ import java.io.IOException;
  * 인증 실패 시 처리하는 EntryPoint
  * 
  * 인증이 필요한 리소스에 인증 없이 접근할 때 401 Unauthorized 응답을 반환합니다.
+ * 스캐너 트래픽에서 가장 자주 만들어지는 응답이라, ErrorResponse 전용 ObjectWriter를 한 번만 만들어 두고 재사용합니다.
  * 
  * @author Closet Canvas Team
  * @since 1.0
  */
 @Component
-@RequiredArgsConstructor
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper;
+    private static final String MESSAGE = "인증이 필요합니다. 로그인 후 다시 시도해주세요.";
+
+    private final ObjectWriter errorWriter;
+
+    /**
+     * 생성자
+     * 
+     * @param objectMapper 애플리케이션 ObjectMapper (날짜 형식 등 설정 공유)
+     */
+    public CustomAuthenticationEntryPoint(ObjectMapper objectMapper) {
+        // 주입된 ObjectMapper 설정과 관계없이 timestamp는 ISO-8601 문자열로 (GlobalExceptionHandler 응답과 같은 형식)
+        this.errorWriter = objectMapper.writerFor(ErrorResponse.class)
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
 
     @Override
     public void commence(
@@ -35,14 +49,13 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
         
         ErrorResponse errorResponse = ErrorResponse.of(
                 401,
-                "인증이 필요합니다. 로그인 후 다시 시도해주세요.",
+                MESSAGE,
                 request.getRequestURI()
         );
 
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding("UTF-8");
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        response.getWriter().write(errorWriter.writeValueAsString(errorResponse));
     }
 }
-
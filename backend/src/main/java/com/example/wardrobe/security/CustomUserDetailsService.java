@@ -1,7 +1,7 @@
 package com.example.wardrobe.security;
 
-import com.example.wardrobe.domain.user.entity.User;
-import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.example.wardrobe.domain.user.dto.CachedUser;
+import com.example.wardrobe.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -23,7 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * 이메일로 사용자를 조회하여 UserDetails를 반환합니다.
@@ -34,15 +34,14 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        CachedUser user = userCache.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
-        // TODO: JWT 구현 시 실제 UserDetails 반환 로직 추가
-        // 현재는 구조만 준비되어 있음
+        // JWT 인증 정보로만 사용하므로 비밀번호 해시는 담지 않음 (로그인 시 비밀번호 확인은 AuthService)
         return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword() != null ? user.getPassword() : "")
-                .authorities("ROLE_USER")
+                .username(user.email())
+                .password("")
+                .authorities(user.role().getAuthority())
                 .build();
     }
 }
@@ -1,14 +1,27 @@
 package com.example.wardrobe.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
@@ -16,26 +29,97 @@ import java.util.Date;
  * JWT 토큰의 생성, 파싱, 검증을 담당합니다.
  * HS256 알고리즘을 사용하며, 만료시간은 30분입니다.
  * 
+ * 파서는 생성 시 한 번만 만들고, 검증에 성공한 토큰의 클레임은 토큰 SHA-256 다이제스트를 키로
+ * 만료 시각까지 캐시합니다. 같은 토큰으로 들어오는 요청은 서명 검증과 JSON 파싱을 다시 하지 않습니다.
+ * 검증에 실패한 토큰은 캐시하지 않습니다.
+ * 
+ * 토큰에는 사용자 ID(uid), 권한(roles), 토큰 버전(ver) 클레임이 함께 담겨서
+ * 요청마다 사용자를 DB에서 다시 읽지 않고 인증 정보를 만들 수 있습니다.
+ * 
+ * 캐시에 없는 토큰은 jjwt 파서로 검증합니다. jwt.compact-verifier.enabled=true(기본 false)이면
+ * CompactHs256Verifier로 먼저 검증하고, 이 서비스의 HS256 토큰 형식이 아닌 경우(이전에 발급된 HS384 토큰 등)에만
+ * jjwt 파서를 사용합니다.
+ * 발급은 항상 jjwt가 담당합니다.
+ * 
  * @author Closet Canvas Team
  * @since 1.0
  */
 @Component
 public class JwtTokenProvider {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
     private final SecretKey secretKey;
     private final long tokenValidityInMilliseconds;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final CompactHs256Verifier compactVerifier;
+
+    /**
+     * 생성자 (jjwt 파서만 사용)
+     * 
+     * @param secret JWT 서명에 사용할 시크릿 키
+     * @param tokenValidityInSeconds 토큰 유효기간 (초)
+     * @param cacheMaxSize 검증된 토큰 캐시 최대 크기 (0이면 캐시 사용 안 함)
+     */
+    public JwtTokenProvider(String secret, long tokenValidityInSeconds, long cacheMaxSize) {
+        this(secret, tokenValidityInSeconds, cacheMaxSize, false);
+    }
 
     /**
      * 생성자
      * 
      * @param secret JWT 서명에 사용할 시크릿 키
      * @param tokenValidityInSeconds 토큰 유효기간 (초)
+     * @param cacheMaxSize 검증된 토큰 캐시 최대 크기 (0이면 캐시 사용 안 함)
+     * @param compactVerifierEnabled 캐시에 없는 토큰을 경량 검증기로 먼저 검증할지 여부
      */
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret:defaultSecretKeyForDevelopmentOnlyChangeInProduction}") String secret,
-            @Value("${jwt.expiration:1800}") long tokenValidityInSeconds) {
+            @Value("${jwt.expiration:1800}") long tokenValidityInSeconds,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.compact-verifier.enabled:false}") boolean compactVerifierEnabled) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.compactVerifier = compactVerifierEnabled
+                ? new CompactHs256Verifier(secretKey, issuedHeader(secretKey))
+                : null;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return Math.max(0, value.expiresAt().toEpochMilli() - System.currentTimeMillis()) * 1_000_000L;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     /**
@@ -52,24 +136,74 @@ public class JwtTokenProvider {
                 .subject(email)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(secretKey)
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    /**
+     * 사용자 클레임을 포함한 JWT 토큰 생성
+     * 
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param roles 권한 목록 (예: ROLE_USER)
+     * @param tokenVersion 사용자 토큰 버전
+     * @return 생성된 JWT 토큰
+     */
+    public String generateToken(Long userId, String email, Collection<String> roles, long tokenVersion) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + tokenValidityInMilliseconds);
+
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(email)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_ROLES, List.copyOf(roles))
+                .claim(CLAIM_TOKEN_VERSION, tokenVersion)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
 
+    /**
+     * JWT 토큰 검증
+     * 
+     * 캐시에 있으면 캐시된 클레임을 반환하고, 없으면 서명/만료를 한 번 검증한 뒤 캐시에 저장합니다.
+     * 
+     * @param token JWT 토큰
+     * @return 검증된 토큰 클레임 (유효하지 않으면 null)
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        String key = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = parse(token);
+        if (verified != null) {
+            verifiedTokens.put(key, verified);
+        }
+        return verified;
+    }
+
     /**
      * JWT 토큰에서 이메일 추출
      * 
      * @param token JWT 토큰
      * @return 사용자 이메일
+     * @throws JwtException 유효하지 않은 토큰인 경우
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            throw new JwtException("Invalid JWT token");
+        }
+        return verified.subject();
     }
 
     /**
@@ -79,15 +213,7 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token) != null;
     }
 
     /**
@@ -97,17 +223,82 @@ public class JwtTokenProvider {
      * @return 만료되었으면 true, 아니면 false
      */
     public boolean isTokenExpired(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+        VerifiedToken verified = verify(token);
+        return verified == null || !verified.expiresAt().isAfter(Instant.now());
+    }
 
-            return claims.getExpiration().before(new Date());
+    /**
+     * Authorization 헤더 값에서 Bearer 토큰 추출
+     * 
+     * @param authorizationHeader Authorization 헤더 값
+     * @return 토큰 (없거나 Bearer 형식이 아니면 null)
+     */
+    public static String resolveBearerToken(String authorizationHeader) {
+        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)
+                && authorizationHeader.length() > BEARER_PREFIX.length()) {
+            return authorizationHeader.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+
+    private VerifiedToken parse(String token) {
+        if (compactVerifier != null) {
+            VerifiedToken compact = compactVerifier.verify(token);
+            if (compact == CompactHs256Verifier.REJECTED) {
+                return null;
+            }
+            if (compact != null) {
+                return compact;
+            }
+        }
+        return parseWithJjwt(token);
+    }
+
+    /**
+     * jjwt 파서로 검증 (경량 검증기가 처리하지 못하는 형식의 토큰)
+     */
+    VerifiedToken parseWithJjwt(String token) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                return null; // 이 서비스가 발급한 토큰은 항상 만료 시각이 있음 (캐시 만료 기준)
+            }
+            return new VerifiedToken(
+                    claims.getSubject(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration().toInstant(),
+                    longClaim(claims.get(CLAIM_USER_ID)),
+                    rolesClaim(claims.get(CLAIM_ROLES)),
+                    longClaim(claims.get(CLAIM_TOKEN_VERSION)),
+                    claims.getId()
+            );
         } catch (Exception e) {
-            return true;
+            return null;
+        }
+    }
+
+    /**
+     * 발급하는 토큰의 헤더 세그먼트 (경량 검증기가 처리할 형식)
+     */
+    private static String issuedHeader(SecretKey key) {
+        String probe = Jwts.builder().subject("probe").signWith(key, Jwts.SIG.HS256).compact();
+        return probe.substring(0, probe.indexOf('.'));
+    }
+
+    private static Long longClaim(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    private static List<String> rolesClaim(Object value) {
+        if (!(value instanceof Collection<?> collection)) {
+            return List.of();
         }
+        return collection.stream().map(String::valueOf).toList();
+    }
+
+    private static String digest(String token) {
+        MessageDigest digest = SHA_256.get();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
     }
 }
 
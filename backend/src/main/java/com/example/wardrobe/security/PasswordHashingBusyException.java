@@ -0,0 +1,19 @@
+package com.example.wardrobe.security;
+
+/**
+ * 비밀번호 해싱 대기열 포화 예외
+ * 
+ * 비밀번호 해싱 대기열이 가득 차서 회원가입/로그인 요청을 처리할 수 없을 때 발생하는 예외입니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    /**
+     * 생성자
+     */
+    public PasswordHashingBusyException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
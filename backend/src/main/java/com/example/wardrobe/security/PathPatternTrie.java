@@ -0,0 +1,116 @@
+package com.example.wardrobe.security;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 경로 패턴 트라이
+ * 
+ * "/a/b" (정확히 일치)와 "/a/**" ("/a" 자신과 그 하위 경로 전체) 두 가지 패턴만 지원하는 문자 단위 트라이입니다.
+ * 요청 경로를 한 번 훑으면서 일치 여부를 판단하며, 매칭 중에는 객체를 만들지 않습니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public final class PathPatternTrie {
+
+    private static final String SUBTREE_SUFFIX = "/**";
+
+    private final Node root = new Node();
+
+    /**
+     * 패턴 목록으로 트라이 생성
+     * 
+     * @param patterns 경로 패턴 ("/exact" 또는 "/prefix/**")
+     * @throws IllegalArgumentException 지원하지 않는 패턴인 경우
+     */
+    public PathPatternTrie(Collection<String> patterns) {
+        for (String pattern : patterns) {
+            add(pattern);
+        }
+    }
+
+    /**
+     * 경로가 패턴 중 하나와 일치하는지 확인
+     * 
+     * @param path 요청 경로 (컨텍스트 경로 제외, 쿼리 스트링 제외)
+     * @return 일치하면 true
+     */
+    public boolean matches(String path) {
+        if (path == null || path.isEmpty()) {
+            return false;
+        }
+        Node node = root;
+        int length = path.length();
+        for (int i = 0; i < length; i++) {
+            char c = path.charAt(i);
+            // "/prefix/**"는 "/prefix" 다음이 '/'이면 일치
+            if (node.subtree && c == '/') {
+                return true;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.exact || node.subtree;
+    }
+
+    private void add(String pattern) {
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("Path pattern must start with '/': " + pattern);
+        }
+
+        boolean subtree = pattern.endsWith(SUBTREE_SUFFIX);
+        String literal = subtree ? pattern.substring(0, pattern.length() - SUBTREE_SUFFIX.length()) : pattern;
+        if (literal.contains("*")) {
+            throw new IllegalArgumentException("Only exact paths and trailing '/**' are supported: " + pattern);
+        }
+
+        Node node = root;
+        for (int i = 0; i < literal.length(); i++) {
+            node = node.childOrCreate(literal.charAt(i));
+        }
+        if (subtree) {
+            if (literal.isEmpty()) {
+                throw new IllegalArgumentException("'/**' would match every path");
+            }
+            node.subtree = true;
+        } else {
+            node.exact = true;
+        }
+    }
+
+    /**
+     * 트라이 노드 (자식 수가 적으므로 배열 선형 탐색)
+     */
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean exact;
+        private boolean subtree;
+
+        private Node child(char c) {
+            char[] k = keys;
+            for (int i = 0; i < k.length; i++) {
+                if (k[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node existing = child(c);
+            if (existing != null) {
+                return existing;
+            }
+            Node created = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = c;
+            children[children.length - 1] = created;
+            return created;
+        }
+    }
+}
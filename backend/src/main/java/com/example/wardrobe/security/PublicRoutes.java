@@ -0,0 +1,117 @@
+package com.example.wardrobe.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공개 경로 목록 (인증 불필요)
+ * 
+ * SecurityConfig의 permitAll 설정과 JwtAuthenticationFilter의 필터 제외 판단이 모두 이 목록을 사용합니다.
+ * 경로를 추가/삭제할 때는 이 클래스만 수정합니다.
+ * 
+ * 패턴은 "/exact" 또는 "/prefix/**" 형식만 지원합니다. ("/prefix/**"는 "/prefix" 자신도 포함)
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public final class PublicRoutes {
+
+    /**
+     * API 문서 (Swagger UI, OpenAPI) - Security 필터 체인 자체를 우회
+     */
+    public static final List<String> API_DOCS = List.of(
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/v3/api-docs/**",
+            "/v3/api-docs.yaml",
+            "/v3/api-docs.yml",
+            "/swagger-resources/**",
+            "/webjars/**"
+    );
+
+    /**
+     * 그 외 공개 경로
+     */
+    public static final List<String> PERMIT_ALL = List.of(
+            // Health 체크 (배포 환경 모니터링용 - 클라우드타입 등에서 필요)
+            "/api/v1/health/**",
+            "/",
+            "/health",
+            "/healthz",
+            "/actuator/**",
+
+            // 인증 관련 (로그인, 회원가입)
+            "/api/v1/auth/**",
+            "/api/v1/users/signup",
+
+            // 공개 API (임시로 인증 불필요)
+            "/api/v1/feature1/**",
+            "/api/v1/recommend/**",
+
+            // 어드민 분석 API (인증 불필요 - 공개 통계 데이터, PROTECTED 제외)
+            "/api/v1/admin/analytics/**",
+
+            // Spring Boot 기본 경로 (에러 핸들러 등)
+            "/error/**",
+
+            // 개발 환경 전용 (H2 콘솔 - 프로덕션에서는 비활성화 권장)
+            "/h2-console/**"
+    );
+
+    /**
+     * 공개 경로 아래에 있지만 인증이 필요한 경로 (PERMIT_ALL보다 우선)
+     */
+    public static final List<String> PROTECTED = List.of(
+            // 원시 이벤트 내보내기 (요청 경로, Referer 등 원본 로그 포함 - ADMIN 전용)
+            "/api/v1/admin/analytics/export/**",
+            // 클러스터 집계 (피어 노드 호출 - ADMIN 전용)
+            "/api/v1/admin/analytics/cluster/**",
+            // 노드별 부분 집계 (피어 공유 비밀값 필요 - SecurityConfig 참고)
+            "/api/v1/admin/analytics/partial/**"
+    );
+
+    private static final PathPatternTrie API_DOCS_TRIE = new PathPatternTrie(API_DOCS);
+    private static final PathPatternTrie ALL_TRIE = new PathPatternTrie(concat(API_DOCS, PERMIT_ALL));
+    private static final PathPatternTrie PROTECTED_TRIE = new PathPatternTrie(PROTECTED);
+
+    /**
+     * API 문서 경로 RequestMatcher
+     */
+    public static final RequestMatcher API_DOCS_MATCHER = request -> API_DOCS_TRIE.matches(pathOf(request));
+
+    /**
+     * 전체 공개 경로 RequestMatcher
+     */
+    public static final RequestMatcher PUBLIC_MATCHER = request -> isPublic(pathOf(request));
+
+    private PublicRoutes() {
+    }
+
+    /**
+     * 공개 경로인지 확인
+     * 
+     * @param path 요청 경로 (컨텍스트 경로 제외)
+     * @return 공개 경로면 true
+     */
+    public static boolean isPublic(String path) {
+        return ALL_TRIE.matches(path) && !PROTECTED_TRIE.matches(path);
+    }
+
+    /**
+     * 요청에서 컨텍스트 경로를 제외한 경로 추출
+     */
+    static String pathOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath == null || contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.wardrobe.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 (락 없음, 스트라이프 분할)
+ *
+ * 버킷 하나는 "다음 토큰이 완전히 채워지는 이론적 시각"(GCRA의 TAT) long 값 하나로 표현되어
+ * CAS 한 번으로 토큰을 꺼냅니다. 키는 해시로 스트라이프(ConcurrentHashMap)에 나뉘어 저장됩니다.
+ * - 최대 capacity개까지 연속 허용하고, 이후 refillInterval마다 1개씩 채워집니다.
+ * - TAT가 현재 시각 이전인 버킷은 가득 찬 상태와 같으므로 evictIdle에서 제거해도 동작이 바뀌지 않습니다.
+ * - 스트라이프당 키 수가 maxKeysPerStripe에 도달하면 그 스트라이프의 가득 찬 버킷을 먼저 정리하고,
+ *   그래도 자리가 없으면 새 키는 거절합니다 (메모리 상한, 키를 바꿔 가며 제한을 피하지 못하게 함).
+ *   정리는 스트라이프마다 충전 간격에 한 번만 하므로 가득 찬 상태에서 요청마다 전체를 훑지 않습니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public final class StripedTokenBucketLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeysPerStripe;
+    private final LongSupplier nanoClock;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    /**
+     * 생성자
+     *
+     * @param capacity 버킷 크기 (연속으로 허용되는 최대 횟수)
+     * @param refillIntervalNanos 토큰 1개가 채워지는 간격 (나노초)
+     * @param stripeCount 스트라이프 수 (2의 거듭제곱으로 올림)
+     * @param maxKeysPerStripe 스트라이프당 최대 키 수
+     * @param nanoClock 단조 증가 시계 (보통 System::nanoTime)
+     */
+    public StripedTokenBucketLimiter(int capacity, long refillIntervalNanos, int stripeCount, int maxKeysPerStripe,
+                                     LongSupplier nanoClock) {
+        if (capacity < 1 || refillIntervalNanos < 1) {
+            throw new IllegalArgumentException("capacity and refill interval must be positive");
+        }
+        this.emissionIntervalNanos = refillIntervalNanos;
+        this.burstToleranceNanos = refillIntervalNanos * (capacity - 1);
+        this.maxKeysPerStripe = maxKeysPerStripe;
+        this.nanoClock = nanoClock;
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * 토큰 1개 꺼내기
+     *
+     * @param key 버킷 키
+     * @return 허용되면 0, 아니면 다시 시도하기까지 기다려야 하는 시간 (나노초)
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripeFor(key);
+        AtomicLong tat = stripe.buckets.get(key);
+        if (tat == null) {
+            if (stripe.buckets.size() >= maxKeysPerStripe && !stripe.makeRoom(now)) {
+                return emissionIntervalNanos;
+            }
+            tat = stripe.buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = tat.get();
+            long base = Math.max(current, now);
+            long wait = base - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬(더 이상 제한 중이 아닌) 버킷 제거
+     *
+     * @return 제거한 키 수
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            removed += stripe.evictIdle(now);
+        }
+        return Math.max(0, removed);
+    }
+
+    /**
+     * 현재 추적 중인 키 수
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & stripeMask];
+    }
+
+    private final class Stripe {
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweepNanos = new AtomicLong(nanoClock.getAsLong());
+
+        private int evictIdle(long now) {
+            int before = buckets.size();
+            buckets.values().removeIf(tat -> tat.get() <= now);
+            return before - buckets.size();
+        }
+
+        /**
+         * 가득 찬 스트라이프에서 가득 찬 버킷 정리 (충전 간격에 한 번, 한 스레드만)
+         *
+         * @return 새 키를 넣을 자리가 있으면 true
+         */
+        private boolean makeRoom(long now) {
+            long next = nextSweepNanos.get();
+            if (now - next >= 0 && nextSweepNanos.compareAndSet(next, now + emissionIntervalNanos)) {
+                evictIdle(now);
+            }
+            return buckets.size() < maxKeysPerStripe;
+        }
+    }
+}
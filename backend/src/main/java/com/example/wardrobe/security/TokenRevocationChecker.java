@@ -0,0 +1,134 @@
+package com.example.wardrobe.security;
+
+import com.example.wardrobe.domain.auth.entity.RevokedToken;
+import com.example.wardrobe.domain.auth.repository.RevokedTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 폐기 여부 검사기
+ * 
+ * 폐기된 토큰 ID(jti)는 DB(revoked_tokens)에 저장하고, 메모리에는 Bloom 필터만 둡니다.
+ * 대부분의 요청(폐기되지 않은 토큰)은 Bloom 필터에서 "없음"으로 끝나서 DB를 조회하지 않고,
+ * 필터가 "있을 수도 있음"이라고 할 때만 DB로 확인합니다 (결과는 짧게 캐시).
+ * 
+ * Bloom 필터는 주기적으로 DB에서 다시 만들고, 이때 만료된 행도 삭제합니다.
+ * 같은 노드에서 폐기한 토큰은 즉시, 다른 노드에서 폐기한 토큰은 최대 재구성 주기 후에 거부됩니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class TokenRevocationChecker {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int minExpectedInsertions;
+    private final double falsePositiveRate;
+    private final Cache<String, Boolean> lookups;
+    private final Set<String> revokedLocally = ConcurrentHashMap.newKeySet();
+
+    private volatile BloomFilter filter;
+
+    /**
+     * 생성자
+     * 
+     * @param revokedTokenRepository 폐기 토큰 Repository
+     * @param minExpectedInsertions Bloom 필터 최소 크기 (예상 원소 수)
+     * @param falsePositiveRate Bloom 필터 목표 오탐률
+     * @param lookupCacheTtl DB 확인 결과 캐시 유지 시간
+     */
+    public TokenRevocationChecker(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${jwt.revocation.bloom.min-expected:10000}") int minExpectedInsertions,
+            @Value("${jwt.revocation.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${jwt.revocation.lookup-cache-ttl:60s}") Duration lookupCacheTtl) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.lookups = Caffeine.newBuilder()
+                .maximumSize(minExpectedInsertions)
+                .expireAfterWrite(lookupCacheTtl)
+                .build();
+        this.filter = new BloomFilter(minExpectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인
+     * 
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(String tokenId) {
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        if (revokedLocally.contains(tokenId)) {
+            return true;
+        }
+        return lookups.get(tokenId, revokedTokenRepository::existsById);
+    }
+
+    /**
+     * 토큰 폐기
+     * 
+     * @param tokenId 토큰 ID (jti)
+     * @param userId 사용자 ID
+     * @param expiresAt 토큰 만료 시각
+     */
+    public void revoke(String tokenId, Long userId, Instant expiresAt) {
+        if (!revokedTokenRepository.existsById(tokenId)) {
+            revokedTokenRepository.save(new RevokedToken(
+                    tokenId, userId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+        }
+        revokedLocally.add(tokenId);
+        filter.add(tokenId);
+        lookups.put(tokenId, true);
+    }
+
+    /**
+     * 만료된 폐기 토큰을 삭제하고 Bloom 필터 재구성
+     */
+    @Scheduled(
+            fixedDelayString = "${jwt.revocation.rebuild-interval-ms:60000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:60000}"
+    )
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = revokedTokenRepository.deleteExpired(now);
+
+        List<String> snapshotLocal = List.copyOf(revokedLocally);
+        List<String> tokenIds = revokedTokenRepository.findActiveTokenIds(now);
+        BloomFilter rebuilt = new BloomFilter(
+                Math.max(minExpectedInsertions, tokenIds.size() * 2), falsePositiveRate);
+        tokenIds.forEach(rebuilt::add);
+        snapshotLocal.forEach(rebuilt::add);
+        this.filter = rebuilt;
+
+        // 교체 직전에 이전 필터에만 추가된 토큰도 새 필터에 반영
+        revokedLocally.forEach(rebuilt::add);
+        snapshotLocal.forEach(revokedLocally::remove);
+        lookups.invalidateAll();
+
+        log.debug("Token revocation filter rebuilt: {} active, {} purged, {} bits",
+                tokenIds.size(), purged, rebuilt.getBitCount());
+    }
+}
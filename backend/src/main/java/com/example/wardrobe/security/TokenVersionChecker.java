@@ -0,0 +1,81 @@
+package com.example.wardrobe.security;
+
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * JWT 토큰 버전 검사기
+ * 
+ * 토큰의 ver 클레임이 사용자의 현재 토큰 버전과 같은지 확인합니다.
+ * 사용자별 현재 버전은 짧은 TTL로 캐시하므로, 요청마다 DB를 조회하지 않습니다.
+ * 버전이 올라가면 같은 노드에서는 evict로 즉시, 다른 노드에서는 최대 TTL 후 기존 토큰이 거부됩니다.
+ * 
+ * 캐시에 없을 때의 조회는 복제본이 아니라 primary에서 합니다 (새 쓰기 트랜잭션).
+ * 복제 지연 중에는 복제본에 방금 가입한 사용자가 없거나 올라가기 전 버전이 남아 있을 수 있기 때문입니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Component
+public class TokenVersionChecker {
+
+    private static final long MISSING_USER = -1L;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate primaryRead;
+    private final Cache<Long, Long> currentVersions;
+
+    /**
+     * 생성자
+     * 
+     * @param userRepository 사용자 Repository
+     * @param transactionManager primary 조회 트랜잭션에 사용할 트랜잭션 매니저
+     * @param cacheTtl 사용자별 토큰 버전 캐시 유지 시간
+     * @param cacheMaxSize 캐시 최대 크기
+     */
+    public TokenVersionChecker(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${jwt.token-version.cache-ttl:30s}") Duration cacheTtl,
+            @Value("${jwt.token-version.cache-max-size:100000}") long cacheMaxSize) {
+        this.userRepository = userRepository;
+        // 읽기 전용 트랜잭션 안에서 호출돼도 복제본으로 라우팅되지 않도록 항상 새 쓰기 트랜잭션으로 조회
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryRead.setReadOnly(false);
+        this.currentVersions = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * 토큰 버전이 현재 버전인지 확인
+     * 
+     * @param userId 사용자 ID
+     * @param tokenVersion 토큰의 ver 클레임
+     * @return 현재 버전이면 true (사용자가 없으면 false)
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        long current = currentVersions.get(userId,
+                id -> primaryRead.execute(status -> userRepository.findTokenVersionById(id).orElse(MISSING_USER)));
+        return current != MISSING_USER && current == tokenVersion;
+    }
+
+    /**
+     * 사용자의 캐시된 토큰 버전 제거 (버전이 바뀐 뒤 호출)
+     * 
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        currentVersions.invalidate(userId);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.wardrobe.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 JWT 토큰의 클레임
+ * 
+ * JwtTokenProvider.verify가 반환하며, 만료 시각까지 캐시에 보관됩니다.
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public record VerifiedToken(
+        /**
+         * 토큰 주체 (사용자 이메일)
+         */
+        String subject,
+
+        /**
+         * 발급 시각
+         */
+        Instant issuedAt,
+
+        /**
+         * 만료 시각
+         */
+        Instant expiresAt,
+
+        /**
+         * 사용자 ID (uid 클레임, 이전 형식 토큰이면 null)
+         */
+        Long userId,
+
+        /**
+         * 권한 목록 (roles 클레임, 없으면 빈 목록)
+         */
+        List<String> roles,
+
+        /**
+         * 토큰 버전 (ver 클레임, 이전 형식 토큰이면 null)
+         */
+        Long tokenVersion,
+
+        /**
+         * 토큰 ID (jti 클레임, 폐기 확인용, 이전 형식 토큰이면 null)
+         */
+        String tokenId
+) {
+
+    /**
+     * DB 조회 없이 클레임만으로 인증 정보를 만들 수 있는 토큰인지 여부
+     */
+    public boolean hasPrincipalClaims() {
+        return userId != null && tokenVersion != null && !roles.isEmpty();
+    }
+}
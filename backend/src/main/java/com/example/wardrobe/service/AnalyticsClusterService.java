@@ -0,0 +1,212 @@
+package com.example.wardrobe.service;
+
+import com.example.wardrobe.domain.analytics.dto.AnalyticsPartial;
+import com.example.wardrobe.domain.analytics.dto.ClusterAnalyticsResponse;
+import com.example.wardrobe.domain.analytics.service.MetricRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 멀티 노드 분석 집계 서비스 (코디네이터)
+ *
+ * 각 백엔드 인스턴스는 자신의 로그 파일만 볼 수 있으므로,
+ * 코디네이터 모드에서는 설정된 피어 노드들의 partial을 병렬로 조회해서 로컬 partial과 병합합니다.
+ *
+ * 설정:
+ * - analytics.cluster.coordinator: 코디네이터 모드 활성화 (기본 false)
+ * - analytics.cluster.peers: 피어 노드 base URL 목록 (쉼표 구분, 예: http://localhost:8081,http://localhost:8082)
+ * - analytics.cluster.timeout-ms: 피어별 응답 대기 시간 (기본 2000ms)
+ * - analytics.cluster.secret: 노드 간 공유 비밀값 (partial 요청 시 X-Analytics-Peer-Secret 헤더로 전송)
+ *
+ * partial API는 같은 공유 비밀값을 헤더로 보낸 피어만 호출할 수 있습니다.
+ * 비밀값이 설정되지 않은 노드는 모든 partial 요청을 거부합니다.
+ *
+ * 타임아웃/오류가 난 피어는 결과에서 제외하고 failedPeers에 기록합니다.
+ * 응답에는 MetricRegistry에 정의된 메트릭이 모두 포함됩니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class AnalyticsClusterService {
+
+    /**
+     * 피어 간 공유 비밀값 헤더
+     */
+    public static final String PEER_SECRET_HEADER = "X-Analytics-Peer-Secret";
+
+    private static final String PARTIAL_PATH = "/api/v1/admin/analytics/partial";
+
+    private final AnalyticsService analyticsService;
+    private final MetricRegistry metricRegistry;
+    private final RestTemplate restTemplate;
+    private final List<String> peers;
+    private final boolean coordinator;
+    private final long timeoutMillis;
+    private final byte[] peerSecret;
+    private final ExecutorService executor;
+
+    public AnalyticsClusterService(
+            AnalyticsService analyticsService,
+            MetricRegistry metricRegistry,
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${analytics.cluster.peers:}") String[] peers,
+            @Value("${analytics.cluster.coordinator:false}") boolean coordinator,
+            @Value("${analytics.cluster.timeout-ms:2000}") long timeoutMillis,
+            @Value("${analytics.cluster.secret:}") String peerSecret) {
+        this.analyticsService = analyticsService;
+        this.metricRegistry = metricRegistry;
+        this.peers = Arrays.stream(peers)
+            .map(String::trim)
+            .filter(peer -> !peer.isEmpty())
+            .map(peer -> peer.endsWith("/") ? peer.substring(0, peer.length() - 1) : peer)
+            .toList();
+        this.coordinator = coordinator;
+        this.timeoutMillis = timeoutMillis;
+        this.peerSecret = peerSecret.getBytes(StandardCharsets.UTF_8);
+        this.restTemplate = restTemplateBuilder
+            .setConnectTimeout(Duration.ofMillis(timeoutMillis))
+            .setReadTimeout(Duration.ofMillis(timeoutMillis))
+            .defaultHeader(PEER_SECRET_HEADER, peerSecret)
+            .build();
+
+        // 피어 수만큼만 스레드를 두고, 큐도 제한해서 느린 피어가 스레드를 무한히 잡지 않도록 함
+        int poolSize = Math.max(1, this.peers.size());
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(poolSize * 4),
+            runnable -> {
+                Thread thread = new Thread(runnable, "analytics-cluster-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 코디네이터 모드 여부
+     */
+    public boolean isCoordinator() {
+        return coordinator;
+    }
+
+    /**
+     * partial 요청이 공유 비밀값을 아는 피어에서 왔는지 확인
+     *
+     * 비밀값이 설정되지 않았으면 항상 false입니다.
+     *
+     * @param headerValue PEER_SECRET_HEADER 헤더 값
+     * @return 공유 비밀값과 일치하면 true
+     */
+    public boolean isTrustedPeer(String headerValue) {
+        if (peerSecret.length == 0 || headerValue == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(peerSecret, headerValue.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 로컬 + 피어 partial을 병합한 전체 집계
+     *
+     * @return 병합된 AnalyticsPartial (nodeId는 "cluster")
+     */
+    public AnalyticsPartial aggregate() {
+        return collect().merged();
+    }
+
+    /**
+     * 클러스터 집계 응답 생성
+     *
+     * @return ClusterAnalyticsResponse
+     */
+    public ClusterAnalyticsResponse getClusterAnalytics() {
+        ClusterResult result = collect();
+
+        Map<String, ClusterAnalyticsResponse.MergedMetric> metrics = new LinkedHashMap<>();
+        for (String metric : metricRegistry.getMetricNames()) {
+            metrics.put(metric, ClusterAnalyticsResponse.MergedMetric.from(result.merged().getMetric(metric)));
+        }
+
+        return new ClusterAnalyticsResponse(result.respondedNodes(), result.failedPeers(), metrics);
+    }
+
+    /**
+     * 피어들에 병렬로 요청을 보내고, 응답을 받은 partial을 병합
+     */
+    private ClusterResult collect() {
+        List<CompletableFuture<AnalyticsPartial>> futures = new ArrayList<>(peers.size());
+        for (String peer : peers) {
+            futures.add(fetchPartial(peer));
+        }
+
+        AnalyticsPartial merged = new AnalyticsPartial("cluster");
+        List<String> respondedNodes = new ArrayList<>();
+        List<String> failedPeers = new ArrayList<>();
+
+        AnalyticsPartial local = analyticsService.getLocalPartial();
+        merged.merge(local);
+        respondedNodes.add(local.getNodeId());
+
+        for (int i = 0; i < peers.size(); i++) {
+            AnalyticsPartial partial = futures.get(i).join();
+            if (partial == null) {
+                failedPeers.add(peers.get(i));
+                continue;
+            }
+            merged.merge(partial);
+            respondedNodes.add(partial.getNodeId() != null ? partial.getNodeId() : peers.get(i));
+        }
+
+        return new ClusterResult(merged, respondedNodes, failedPeers);
+    }
+
+    /**
+     * 피어 하나의 partial 조회 (실패/타임아웃 시 null로 완료)
+     */
+    private CompletableFuture<AnalyticsPartial> fetchPartial(String peer) {
+        try {
+            return CompletableFuture
+                .supplyAsync(() -> restTemplate.getForObject(peer + PARTIAL_PATH, AnalyticsPartial.class), executor)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("Failed to fetch analytics partial from {}: {}", peer, e.getMessage());
+                    return null;
+                });
+        } catch (RuntimeException e) {
+            // 큐 포화 등으로 작업을 제출하지 못한 경우
+            log.warn("Failed to schedule analytics partial request to {}: {}", peer, e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record ClusterResult(AnalyticsPartial merged, List<String> respondedNodes, List<String> failedPeers) {
+    }
+}
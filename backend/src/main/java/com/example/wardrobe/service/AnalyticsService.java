@@ -1,6 +1,9 @@
 package com.example.wardrobe.service;
 
 import com.example.wardrobe.common.logging.LogParser;
+import com.example.wardrobe.domain.analytics.dto.AnalyticsPartial;
+import com.example.wardrobe.domain.analytics.service.MetricRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -24,14 +27,27 @@ import java.util.stream.IntStream;
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class AnalyticsService {
     
+    private final MetricRegistry metricRegistry;
+    
     @Value("${analytics.log.path:./logs/application.log}")
     private String logFilePath;
     
     @Value("${analytics.log.api.path:./logs/api-requests.log}")
     private String apiLogFilePath;
     
+    @Value("${analytics.cluster.node-id:${HOSTNAME:local}}")
+    private String nodeId;
+    
+    /**
+     * 메트릭 이름 (partial/클러스터 집계의 키)
+     */
+    public static final String METRIC_LANDING = MetricRegistry.METRIC_LANDING;
+    public static final String METRIC_QUIZ = MetricRegistry.METRIC_QUIZ;
+    public static final String METRIC_ANALYSIS = MetricRegistry.METRIC_ANALYSIS;
+    
     /**
      * 시간대별 집계 데이터
      */
@@ -77,7 +93,7 @@ public class AnalyticsService {
             List<LogParser.ParsedLog> parsedLogs = logLines.stream()
                 .map(LogParser::parse)
                 .filter(Objects::nonNull)
-                .filter(LogParser::isLandingPageAccess)
+                .filter(parsed -> metricRegistry.matches(parsed, METRIC_LANDING))
                 .collect(Collectors.toList());
             
             return aggregateByHour(parsedLogs);
@@ -103,7 +119,7 @@ public class AnalyticsService {
             List<LogParser.ParsedLog> parsedLogs = logLines.stream()
                 .map(LogParser::parse)
                 .filter(Objects::nonNull)
-                .filter(LogParser::isQuizComplete)
+                .filter(parsed -> metricRegistry.matches(parsed, METRIC_QUIZ))
                 .collect(Collectors.toList());
             
             return aggregateByHour(parsedLogs);
@@ -129,7 +145,7 @@ public class AnalyticsService {
             List<LogParser.ParsedLog> parsedLogs = logLines.stream()
                 .map(LogParser::parse)
                 .filter(Objects::nonNull)
-                .filter(LogParser::isAnalysisComplete)
+                .filter(parsed -> metricRegistry.matches(parsed, METRIC_ANALYSIS))
                 .collect(Collectors.toList());
             
             return aggregateByHour(parsedLogs);
@@ -139,6 +155,31 @@ public class AnalyticsService {
         }
     }
     
+    /**
+     * 이 노드의 병합 가능한 부분 집계
+     * 
+     * 로그를 한 번만 읽으면서 정의된 모든 메트릭을 동시에 집계합니다.
+     * 다른 노드의 partial과 합칠 수 있도록 더미 데이터는 사용하지 않습니다.
+     * 
+     * @return 이 노드의 AnalyticsPartial
+     */
+    public AnalyticsPartial getLocalPartial() {
+        AnalyticsPartial partial = new AnalyticsPartial(nodeId);
+        try {
+            for (String line : readLogFiles()) {
+                LogParser.ParsedLog parsed = LogParser.parse(line);
+                if (parsed == null) {
+                    continue;
+                }
+                metricRegistry.forEachMatchingMetric(parsed,
+                    metric -> partial.record(metric, parsed.getHour(), parsed.getRequestId()));
+            }
+        } catch (Exception e) {
+            log.error("Failed to build local analytics partial: {}", e.getMessage(), e);
+        }
+        return partial;
+    }
+    
     /**
      * 로그 파일 읽기
      * 
@@ -189,8 +230,8 @@ public class AnalyticsService {
         
         // 로그를 시간대별로 집계
         for (LogParser.ParsedLog log : parsedLogs) {
-            if (log.getTimestamp() != null) {
-                int hour = log.getTimestamp().getHour();
+            if (log.hasTimestamp()) {
+                int hour = log.getHour();
                 hourCountMap.put(hour, hourCountMap.get(hour) + 1);
             }
         }
@@ -0,0 +1,72 @@
+-- SQLite 스키마 (sqlite 프로필, spring.sql.init으로 시작 시 실행)
+--
+-- 파일 DB가 이미 있으면 아무것도 바꾸지 않도록 모든 문장은 IF NOT EXISTS로 작성합니다.
+-- Hibernate는 ddl-auto=validate로 이 스키마가 엔티티와 맞는지만 확인하므로,
+-- 엔티티에 컬럼을 추가하면 이 파일도 함께 수정해야 합니다.
+-- (SQLite는 ALTER TABLE ... ADD CONSTRAINT를 지원하지 않으므로 유니크 제약은 CREATE TABLE 안에 둡니다)
+
+create table if not exists users (
+    id bigint not null,
+    email varchar(100) not null,
+    password varchar(255),
+    nickname varchar(50),
+    profile_image_url varchar(500),
+    provider varchar(20) not null check (provider in ('LOCAL','GOOGLE')),
+    -- 컬럼 추가 전에 발급된 토큰/가입한 사용자도 읽을 수 있도록 기본값을 둠
+    token_version bigint default 0 not null,
+    role varchar(20) default 'USER' not null check (role in ('USER','ADMIN')),
+    created_at timestamp not null,
+    updated_at timestamp not null,
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+create index if not exists idx_users_created_at_id on users (created_at desc, id desc);
+create index if not exists idx_users_nickname_id on users (nickname, id);
+
+-- SQLite에는 시퀀스가 없으므로 Hibernate가 users_seq 테이블로 시퀀스를 흉내 냄 (pooled, 50개씩 할당)
+create table if not exists users_seq (
+    next_val bigint
+);
+insert into users_seq (next_val) select 1 where not exists (select 1 from users_seq);
+
+create table if not exists refresh_tokens (
+    id integer,
+    user_id bigint not null,
+    family_id varchar(36) not null,
+    token_hash varchar(64) not null,
+    token_version bigint not null,
+    expires_at timestamp not null,
+    used_at timestamp,
+    revoked boolean not null,
+    primary key (id),
+    constraint uk_refresh_tokens_token_hash unique (token_hash)
+);
+create index if not exists idx_refresh_tokens_family_id on refresh_tokens (family_id);
+create index if not exists idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
+
+create table if not exists revoked_tokens (
+    token_id varchar(36) not null,
+    user_id bigint,
+    expires_at timestamp not null,
+    primary key (token_id)
+);
+create index if not exists idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
+
+create table if not exists analytics_buckets (
+    id integer,
+    metric varchar(50) not null,
+    granularity varchar(10) not null check (granularity in ('MINUTE','HOUR','DAY')),
+    bucket_start timestamp not null,
+    event_count bigint not null,
+    primary key (id),
+    constraint uk_analytics_buckets_metric_granularity_start unique (metric, granularity, bucket_start)
+);
+create index if not exists idx_analytics_buckets_granularity_start on analytics_buckets (granularity, bucket_start);
+
+-- file_key: 읽고 있는 로그 파일의 식별자 (inode 등, 로테이션 감지용)
+create table if not exists analytics_ingest_cursors (
+    file_path varchar(500) not null,
+    file_key varchar(100),
+    position bigint not null,
+    primary key (file_path)
+);
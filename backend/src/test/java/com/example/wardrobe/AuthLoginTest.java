@@ -7,6 +7,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -36,11 +37,11 @@ class AuthLoginTest {
             }
         """;
 
-        mockMvc.perform(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(
                 post("/api/v1/users/signup")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(signupBody)
-        )
+        ).andReturn()))
         .andExpect(status().isCreated());
 
         // 2. 로그인
@@ -51,13 +52,14 @@ class AuthLoginTest {
             }
         """;
 
-        mockMvc.perform(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(
                 post("/api/v1/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(loginBody)
-        )
+        ).andReturn()))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.accessToken").exists())
-        .andExpect(jsonPath("$.tokenType").value("Bearer"));
+        .andExpect(jsonPath("$.tokenType").value("Bearer"))
+        .andExpect(jsonPath("$.refreshToken").exists());
     }
 }
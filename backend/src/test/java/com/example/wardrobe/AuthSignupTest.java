@@ -7,6 +7,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -35,11 +36,11 @@ class AuthSignupTest {
             }
         """;
 
-        mockMvc.perform(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(
                 post("/api/v1/users/signup")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(body)
-        )
+        ).andReturn()))
         .andExpect(status().isCreated())
         .andExpect(jsonPath("$.id").exists())
         .andExpect(jsonPath("$.email").value("test@test.com"))
@@ -59,19 +60,19 @@ class AuthSignupTest {
             }
         """;
 
-        mockMvc.perform(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(
                 post("/api/v1/users/signup")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(firstBody)
-        )
+        ).andReturn()))
         .andExpect(status().isCreated());
 
-        // 동일한 이메일로 두 번째 회원가입 시도
-        mockMvc.perform(
+        // 동일한 이메일로 두 번째 회원가입 시도 (INSERT 시 유니크 제약으로 판단)
+        mockMvc.perform(asyncDispatch(mockMvc.perform(
                 post("/api/v1/users/signup")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(firstBody)
-        )
+        ).andReturn()))
         .andExpect(status().isConflict())  // 409 Conflict (중복 이메일)
         .andExpect(jsonPath("$.message").value("이미 사용 중인 이메일입니다: duplicate@test.com"));
     }
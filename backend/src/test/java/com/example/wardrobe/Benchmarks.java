@@ -0,0 +1,54 @@
+package com.example.wardrobe;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * 테스트용 간이 벤치마크 도구
+ *
+ * 벤치마크 테스트는 @EnabledIfSystemProperty(named = "benchmark", matches = "true")로 막아 두고,
+ * ./gradlew test -Dbenchmark=true 로 실행할 때만 동작합니다.
+ * JMH처럼 포크/통계 처리를 하지 않으므로 같은 JVM에서 비교한 대략적인 수치로만 봅니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+public final class Benchmarks {
+
+    /**
+     * 결과를 버리지 않도록 보관 (JIT가 측정 대상을 제거하지 못하게 함)
+     */
+    private static volatile Object sink;
+
+    private Benchmarks() {
+    }
+
+    /**
+     * 워밍업 후 반복 실행해서 호출당 시간과 할당량 출력
+     *
+     * @param name 출력 이름
+     * @param iterations 측정 반복 횟수 (워밍업은 1/10)
+     * @param task 측정할 작업 (반환값은 버려지지 않도록 보관)
+     * @return 호출당 평균 시간 (ns)
+     */
+    public static double report(String name, int iterations, Supplier<?> task) {
+        for (int i = 0; i < iterations / 10; i++) {
+            sink = task.get(); // 워밍업
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = task.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        double nanosPerOp = (double) elapsed / iterations;
+        System.out.printf("[benchmark] %-24s %12.1f ns/op %8d B/op%n", name, nanosPerOp, allocated / iterations);
+        return nanosPerOp;
+    }
+}
@@ -1,14 +1,25 @@
 package com.example.wardrobe;
 
 import com.example.wardrobe.domain.auth.dto.TokenResponse;
+import com.example.wardrobe.domain.user.dto.UserDirectoryPage;
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.entity.UserRole;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.example.wardrobe.security.TokenVersionChecker;
+import com.example.wardrobe.service.AnalyticsClusterService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -21,7 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Closet Canvas Team
  * @since 1.0
  */
-@SpringBootTest
+@SpringBootTest(properties = "analytics.cluster.secret=test-peer-secret")
 @AutoConfigureMockMvc
 class JwtSecurityTest {
 
@@ -31,6 +42,18 @@ class JwtSecurityTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenVersionChecker tokenVersionChecker;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     // Verified: REQ-FUNC-001
     // Test Case: TC-AUTH-017
     @Test
@@ -55,11 +78,11 @@ class JwtSecurityTest {
             }
         """;
 
-        mockMvc.perform(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(
                 post("/api/v1/users/signup")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(signupBody)
-        )
+        ).andReturn()))
         .andExpect(status().isCreated());
 
         // 2. 로그인하여 토큰 받기
@@ -70,11 +93,11 @@ class JwtSecurityTest {
             }
         """;
 
-        String tokenResponse = mockMvc.perform(
+        String tokenResponse = mockMvc.perform(asyncDispatch(mockMvc.perform(
                 post("/api/v1/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(loginBody)
-        )
+        ).andReturn()))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.accessToken").exists())
         .andReturn()
@@ -118,4 +141,216 @@ class JwtSecurityTest {
         )
         .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void 토큰버전이_바뀌면_기존토큰으로_보호API_접근시_401() throws Exception {
+        // 1. 회원가입 및 로그인
+        mockMvc.perform(asyncDispatch(mockMvc.perform(
+                post("/api/v1/users/signup")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        { "email": "revoke@test.com", "password": "password123", "nickname": "폐기테스트" }
+                    """)
+        ).andReturn()))
+        .andExpect(status().isCreated());
+
+        String tokenResponse = mockMvc.perform(asyncDispatch(mockMvc.perform(
+                post("/api/v1/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        { "email": "revoke@test.com", "password": "password123" }
+                    """)
+        ).andReturn()))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+        String accessToken = objectMapper.readValue(tokenResponse, TokenResponse.class).accessToken();
+
+        mockMvc.perform(get("/api/v1/users/me").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isOk());
+
+        // 2. 토큰 버전 증가 (모든 토큰 폐기)
+        Long userId = transactionTemplate.execute(status -> {
+            User user = userRepository.findByEmail("revoke@test.com").orElseThrow();
+            user.increaseTokenVersion();
+            return user.getId();
+        });
+        tokenVersionChecker.evict(userId);
+
+        // 3. 기존 토큰은 거부됨
+        mockMvc.perform(get("/api/v1/users/me").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 로그아웃한_토큰으로_보호API_접근시_401() throws Exception {
+        String accessToken = signupAndLogin("logout@test.com");
+
+        mockMvc.perform(post("/api/v1/auth/logout").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/users/me").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isUnauthorized());
+
+        // 이미 폐기된 토큰으로 다시 로그아웃해도 성공
+        mockMvc.perform(post("/api/v1/auth/logout").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void 모든토큰_폐기후_기존토큰으로_보호API_접근시_401() throws Exception {
+        String first = signupAndLogin("revoke-all@test.com");
+        String second = login("revoke-all@test.com");
+
+        mockMvc.perform(post("/api/v1/auth/revoke-all").header("Authorization", "Bearer " + first))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/users/me").header("Authorization", "Bearer " + second))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/auth/revoke-all").header("Authorization", "Bearer " + first))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 관리자API는_ADMIN_권한이_있어야_접근할수있다() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/users"))
+            .andExpect(status().isUnauthorized());
+
+        String userToken = signupAndLogin("not-admin@test.com");
+        mockMvc.perform(get("/api/v1/admin/users").header("Authorization", "Bearer " + userToken))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/admin/users/import")
+                    .header("Authorization", "Bearer " + userToken)
+                    .contentType("application/x-ndjson")
+                    .content("{\"email\":\"forbidden-import@test.com\",\"password\":\"password123\"}\n"))
+            .andExpect(status().isForbidden());
+
+        String adminToken = adminLogin("admin@test.com");
+        mockMvc.perform(get("/api/v1/admin/users").header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/admin/users/import")
+                    .header("Authorization", "Bearer " + adminToken)
+                    .contentType("application/x-ndjson")
+                    .content("{\"email\":\"admin-import@test.com\",\"password\":\"password123\"}\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1));
+    }
+
+    @Test
+    void 관리자는_사용자목록을_커서로_이어서_조회한다() throws Exception {
+        signupAndLogin("directory-1@test.com");
+        String adminToken = adminLogin("directory-admin@test.com");
+
+        String firstPage = mockMvc.perform(get("/api/v1/admin/users")
+                    .header("Authorization", "Bearer " + adminToken)
+                    .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.users.length()").value(1))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        UserDirectoryPage page = objectMapper.readValue(firstPage, UserDirectoryPage.class);
+
+        mockMvc.perform(get("/api/v1/admin/users")
+                    .header("Authorization", "Bearer " + adminToken)
+                    .param("size", "1")
+                    .param("cursor", page.nextCursor()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.users.length()").value(1))
+            .andExpect(jsonPath("$.users[0].id").value(not(page.users().get(0).id().intValue())));
+    }
+
+    @Test
+    void 관리자_분석API는_토큰없이도_공개된다() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/analytics/landing-page-views"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void 분석_원시이벤트_내보내기는_ADMIN만_접근할수있다() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/analytics/export"))
+            .andExpect(status().isUnauthorized());
+
+        String userToken = signupAndLogin("export-user@test.com");
+        mockMvc.perform(get("/api/v1/admin/analytics/export").header("Authorization", "Bearer " + userToken))
+            .andExpect(status().isForbidden());
+
+        String adminToken = adminLogin("export-admin@test.com");
+        mockMvc.perform(asyncDispatch(mockMvc.perform(
+                get("/api/v1/admin/analytics/export").header("Authorization", "Bearer " + adminToken)
+        ).andReturn()))
+        .andExpect(status().isOk());
+    }
+
+    @Test
+    void 분석_클러스터집계는_ADMIN만_접근할수있다() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/analytics/cluster"))
+            .andExpect(status().isUnauthorized());
+
+        String userToken = signupAndLogin("cluster-user@test.com");
+        mockMvc.perform(get("/api/v1/admin/analytics/cluster").header("Authorization", "Bearer " + userToken))
+            .andExpect(status().isForbidden());
+
+        String adminToken = adminLogin("cluster-admin@test.com");
+        mockMvc.perform(get("/api/v1/admin/analytics/cluster").header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void 분석_부분집계는_피어_공유비밀값이_있어야_접근할수있다() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/analytics/partial"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/admin/analytics/partial")
+                    .header(AnalyticsClusterService.PEER_SECRET_HEADER, "wrong-secret"))
+            .andExpect(status().isUnauthorized());
+
+        String adminToken = adminLogin("partial-admin@test.com");
+        mockMvc.perform(get("/api/v1/admin/analytics/partial").header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/v1/admin/analytics/partial")
+                    .header(AnalyticsClusterService.PEER_SECRET_HEADER, "test-peer-secret"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.metrics").exists());
+    }
+
+    private String adminLogin(String email) throws Exception {
+        userRepository.save(User.builder()
+                .email(email)
+                .password(passwordEncoder.encode("password123"))
+                .nickname("관리자")
+                .provider(AuthProvider.LOCAL)
+                .role(UserRole.ADMIN)
+                .build());
+        return login(email);
+    }
+
+    private String signupAndLogin(String email) throws Exception {
+        mockMvc.perform(asyncDispatch(mockMvc.perform(
+                post("/api/v1/users/signup")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        { "email": "%s", "password": "password123", "nickname": "토큰테스트" }
+                    """.formatted(email))
+        ).andReturn()))
+        .andExpect(status().isCreated());
+        return login(email);
+    }
+
+    private String login(String email) throws Exception {
+        String tokenResponse = mockMvc.perform(asyncDispatch(mockMvc.perform(
+                post("/api/v1/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        { "email": "%s", "password": "password123" }
+                    """.formatted(email))
+        ).andReturn()))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+        return objectMapper.readValue(tokenResponse, TokenResponse.class).accessToken();
+    }
 }
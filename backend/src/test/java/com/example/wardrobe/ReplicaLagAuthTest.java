@@ -0,0 +1,146 @@
+package com.example.wardrobe;
+
+import com.example.wardrobe.domain.auth.dto.TokenResponse;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.example.wardrobe.security.TokenVersionChecker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 복제 지연 중 인증 테스트
+ *
+ * 복제본으로 테이블이 하나도 없는 별도 H2 DB를 사용해서, 아무것도 복제되지 않은 복제본을 흉내 냅니다.
+ * 방금 쓴 데이터를 바로 읽어야 하는 조회(로그인 사용자 조회, 토큰 버전 확인, 중복 이메일 확인,
+ * 사용자 캐시 적재)는
+ * primary에서 해야 하므로 복제본이 비어 있어도 성공해야 합니다.
+ * 다른 노드에서 로그인하는 경우처럼 2차 캐시에 사용자가 없는 상태로 확인합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest(properties = {
+        "datasource.routing.enabled=true",
+        "datasource.routing.replicas[0].url=jdbc:h2:mem:lagging-replica;DB_CLOSE_DELAY=-1",
+        "datasource.routing.replicas[0].username=sa",
+        "datasource.routing.replicas[0].password="
+})
+@AutoConfigureMockMvc
+class ReplicaLagAuthTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenVersionChecker tokenVersionChecker;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 가입직후_로그인과_토큰사용은_primary에서_조회한다() throws Exception {
+        signup("lag-login@test.com")
+        .andExpect(status().isCreated());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        String accessToken = login("lag-login@test.com");
+
+        // 토큰 버전 확인(JwtAuthenticationFilter)도 복제본이 아니라 primary에서 읽어야 인증됨
+        mockMvc.perform(post("/api/v1/auth/logout").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void 프로필_수정직후_내정보_조회는_수정된_값을_반환한다() throws Exception {
+        signup("lag-profile@test.com")
+        .andExpect(status().isCreated());
+        String accessToken = login("lag-profile@test.com");
+        Long userId = userRepository.findByEmail("lag-profile@test.com").orElseThrow().getId();
+
+        mockMvc.perform(put("/api/v1/users/" + userId)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        { "nickname": "수정후" }
+                    """))
+            .andExpect(status().isOk());
+
+        // 수정 커밋으로 사용자 캐시가 무효화된 뒤 다시 적재할 때도 primary에서 읽어야 함
+        mockMvc.perform(get("/api/v1/users/me").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.nickname").value("수정후"));
+    }
+
+    @Test
+    void 가입직후_같은이메일로_가입하면_409() throws Exception {
+        signup("lag-duplicate@test.com")
+        .andExpect(status().isCreated());
+
+        signup("lag-duplicate@test.com")
+        .andExpect(status().isConflict());
+    }
+
+    @Test
+    void 읽기전용_트랜잭션_안에서도_토큰버전은_primary에서_조회한다() throws Exception {
+        signup("lag-version@test.com")
+        .andExpect(status().isCreated());
+        Long userId = userRepository.findByEmail("lag-version@test.com").orElseThrow().getId();
+        tokenVersionChecker.evict(userId);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Boolean current = readOnly.execute(status -> tokenVersionChecker.isCurrent(userId, 0L));
+
+        assertThat(current).isTrue();
+    }
+
+    private String login(String email) throws Exception {
+        String tokenResponse = mockMvc.perform(asyncDispatch(mockMvc.perform(
+                post("/api/v1/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        { "email": "%s", "password": "password123" }
+                    """.formatted(email))
+        ).andReturn()))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+        return objectMapper.readValue(tokenResponse, TokenResponse.class).accessToken();
+    }
+
+    private ResultActions signup(String email) throws Exception {
+        return mockMvc.perform(asyncDispatch(mockMvc.perform(
+                post("/api/v1/users/signup")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        { "email": "%s", "password": "password123", "nickname": "복제지연" }
+                    """.formatted(email))
+        ).andReturn()));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.wardrobe.common.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * HourlyAnomalyDetector 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class HourlyAnomalyDetectorTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 1, 20, 0, 0);
+
+    private static long at(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static List<WatermarkedHourlyCounter.FinalizedBucket> hour(LocalDateTime hourStart, long count) {
+        return List.of(new WatermarkedHourlyCounter.FinalizedBucket("landing", hourStart, count));
+    }
+
+    @Test
+    void 확정된_합계가_기준선에서_벗어나면_이상으로_판단한다() {
+        HourlyAnomalyDetector detector = new HourlyAnomalyDetector(0.1, 0.3, 3.0);
+        for (int h = 0; h < 10; h++) {
+            detector.closeHours(hour(MONDAY.plusHours(h), 100));
+        }
+
+        HourlyAnomalyDetector.AnomalyScore normal = detector.getScores().get(0);
+        assertThat(normal.expected()).isCloseTo(100.0, within(1e-9));
+        assertThat(normal.zScore()).isCloseTo(0.0, within(1e-9));
+        assertThat(normal.anomalous()).isFalse();
+
+        // 분산이 0이어도 포아송 표준편차(√100 = 10)를 하한으로 사용
+        detector.closeHours(hour(MONDAY.plusHours(10), 150));
+        HourlyAnomalyDetector.AnomalyScore spike = detector.getScores().get(0);
+        assertThat(spike.hourStart()).isEqualTo(MONDAY.plusHours(10));
+        assertThat(spike.observed()).isEqualTo(150);
+        assertThat(spike.zScore()).isCloseTo(5.0, within(1e-9));
+        assertThat(spike.anomalous()).isTrue();
+    }
+
+    @Test
+    void 이벤트가_없던_시간은_0으로_반영한다() {
+        HourlyAnomalyDetector detector = new HourlyAnomalyDetector(0.5, 0.3, 3.0);
+        detector.closeHours(hour(MONDAY, 10));
+        detector.closeHours(hour(MONDAY.plusHours(3), 10));
+
+        // 1시, 2시가 0으로 반영되어 기대값이 10 → 5 → 2.5로 내려간 뒤 3시를 평가
+        HourlyAnomalyDetector.AnomalyScore score = detector.getScores().get(0);
+        assertThat(score.hourStart()).isEqualTo(MONDAY.plusHours(3));
+        assertThat(score.expected()).isCloseTo(2.5, within(1e-9));
+    }
+
+    @Test
+    void 확정_전에_도착한_늦은_이벤트는_원래_시간의_기준선에_포함된다() {
+        WatermarkedHourlyCounter counter = new WatermarkedHourlyCounter(5 * MINUTE, 30 * MINUTE, 100);
+        HourlyAnomalyDetector detector = new HourlyAnomalyDetector(0.1, 0.3, 3.0);
+
+        offer(counter, detector, MONDAY.plusHours(10).plusMinutes(10));
+        offer(counter, detector, MONDAY.plusHours(11).plusMinutes(10));
+        // 10시 버킷이 확정되기 전에 도착한 늦은 이벤트 두 건
+        offer(counter, detector, MONDAY.plusHours(10).plusMinutes(50));
+        offer(counter, detector, MONDAY.plusHours(10).plusMinutes(55));
+        assertThat(detector.getScores()).isEmpty();
+
+        // 워터마크가 11:40으로 진행되면 10시가 확정되어 기준선에 반영
+        offer(counter, detector, MONDAY.plusHours(11).plusMinutes(45));
+
+        HourlyAnomalyDetector.AnomalyScore score = detector.getScores().get(0);
+        assertThat(score.hourStart()).isEqualTo(MONDAY.plusHours(10));
+        assertThat(score.observed()).isEqualTo(3);
+        assertThat(score.currentHourCount()).isEqualTo(2);
+
+        // 확정된 시간의 이벤트는 버려지므로 기준선도 바뀌지 않음
+        offer(counter, detector, MONDAY.plusHours(10).plusMinutes(59));
+        assertThat(detector.getScores().get(0).observed()).isEqualTo(3);
+    }
+
+    private static void offer(WatermarkedHourlyCounter counter, HourlyAnomalyDetector detector, LocalDateTime time) {
+        WatermarkedHourlyCounter.Batch batch = counter.batch("app");
+        if (batch.offer("landing", at(time)) != WatermarkedHourlyCounter.Admission.DROPPED) {
+            detector.increment("landing", at(time));
+        }
+        detector.closeHours(batch.commit());
+    }
+}
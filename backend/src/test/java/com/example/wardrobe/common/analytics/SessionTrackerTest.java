@@ -0,0 +1,73 @@
+package com.example.wardrobe.common.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SessionTracker 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class SessionTrackerTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private static long at(int hour, int minute) {
+        return LocalDateTime.of(2025, 1, 20, hour, minute).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Test
+    void 비활동_간격을_넘긴_이벤트는_새_세션으로_센다() {
+        SessionTracker tracker = new SessionTracker(30 * MINUTE, 100, 24);
+
+        tracker.record("s1", at(10, 0), true);
+        tracker.record("s1", at(10, 10), true);
+        tracker.record("s1", at(10, 20), false);
+        tracker.record("s1", at(11, 0), true); // 40분 비활동 → 이전 세션 종료
+
+        assertThat(tracker.getHourlyStats()).containsExactly(new SessionTracker.HourlySessionStats(
+                LocalDateTime.of(2025, 1, 20, 10, 0), 1, 20 * MINUTE, 2));
+        assertThat(tracker.getActiveSessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 늦게_도착한_이벤트가_있어도_만료된_세션을_모두_종료한다() {
+        SessionTracker tracker = new SessionTracker(30 * MINUTE, 100, 24);
+
+        tracker.record("a", at(10, 0), true);
+        tracker.record("b", at(10, 25), true);
+        // a의 늦은 이벤트: 도착은 가장 최근이지만 이벤트 시각은 가장 이름
+        tracker.record("a", at(10, 2), true);
+        tracker.record("c", at(10, 40), true);
+
+        // 10:40 기준으로 a(마지막 10:02)는 만료, b(10:25)는 진행 중
+        assertThat(tracker.getActiveSessionCount()).isEqualTo(2);
+        assertThat(tracker.getHourlyStats()).containsExactly(new SessionTracker.HourlySessionStats(
+                LocalDateTime.of(2025, 1, 20, 10, 0), 1, 2 * MINUTE, 2));
+    }
+
+    @Test
+    void 최대_세션_수를_넘으면_마지막_이벤트가_가장_오래된_세션부터_종료한다() {
+        SessionTracker tracker = new SessionTracker(30 * MINUTE, 2, 24);
+
+        tracker.record("a", at(10, 10), true);
+        tracker.record("b", at(10, 0), true);
+        tracker.record("c", at(10, 20), true);
+
+        assertThat(tracker.getActiveSessionCount()).isEqualTo(2);
+        assertThat(tracker.getHourlyStats()).containsExactly(new SessionTracker.HourlySessionStats(
+                LocalDateTime.of(2025, 1, 20, 10, 0), 1, 0, 1));
+
+        tracker.record("a", at(10, 25), false);
+        tracker.record("d", at(10, 26), true);
+        // a는 방금 이벤트가 있었으므로 c(10:20)가 종료됨
+        assertThat(tracker.getActiveSessionCount()).isEqualTo(2);
+        assertThat(tracker.getHourlyStats().get(0).sessions()).isEqualTo(2);
+        assertThat(tracker.getHourlyStats().get(0).totalPages()).isEqualTo(2);
+    }
+}
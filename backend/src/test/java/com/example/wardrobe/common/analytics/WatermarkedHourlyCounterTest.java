@@ -0,0 +1,93 @@
+package com.example.wardrobe.common.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WatermarkedHourlyCounter 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class WatermarkedHourlyCounterTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private static long at(int hour, int minute) {
+        return LocalDateTime.of(2025, 1, 20, hour, minute).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Test
+    void 허용지연안의_늦은이벤트는_원래_시간버킷에_반영된다() {
+        // 워터마크 지연 5분, 허용 지연 30분
+        WatermarkedHourlyCounter counter = new WatermarkedHourlyCounter(5 * MINUTE, 30 * MINUTE, 100);
+
+        assertThat(counter.offer("app", "landing", at(10, 50))).isEqualTo(WatermarkedHourlyCounter.Admission.ON_TIME);
+        assertThat(counter.offer("app", "landing", at(11, 20))).isEqualTo(WatermarkedHourlyCounter.Admission.ON_TIME);
+
+        // 워터마크(11:15)는 지났지만 10시 버킷은 11:30까지 열려 있음
+        assertThat(counter.offer("app", "landing", at(10, 55))).isEqualTo(WatermarkedHourlyCounter.Admission.LATE);
+
+        // 워터마크가 11:40으로 진행되면 10시 버킷이 확정됨
+        counter.offer("app", "landing", at(11, 45));
+        assertThat(counter.getFinalizedBuckets())
+                .containsExactly(new WatermarkedHourlyCounter.FinalizedBucket(
+                        "landing", LocalDateTime.of(2025, 1, 20, 10, 0), 2));
+
+        // 확정된 버킷에 해당하는 이벤트는 버리고 따로 센다
+        assertThat(counter.offer("app", "landing", at(10, 59))).isEqualTo(WatermarkedHourlyCounter.Admission.DROPPED);
+        assertThat(counter.getDroppedCounts()).containsEntry("landing", 1L);
+        assertThat(counter.getLateCounts()).containsEntry("landing", 1L);
+    }
+
+    @Test
+    void 워터마크는_가장_뒤처진_소스를_기준으로_진행된다() {
+        WatermarkedHourlyCounter counter = new WatermarkedHourlyCounter(5 * MINUTE, 30 * MINUTE, 100);
+
+        counter.offer("app", "landing", at(10, 10));
+        counter.offer("api", "quiz", at(10, 5));
+        counter.offer("app", "landing", at(13, 0));
+
+        // api 로그는 10:05까지만 읽었으므로 10시 버킷은 아직 열려 있음
+        assertThat(counter.getWatermark()).isEqualTo(at(10, 0));
+        assertThat(counter.offer("api", "quiz", at(10, 40)))
+                .isEqualTo(WatermarkedHourlyCounter.Admission.ON_TIME);
+        assertThat(counter.getFinalizedBuckets()).isEmpty();
+
+        // api 로그가 따라오면 두 소스의 10시 버킷이 함께 확정됨
+        counter.offer("api", "quiz", at(12, 0));
+        assertThat(counter.getFinalizedBuckets()).containsExactly(
+                new WatermarkedHourlyCounter.FinalizedBucket("landing", LocalDateTime.of(2025, 1, 20, 10, 0), 1),
+                new WatermarkedHourlyCounter.FinalizedBucket("quiz", LocalDateTime.of(2025, 1, 20, 10, 0), 2));
+        assertThat(counter.getDroppedCounts()).isEmpty();
+    }
+
+    @Test
+    void 배치는_commit하기_전까지_카운터에_반영되지_않는다() {
+        WatermarkedHourlyCounter counter = new WatermarkedHourlyCounter(5 * MINUTE, 30 * MINUTE, 100);
+        counter.offer("app", "landing", at(10, 0));
+
+        // 롤백된 배치: 판정만 하고 버림
+        WatermarkedHourlyCounter.Batch rolledBack = counter.batch("app");
+        rolledBack.offer("landing", at(12, 0));
+        assertThat(rolledBack.offer("landing", at(10, 10)))
+                .isEqualTo(WatermarkedHourlyCounter.Admission.DROPPED);
+        assertThat(counter.getWatermark()).isEqualTo(at(9, 55));
+        assertThat(counter.getDroppedCounts()).isEmpty();
+
+        // 같은 이벤트를 다시 읽어서 커밋
+        WatermarkedHourlyCounter.Batch retried = counter.batch("app");
+        retried.offer("landing", at(10, 10));
+        retried.offer("landing", at(12, 0));
+        retried.commit();
+
+        assertThat(counter.getWatermark()).isEqualTo(at(11, 55));
+        assertThat(counter.getFinalizedBuckets()).containsExactly(
+                new WatermarkedHourlyCounter.FinalizedBucket("landing", LocalDateTime.of(2025, 1, 20, 10, 0), 2));
+        assertThat(counter.getDroppedCounts()).isEmpty();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.wardrobe.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReplicaRoutingDataSource 테스트
+ *
+ * H2 인메모리 DB 여러 개를 primary/복제본으로 사용합니다. 각 DB의 node 테이블에 자기 이름이,
+ * replication_lag 테이블에 복제 지연(초)이 들어 있습니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select seconds from replication_lag";
+
+    private final List<ReplicaRoutingDataSource> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        created.forEach(ReplicaRoutingDataSource::close);
+    }
+
+    @Test
+    void 쓰기는_primary로_읽기전용은_복제본에_번갈아_보낸다() throws Exception {
+        ReplicaRoutingDataSource routing = routing("rr", ReplicaRoutingDataSource.Strategy.ROUND_ROBIN);
+
+        assertThat(nodeOf(routing)).isEqualTo("rr-primary");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        List<String> nodes = List.of(nodeOf(routing), nodeOf(routing), nodeOf(routing), nodeOf(routing));
+        assertThat(nodes).containsExactlyInAnyOrder("rr-replica-1", "rr-replica-2", "rr-replica-1", "rr-replica-2");
+    }
+
+    @Test
+    void 사용중_커넥션이_적은_복제본을_고른다() throws Exception {
+        ReplicaRoutingDataSource routing = routing("lc", ReplicaRoutingDataSource.Strategy.LEAST_CONNECTIONS);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (Connection held = routing.getConnection()) {
+            String busy = nodeOf(held);
+            String other = busy.equals("lc-replica-1") ? "lc-replica-2" : "lc-replica-1";
+            assertThat(nodeOf(routing)).isEqualTo(other);
+        }
+    }
+
+    @Test
+    void 지연이_크거나_접속할_수_없는_복제본은_제외하고_모두_제외되면_primary를_사용한다() throws Exception {
+        ReplicaRoutingDataSource routing = routing("lag", ReplicaRoutingDataSource.Strategy.ROUND_ROBIN);
+        execute(routing.getReplicas().get(0), "update replication_lag set seconds = 30");
+        routing.checkHealth();
+
+        assertThat(routing.getHealthyReplicaCount()).isEqualTo(1);
+        assertThat(routing.getReplicas().get(0).isHealthy()).isFalse();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(nodeOf(routing)).isEqualTo("lag-replica-2");
+        assertThat(nodeOf(routing)).isEqualTo("lag-replica-2");
+
+        // 두 번째 복제본도 내려가면 primary에서 읽음
+        ((HikariDataSource) routing.getReplicas().get(1).getDataSource()).close();
+        routing.checkHealth();
+        assertThat(routing.getHealthyReplicaCount()).isZero();
+        assertThat(nodeOf(routing)).isEqualTo("lag-primary");
+
+        // 지연이 다시 줄어들면 복귀
+        execute(routing.getReplicas().get(0), "update replication_lag set seconds = 1");
+        routing.checkHealth();
+        assertThat(nodeOf(routing)).isEqualTo("lag-replica-1");
+    }
+
+    private ReplicaRoutingDataSource routing(String prefix, ReplicaRoutingDataSource.Strategy strategy)
+            throws SQLException {
+        HikariDataSource primary = node(prefix + "-primary");
+        List<ReplicaRoutingDataSource.Replica> replicas = List.of(
+                new ReplicaRoutingDataSource.Replica(prefix + "-replica-1", node(prefix + "-replica-1")),
+                new ReplicaRoutingDataSource.Replica(prefix + "-replica-2", node(prefix + "-replica-2")));
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replicas, strategy, Duration.ofSeconds(5), LAG_QUERY, Duration.ofSeconds(1));
+        routing.checkHealth();
+        created.add(routing);
+        return routing;
+    }
+
+    private static HikariDataSource node(String name) throws SQLException {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1")
+                .username("sa")
+                .password("")
+                .build();
+        dataSource.setPoolName(name);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists node (name varchar(50))");
+            statement.execute("delete from node");
+            statement.execute("insert into node values ('" + name + "')");
+            statement.execute("create table if not exists replication_lag (seconds int)");
+            statement.execute("delete from replication_lag");
+            statement.execute("insert into replication_lag values (0)");
+        }
+        return dataSource;
+    }
+
+    private static String nodeOf(ReplicaRoutingDataSource routing) throws SQLException {
+        try (Connection connection = routing.getConnection()) {
+            return nodeOf(connection);
+        }
+    }
+
+    private static String nodeOf(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select name from node")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static void execute(ReplicaRoutingDataSource.Replica replica, String sql) throws SQLException {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.wardrobe.common.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LogParser 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class LogParserTest {
+
+    private static final String REQUEST_ID = "01ARZ3NDEKTSV4RRFFQ69G5FAV";
+
+    private static String backendLine(String method, String path) {
+        return "2025-01-20 15:30:45.123 INFO [" + REQUEST_ID + "] --- [http-nio-8080-exec-1] "
+                + "c.e.w.controller.Feature1Controller : API Request: " + method + " " + path
+                + " | RequestId: " + REQUEST_ID;
+    }
+
+    @Test
+    void 백엔드_로그를_파싱한다() {
+        LogParser.ParsedLog parsed = LogParser.parse(backendLine("POST", "/api/v1/quiz/complete"));
+
+        assertThat(parsed).isNotNull();
+        assertThat(parsed.getLogType()).isEqualTo(LogParser.LogType.BACKEND);
+        assertThat(parsed.getRequestId()).isEqualTo(REQUEST_ID);
+        assertThat(parsed.getMethod()).isEqualTo(LogParser.HttpMethod.POST);
+        assertThat(parsed.getApiPath()).isEqualTo("/api/v1/quiz/complete");
+        assertThat(parsed.getEvent()).isEqualTo(LogParser.EventType.QUIZ_COMPLETE);
+        assertThat(parsed.getTimestamp()).isEqualTo(LocalDateTime.of(2025, 1, 20, 15, 30, 45, 123_000_000));
+        assertThat(parsed.getHour()).isEqualTo(15);
+    }
+
+    @Test
+    void 알수없는_HTTP_메서드는_OTHER로_분류한다() {
+        LogParser.ParsedLog parsed = LogParser.parse(backendLine("PROPFIND", "/api/v1/files"));
+
+        assertThat(parsed).isNotNull();
+        assertThat(parsed.getMethod()).isEqualTo(LogParser.HttpMethod.OTHER);
+        assertThat(parsed.getEvent()).isEqualTo(LogParser.EventType.API_REQUEST);
+    }
+
+    @Test
+    void 프론트엔드_로그를_파싱한다() {
+        String line = "[2025-01-20T06:30:45.123Z][FE][INFO][Landing] PAGE_VIEW "
+                + "{ \"requestId\": \"550e8400-e29b\", \"url\": \"https://example.com/landing?ref=ad\" }";
+
+        LogParser.ParsedLog parsed = LogParser.parse(line);
+
+        assertThat(parsed).isNotNull();
+        assertThat(parsed.getLogType()).isEqualTo(LogParser.LogType.FRONTEND);
+        assertThat(parsed.getEvent()).isEqualTo(LogParser.EventType.PAGE_VIEW);
+        assertThat(parsed.getRequestId()).isEqualTo("550e8400-e29b");
+        assertThat(parsed.getApiPath()).isEqualTo("/landing");
+        assertThat(parsed.getMethod()).isEqualTo(LogParser.HttpMethod.GET);
+        assertThat(parsed.getTimestamp()).isEqualTo(OffsetDateTime.parse("2025-01-20T06:30:45.123Z")
+                .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+    }
+
+    @Test
+    void 프론트엔드_로그의_세션ID가_있으면_세션키로_쓴다() {
+        String withSession = "[2025-01-20T06:30:45.123Z][FE][INFO][Landing] PAGE_VIEW "
+                + "{ \"requestId\": \"550e8400-e29b\", \"sessionId\": \"6f1c2e90-aa01\", \"url\": \"https://example.com/\" }";
+        String withoutSession = "[2025-01-20T06:30:45.123Z][FE][INFO][Landing] PAGE_VIEW "
+                + "{ \"requestId\": \"550e8400-e29b\", \"url\": \"https://example.com/\" }";
+
+        assertThat(LogParser.parse(withSession).getSessionId()).isEqualTo("6f1c2e90-aa01");
+        assertThat(LogParser.parse(withSession).getSessionKey()).isEqualTo("6f1c2e90-aa01");
+        assertThat(LogParser.parse(withoutSession).getSessionId()).isNull();
+        assertThat(LogParser.parse(withoutSession).getSessionKey()).isEqualTo("550e8400-e29b");
+    }
+
+    @Test
+    void 알수없는_이벤트는_OTHER이고_형식이_다른_줄은_null이다() {
+        String line = "[2025-01-20T06:30:45.123Z][FE][INFO][Landing] SOMETHING_NEW "
+                + "{ \"requestId\": \"abc\", \"url\": \"https://example.com/x?y=1\" }";
+
+        assertThat(LogParser.parse(line).getEvent()).isEqualTo(LogParser.EventType.OTHER);
+        assertThat(LogParser.parse("plain text line")).isNull();
+        assertThat(LogParser.parse("   ")).isNull();
+        assertThat(LogParser.parse(null)).isNull();
+    }
+
+    @Test
+    void 같은_경로는_하나의_문자열_인스턴스를_공유한다() {
+        LogParser.ParsedLog first = LogParser.parse(backendLine("GET", "/api/v1/shared-path"));
+        LogParser.ParsedLog second = LogParser.parse(backendLine("GET", "/api/v1/shared-path"));
+
+        assertThat(second.getApiPath()).isSameAs(first.getApiPath());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.wardrobe.common.logging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PathDictionary 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class PathDictionaryTest {
+
+    @Test
+    void 같은_값은_같은_인스턴스를_반환한다() {
+        PathDictionary dictionary = new PathDictionary(16);
+        String first = dictionary.intern(new String("/api/v1/users"));
+
+        assertThat(dictionary.intern(new String("/api/v1/users"))).isSameAs(first);
+        assertThat(dictionary.intern(null)).isNull();
+    }
+
+    @Test
+    void 카디널리티가_높은_경로가_쏟아져도_크기는_상한을_넘지않고_자주쓰는_경로는_남는다() {
+        PathDictionary dictionary = new PathDictionary(64);
+        String common = dictionary.intern(new String("/api/v1/feature1/ping"));
+        for (int i = 0; i < 100; i++) {
+            dictionary.intern(new String("/api/v1/feature1/ping"));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            dictionary.intern("/api/v1/users/" + i);
+            if (i % 50 == 0) {
+                dictionary.intern(new String("/api/v1/feature1/ping"));
+            }
+        }
+
+        assertThat(dictionary.size()).isLessThanOrEqualTo(64);
+        assertThat(dictionary.intern(new String("/api/v1/feature1/ping"))).isSameAs(common);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.wardrobe.config;
+
+import com.example.wardrobe.domain.auth.dto.LoginRequest;
+import com.example.wardrobe.domain.auth.service.AuthService;
+import com.example.wardrobe.domain.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQLite 프로필 회원가입/로그인 처리량 벤치마크
+ *
+ * ./gradlew test -Dbenchmark=true 로 실행할 때만 동작합니다.
+ * 저장 경로 비용을 보기 위해 BCrypt cost는 4로 고정합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest(properties = {
+        "auth.password.cost=4",
+        "auth.rate-limit.enabled=false",
+        "auth.hashing.queue-capacity=1024"
+})
+@ActiveProfiles("sqlite")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SqliteProfileBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int USERS_PER_THREAD = 250;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthService authService;
+
+    @TempDir
+    static Path dataDir;
+
+    @DynamicPropertySource
+    static void sqlitePath(DynamicPropertyRegistry registry) {
+        registry.add("SQLITE_PATH", () -> dataDir.resolve("benchmark.db").toString());
+    }
+
+    @Test
+    void 벤치마크_회원가입_로그인_처리량() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long signupNanos = run(executor, () -> {
+                int n = sequence.incrementAndGet();
+                userService.signup("sqlite-" + n + "@bench.com", "password123", "벤치" + n).join();
+            });
+            sequence.set(0);
+            long loginNanos = run(executor, () -> {
+                int n = sequence.incrementAndGet();
+                assertThat(authService.login(new LoginRequest("sqlite-" + n + "@bench.com", "password123"),
+                        "10.0.0." + (n % 250)).join().accessToken()).isNotBlank();
+            });
+
+            int total = THREADS * USERS_PER_THREAD;
+            System.out.printf("[benchmark] sqlite signup %8.0f ops/s (%d users, %d threads)%n",
+                    total * 1e9 / signupNanos, total, THREADS);
+            System.out.printf("[benchmark] sqlite login  %8.0f ops/s (%d users, %d threads)%n",
+                    total * 1e9 / loginNanos, total, THREADS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long run(ExecutorService executor, Runnable operation) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < USERS_PER_THREAD; i++) {
+                    operation.run();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return System.nanoTime() - start;
+    }
+}
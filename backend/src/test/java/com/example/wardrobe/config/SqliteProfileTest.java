@@ -0,0 +1,93 @@
+package com.example.wardrobe.config;
+
+import com.example.wardrobe.domain.auth.dto.LoginRequest;
+import com.example.wardrobe.domain.auth.dto.TokenResponse;
+import com.example.wardrobe.domain.auth.service.AuthService;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.entity.UserRole;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.example.wardrobe.domain.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQLite 프로필 테스트
+ *
+ * 임시 파일 DB로 sqlite 프로필을 띄워서 schema.sql로 만든 스키마가 엔티티 검증(ddl-auto=validate)을
+ * 통과하고, 회원가입/로그인이 동작하는지 확인합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest(properties = "auth.password.cost=4")
+@ActiveProfiles("sqlite")
+class SqliteProfileTest {
+
+    @TempDir
+    static Path dataDir;
+
+    @DynamicPropertySource
+    static void sqlitePath(DynamicPropertyRegistry registry) {
+        registry.add("SQLITE_PATH", () -> dataDir.resolve("wardrobe.db").toString());
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void 회원가입후_로그인할_수_있다() {
+        User saved = userService.signup("sqlite@test.com", "password123", "SQLite").join();
+
+        TokenResponse token = authService.login(new LoginRequest("sqlite@test.com", "password123"), null).join();
+
+        assertThat(token.accessToken()).isNotBlank();
+        User found = userRepository.findById(saved.getId()).orElseThrow();
+        assertThat(found.getRole()).isEqualTo(UserRole.USER);
+        assertThat(found.getTokenVersion()).isZero();
+    }
+
+    @Test
+    void 스키마_스크립트는_기존_파일에_다시_실행해도_데이터를_유지한다() {
+        userService.signup("sqlite-rerun@test.com", "password123", null).join();
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/sqlite/schema.sql")).execute(dataSource);
+
+        assertThat(userRepository.findByEmail("sqlite-rerun@test.com")).isPresent();
+        assertThat(new JdbcTemplate(dataSource).queryForObject("select count(*) from users_seq", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 기본값이_있는_컬럼은_INSERT에서_생략해도_채워진다() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("insert into users (id, email, provider, created_at, updated_at) "
+                + "values (100000, 'sqlite-default@test.com', 'LOCAL', current_timestamp, current_timestamp)");
+
+        assertThat(jdbcTemplate.queryForObject("select role from users where id = 100000", String.class))
+                .isEqualTo("USER");
+        assertThat(jdbcTemplate.queryForObject("select token_version from users where id = 100000", Long.class))
+                .isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.wardrobe.domain.analytics.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AnalyticsPartial 병합 테스트
+ *
+ * 여러 노드의 partial을 JSON으로 주고받은 뒤 병합해도 카운터와 고유 요청 추정치가 유지되는지 확인합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class AnalyticsPartialTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void 노드별_partial을_병합하면_카운터는_합산되고_고유요청은_중복제거된다() throws Exception {
+        AnalyticsPartial node1 = new AnalyticsPartial("node-1");
+        AnalyticsPartial node2 = new AnalyticsPartial("node-2");
+
+        for (int i = 0; i < 1000; i++) {
+            node1.record("landing", 9, "req-" + i);
+        }
+        // node-2는 절반이 node-1과 같은 요청 ID
+        for (int i = 500; i < 1500; i++) {
+            node2.record("landing", 10, "req-" + i);
+        }
+
+        // 네트워크 전송을 흉내내기 위해 JSON 왕복
+        AnalyticsPartial received1 = objectMapper.readValue(objectMapper.writeValueAsString(node1), AnalyticsPartial.class);
+        AnalyticsPartial received2 = objectMapper.readValue(objectMapper.writeValueAsString(node2), AnalyticsPartial.class);
+
+        AnalyticsPartial merged = new AnalyticsPartial("cluster");
+        merged.merge(received1);
+        merged.merge(received2);
+
+        AnalyticsPartial.MetricPartial landing = merged.getMetric("landing");
+        assertThat(landing.getTotal()).isEqualTo(2000);
+        assertThat(landing.getHourlyCounts()[9]).isEqualTo(1000);
+        assertThat(landing.getHourlyCounts()[10]).isEqualTo(1000);
+        assertThat(landing.getEstimatedUniqueRequests()).isBetween(1350L, 1650L);
+    }
+
+    @Test
+    void 없는_메트릭은_빈_partial을_반환한다() {
+        AnalyticsPartial partial = new AnalyticsPartial("node-1");
+
+        assertThat(partial.getMetric("quiz").getTotal()).isZero();
+        assertThat(partial.getMetric("quiz").getEstimatedUniqueRequests()).isZero();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.wardrobe.domain.analytics.service;
+
+import com.example.wardrobe.common.logging.LogParser;
+import com.example.wardrobe.domain.analytics.dto.ExportFormat;
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.entity.UserRole;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.example.wardrobe.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 이벤트 내보내기 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest(properties = {
+        "analytics.ingest.initial-delay-ms=3600000",
+        "analytics.export.timeout=45m"
+})
+@AutoConfigureMockMvc
+class AnalyticsExportServiceTest {
+
+    private static final String CSV_HEADER = "timestamp,log_type,event,request_id,method,api_path,referer\n";
+
+    @TempDir
+    static Path dir;
+
+    @Autowired
+    private AnalyticsExportService exportService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @DynamicPropertySource
+    static void logPaths(DynamicPropertyRegistry registry) {
+        registry.add("analytics.log.path", () -> dir.resolve("application.log").toString());
+        registry.add("analytics.log.api.path", () -> dir.resolve("api-requests.log").toString());
+    }
+
+    @BeforeAll
+    static void writeLogs() throws IOException {
+        Files.writeString(dir.resolve("application.log"),
+                backend("2025-01-20 09:59:59.999", "GET", "/api/v1/quiz/start")
+                        + backend("2025-01-20 10:00:00.000", "POST", "/api/v1/quiz/complete")
+                        + backend("2025-01-20 10:30:00.000", "GET", "/api/v1/items?tags=a,b")
+                        + "not a log line\n");
+        Files.writeString(dir.resolve("api-requests.log"),
+                backend("2025-01-20 10:45:00.000", "GET", "/api/v1/search?q=\"coat\"")
+                        + backend("2025-01-20 11:00:00.000", "GET", "/api/v1/analysis/1"));
+    }
+
+    private static String backend(String timestamp, String method, String path) {
+        return timestamp + " INFO [01ARZ3NDEKTSV4RRFFQ69G5FAV] --- [http-nio-8080-exec-1] "
+                + "c.e.w.controller.ApiController : API Request: " + method + " " + path
+                + " | RequestId: 01ARZ3NDEKTSV4RRFFQ69G5FAV\n";
+    }
+
+    @Test
+    void CSV_필드의_쉼표_큰따옴표_줄바꿈은_따옴표로_감싼다() throws IOException {
+        assertThat(csvField("/plain")).isEqualTo("/plain");
+        assertThat(csvField("a,b")).isEqualTo("\"a,b\"");
+        assertThat(csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(csvField("line1\nline2")).isEqualTo("\"line1\nline2\"");
+        assertThat(csvField("line1\r\nline2")).isEqualTo("\"line1\r\nline2\"");
+        assertThat(csvField("")).isEmpty();
+        assertThat(csvField(null)).isEmpty();
+    }
+
+    @Test
+    void 기간은_시작을_포함하고_끝은_제외한다() throws IOException {
+        String csv = export(ExportFormat.CSV, LocalDateTime.of(2025, 1, 20, 10, 0),
+                LocalDateTime.of(2025, 1, 20, 11, 0), null);
+
+        assertThat(csv).isEqualTo(CSV_HEADER
+                + "2025-01-20T10:00,backend,quiz_complete,01ARZ3NDEKTSV4RRFFQ69G5FAV,POST,/api/v1/quiz/complete,\n"
+                + "2025-01-20T10:30,backend,api_request,01ARZ3NDEKTSV4RRFFQ69G5FAV,GET,\"/api/v1/items?tags=a,b\",\n"
+                + "2025-01-20T10:45,backend,api_request,01ARZ3NDEKTSV4RRFFQ69G5FAV,GET,"
+                + "\"/api/v1/search?q=\"\"coat\"\"\",\n");
+    }
+
+    @Test
+    void 이벤트_종류로_거른다() throws IOException {
+        String all = export(ExportFormat.NDJSON, null, null, null);
+        String quizOnly = export(ExportFormat.NDJSON, null, null, Set.of(LogParser.EventType.QUIZ_COMPLETE));
+
+        assertThat(all.lines()).hasSize(5);
+        assertThat(quizOnly.lines()).hasSize(1);
+        assertThat(quizOnly).contains("\"apiPath\":\"/api/v1/quiz/complete\"");
+    }
+
+    @Test
+    void 내보내기_요청에만_긴_비동기_타임아웃을_적용한다() throws Exception {
+        User admin = userRepository.save(User.builder()
+                .email("export-admin@test.com")
+                .password("unused")
+                .nickname("관리자")
+                .provider(AuthProvider.LOCAL)
+                .role(UserRole.ADMIN)
+                .build());
+        String adminToken = jwtTokenProvider.generateToken(admin.getId(), admin.getEmail(),
+                List.of(UserRole.ADMIN.getAuthority()), admin.getTokenVersion());
+
+        MvcResult started = mockMvc.perform(get("/api/v1/admin/analytics/export")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("event", "QUIZ_COMPLETE"))
+                .andReturn();
+
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(45 * 60 * 1000L);
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"events.csv\""))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(CSV_HEADER
+                        + "2025-01-20T10:00,backend,quiz_complete,01ARZ3NDEKTSV4RRFFQ69G5FAV,POST,/api/v1/quiz/complete,\n"));
+    }
+
+    private String export(ExportFormat format, LocalDateTime from, LocalDateTime to,
+                          Set<LogParser.EventType> events) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(out, format, from, to, events, false);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String csvField(String value) throws IOException {
+        StringWriter writer = new StringWriter();
+        AnalyticsExportService.writeCsvField(writer, value);
+        return writer.toString();
+    }
+}
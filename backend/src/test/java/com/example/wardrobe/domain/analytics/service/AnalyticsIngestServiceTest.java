@@ -0,0 +1,125 @@
+package com.example.wardrobe.domain.analytics.service;
+
+import com.example.wardrobe.domain.analytics.entity.AnalyticsBucket;
+import com.example.wardrobe.domain.analytics.entity.BucketGranularity;
+import com.example.wardrobe.domain.analytics.repository.AnalyticsBucketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그 적재 위치(커서) 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest(properties = {
+        "analytics.ingest.max-bytes-per-run=1024",
+        "analytics.ingest.initial-delay-ms=3600000"
+})
+class AnalyticsIngestServiceTest {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    // 테스트마다 다른 분 버킷을 쓰도록 기준 시각을 한 번만 잡음 (테스트 사이에 분이 바뀌어도 겹치지 않게)
+    private static final LocalDateTime BASE = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+    @Autowired
+    private AnalyticsIngestService ingestService;
+
+    @Autowired
+    private AnalyticsBucketRepository bucketRepository;
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void 새로_추가된_완전한_줄만_한번씩_적재한다() throws IOException {
+        LocalDateTime minute = minute(1);
+        Path file = dir.resolve("cursor.log");
+        Files.writeString(file, line(minute) + line(minute) + line(minute).stripTrailing());
+
+        assertThat(ingestService.ingest(file.toString())).isEqualTo(2);
+        assertThat(ingestService.ingest(file.toString())).isZero();
+        assertThat(count(minute)).isEqualTo(2);
+
+        append(file, "\n");
+        assertThat(ingestService.ingest(file.toString())).isEqualTo(1);
+        assertThat(count(minute)).isEqualTo(3);
+    }
+
+    @Test
+    void 한번에_읽는_크기보다_긴_줄은_건너뛰고_다음_줄로_넘어간다() throws IOException {
+        LocalDateTime minute = minute(2);
+        Path file = dir.resolve("oversized.log");
+        Files.writeString(file, "x".repeat(3000));
+
+        // 아직 끝나지 않은 긴 줄은 기다림
+        assertThat(ingestService.ingest(file.toString())).isZero();
+
+        append(file, "\n" + line(minute));
+        assertThat(ingestService.ingest(file.toString())).isEqualTo(1);
+        assertThat(ingestService.ingest(file.toString())).isEqualTo(1);
+        assertThat(count(minute)).isEqualTo(1);
+    }
+
+    @Test
+    void 로테이션되면_이전_파일의_남은_줄을_읽고_새_파일로_넘어간다() throws IOException {
+        LocalDateTime minute = minute(3);
+        Path file = dir.resolve("rotating.log");
+        Files.writeString(file, line(minute));
+        assertThat(ingestService.ingest(file.toString())).isEqualTo(1);
+
+        // 마지막 적재 이후 이전 파일에 쓰인 줄 (개행 없는 마지막 줄 포함)
+        append(file, line(minute) + line(minute).stripTrailing());
+        Files.move(file, dir.resolve("rotating.log.1"));
+        Files.writeString(file, line(minute));
+
+        assertThat(ingestService.ingest(file.toString())).isEqualTo(3);
+        assertThat(count(minute)).isEqualTo(4);
+        assertThat(ingestService.ingest(file.toString())).isZero();
+    }
+
+    @Test
+    void 같은_파일이_비워지면_처음부터_다시_읽는다() throws IOException {
+        LocalDateTime minute = minute(4);
+        Path file = dir.resolve("truncated.log");
+        Files.writeString(file, line(minute) + line(minute));
+        assertThat(ingestService.ingest(file.toString())).isEqualTo(2);
+
+        Files.writeString(file, line(minute), StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertThat(ingestService.ingest(file.toString())).isEqualTo(1);
+        assertThat(count(minute)).isEqualTo(3);
+    }
+
+    private static LocalDateTime minute(int minutesAgo) {
+        return BASE.minusMinutes(minutesAgo);
+    }
+
+    private static String line(LocalDateTime time) {
+        return time.format(TIMESTAMP) + " INFO [01ARZ3NDEKTSV4RRFFQ69G5FAV] --- [http-nio-8080-exec-1] "
+                + "c.e.w.controller.QuizController : API Request: POST /api/v1/quiz/complete"
+                + " | RequestId: 01ARZ3NDEKTSV4RRFFQ69G5FAV\n";
+    }
+
+    private static void append(Path file, String content) throws IOException {
+        Files.writeString(file, content, StandardOpenOption.APPEND);
+    }
+
+    private long count(LocalDateTime minute) {
+        return bucketRepository.findByMetricAndGranularityAndBucketStart("quiz", BucketGranularity.MINUTE, minute)
+                .map(AnalyticsBucket::getCount)
+                .orElse(0L);
+    }
+}
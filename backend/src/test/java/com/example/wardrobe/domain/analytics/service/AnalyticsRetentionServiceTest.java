@@ -0,0 +1,100 @@
+package com.example.wardrobe.domain.analytics.service;
+
+import com.example.wardrobe.domain.analytics.entity.AnalyticsBucket;
+import com.example.wardrobe.domain.analytics.entity.BucketGranularity;
+import com.example.wardrobe.domain.analytics.repository.AnalyticsBucketRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분석 데이터 보존/다운샘플링 테스트
+ *
+ * batch-size를 작게 두어 여러 배치에 걸친 처리도 확인합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest(properties = {
+        "analytics.retention.batch-size=2",
+        "analytics.ingest.initial-delay-ms=3600000"
+})
+class AnalyticsRetentionServiceTest {
+
+    @Autowired
+    private AnalyticsRetentionService retentionService;
+
+    @Autowired
+    private AnalyticsBucketRepository bucketRepository;
+
+    @Test
+    void 분_단위_버킷을_시간_단위로_합산하고_삭제한다() {
+        String metric = "retention-downsample";
+        LocalDateTime hour = LocalDateTime.of(2020, 3, 1, 10, 0);
+        save(metric, BucketGranularity.MINUTE, hour.plusMinutes(1), 3);
+        save(metric, BucketGranularity.MINUTE, hour.plusMinutes(30), 4);
+        save(metric, BucketGranularity.MINUTE, hour.plusMinutes(59), 5);
+        save(metric, BucketGranularity.MINUTE, hour.plusHours(1).plusMinutes(5), 7);
+        // 기준 시각이 속한 시간은 아직 다 모이지 않았으므로 남김
+        save(metric, BucketGranularity.MINUTE, hour.plusHours(2).plusMinutes(10), 11);
+
+        int processed = retentionService.downsample(
+                BucketGranularity.MINUTE, BucketGranularity.HOUR, hour.plusHours(2).plusMinutes(30));
+
+        assertThat(processed).isGreaterThanOrEqualTo(4);
+        assertThat(buckets(metric, BucketGranularity.HOUR)).extracting(AnalyticsBucket::getCount)
+                .containsExactly(12L, 7L);
+        assertThat(buckets(metric, BucketGranularity.MINUTE)).extracting(AnalyticsBucket::getBucketStart)
+                .containsExactly(hour.plusHours(2).plusMinutes(10));
+    }
+
+    @Test
+    void 이미_있는_상위_버킷에는_더한다() {
+        String metric = "retention-merge";
+        LocalDateTime day = LocalDateTime.of(2020, 4, 1, 0, 0);
+        save(metric, BucketGranularity.DAY, day, 100);
+        save(metric, BucketGranularity.HOUR, day.plusHours(3), 10);
+        save(metric, BucketGranularity.HOUR, day.plusHours(20), 20);
+
+        retentionService.downsample(BucketGranularity.HOUR, BucketGranularity.DAY, day.plusDays(1));
+
+        assertThat(buckets(metric, BucketGranularity.DAY)).extracting(AnalyticsBucket::getCount)
+                .containsExactly(130L);
+        assertThat(buckets(metric, BucketGranularity.HOUR)).isEmpty();
+    }
+
+    @Test
+    void 기준_시각_이전의_버킷만_삭제한다() {
+        String metric = "retention-purge";
+        LocalDateTime day = LocalDateTime.of(2020, 5, 1, 0, 0);
+        for (int i = 0; i < 5; i++) {
+            save(metric, BucketGranularity.DAY, day.plusDays(i), i + 1);
+        }
+
+        int purged = retentionService.purge(BucketGranularity.DAY, day.plusDays(3));
+
+        assertThat(purged).isGreaterThanOrEqualTo(3);
+        assertThat(buckets(metric, BucketGranularity.DAY)).extracting(AnalyticsBucket::getBucketStart)
+                .containsExactly(day.plusDays(3), day.plusDays(4));
+    }
+
+    private void save(String metric, BucketGranularity granularity, LocalDateTime start, long count) {
+        bucketRepository.save(AnalyticsBucket.builder()
+                .metric(metric)
+                .granularity(granularity)
+                .bucketStart(start)
+                .count(count)
+                .build());
+    }
+
+    private List<AnalyticsBucket> buckets(String metric, BucketGranularity granularity) {
+        return bucketRepository
+                .findByMetricAndGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        metric, granularity, LocalDateTime.of(2000, 1, 1, 0, 0), LocalDateTime.of(2100, 1, 1, 0, 0));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.wardrobe.domain.analytics.service;
+
+import com.example.wardrobe.common.analytics.MetricMatcher;
+import com.example.wardrobe.common.logging.LogParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MetricRegistry 기본 정의 / MetricMatcher 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class MetricRegistryTest {
+
+    private final MetricMatcher matcher = MetricMatcher.compile(MetricRegistry.defaultRules());
+
+    private static LogParser.ParsedLog backend(String apiPath) {
+        return new LogParser.ParsedLog("01AN4Z07BY79K3ABCDEFGHJKMN", LocalDateTime.of(2025, 1, 20, 10, 0),
+                LogParser.HttpMethod.GET, apiPath, null, LogParser.LogType.BACKEND, LogParser.EventType.API_REQUEST);
+    }
+
+    private static LogParser.ParsedLog frontend(LogParser.EventType event, String apiPath, String referer) {
+        return new LogParser.ParsedLog("550e8400", LocalDateTime.of(2025, 1, 20, 10, 0),
+                LogParser.HttpMethod.GET, apiPath, referer, LogParser.LogType.FRONTEND, event);
+    }
+
+    private List<String> metricsOf(LogParser.ParsedLog log) {
+        List<String> metrics = new ArrayList<>();
+        matcher.forEachMatch(log, metrics::add);
+        return metrics;
+    }
+
+    @Test
+    void 기본정의는_백엔드_경로조건을_기존과_같게_판단한다() {
+        assertThat(metricsOf(backend("/"))).containsExactly("landing");
+        assertThat(metricsOf(backend("/api/v1/landing/hero"))).containsExactly("landing");
+        assertThat(metricsOf(backend("/api/v1/quiz/complete"))).containsExactly("quiz");
+        assertThat(metricsOf(backend("/api/v1/style-quiz/result"))).containsExactly("quiz", "analysis");
+        assertThat(metricsOf(backend("/api/v1/analysis/42"))).containsExactly("analysis");
+        assertThat(metricsOf(backend("/api/v1/quiz/start"))).isEmpty();
+        assertThat(metricsOf(backend("/api/v1/feature1/ping"))).isEmpty();
+    }
+
+    @Test
+    void 기본정의는_프론트엔드_이벤트조건을_기존과_같게_판단한다() {
+        assertThat(metricsOf(frontend(LogParser.EventType.PAGE_VIEW, "/", null))).containsExactly("landing");
+        assertThat(metricsOf(frontend(LogParser.EventType.PAGE_VIEW, "/quiz", "/"))).containsExactly("landing");
+        assertThat(metricsOf(frontend(LogParser.EventType.PAGE_VIEW, "/quiz", "/about"))).isEmpty();
+        assertThat(metricsOf(frontend(LogParser.EventType.QUIZ_COMPLETE, "/quiz", null))).containsExactly("quiz");
+        assertThat(metricsOf(frontend(LogParser.EventType.RESULT_GENERATED, "/result", null)))
+                .containsExactly("analysis");
+        // 프론트엔드 로그는 경로에 키워드가 있어도 이벤트가 맞지 않으면 해당하지 않음
+        assertThat(metricsOf(frontend(LogParser.EventType.REQUEST_START, "/api/v1/analysis", null))).isEmpty();
+    }
+
+    @Test
+    void 겹치는_키워드도_한번의_스캔으로_모두_찾는다() {
+        MetricMatcher custom = MetricMatcher.compile(List.of(
+                new MetricMatcher.Rule("he", null, null, null, List.of("he"), false),
+                new MetricMatcher.Rule("she", null, null, null, List.of("she"), false),
+                new MetricMatcher.Rule("hers", null, Set.of(LogParser.EventType.API_REQUEST), null, List.of("hers"), false),
+                new MetricMatcher.Rule("his_and_hers", null, null, null, List.of("his", "hers|theirs"), false)
+        ));
+
+        List<String> metrics = new ArrayList<>();
+        custom.forEachMatch(backend("/ushers/his"), metrics::add);
+
+        assertThat(metrics).containsExactly("he", "she", "hers", "his_and_hers");
+        assertThat(custom.matches(backend("/this"), "his_and_hers")).isFalse();
+        assertThat(custom.matches(backend("/this"), "unknown")).isFalse();
+    }
+}
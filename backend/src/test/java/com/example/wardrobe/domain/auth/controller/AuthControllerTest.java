@@ -4,6 +4,8 @@ import com.example.wardrobe.config.TestSecurityConfig;
 import com.example.wardrobe.domain.auth.dto.LoginRequest;
 import com.example.wardrobe.domain.auth.service.AuthService;
 import com.example.wardrobe.domain.auth.dto.TokenResponse;
+import com.example.wardrobe.domain.auth.exception.InvalidCredentialsException;
+import com.example.wardrobe.security.PasswordHashingBusyException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,9 +15,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -45,15 +51,52 @@ class AuthControllerTest {
         LoginRequest request = new LoginRequest("test@example.com", "password123");
         TokenResponse response = new TokenResponse("test-token");
 
-        given(authService.login(any(LoginRequest.class))).willReturn(response);
+        given(authService.login(any(LoginRequest.class), any())).willReturn(CompletableFuture.completedFuture(response));
 
         // when & then
-        mockMvc.perform(post("/api/v1/auth/login")
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accessToken").value("test-token"))
                 .andExpect(jsonPath("$.tokenType").value("Bearer"));
     }
-}
 
+    @Test
+    void login_WrongPassword_Async401() throws Exception {
+        // given
+        LoginRequest request = new LoginRequest("test@example.com", "wrong-password");
+
+        given(authService.login(any(LoginRequest.class), any()))
+                .willReturn(CompletableFuture.failedFuture(new InvalidCredentialsException()));
+
+        // when & then
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void login_HashingQueueFull_503() throws Exception {
+        // given
+        LoginRequest request = new LoginRequest("test@example.com", "password123");
+
+        given(authService.login(any(LoginRequest.class), any())).willThrow(new PasswordHashingBusyException());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.wardrobe.domain.auth.service;
+
+import com.example.wardrobe.domain.auth.dto.LoginRequest;
+import com.example.wardrobe.domain.auth.exception.InvalidCredentialsException;
+import com.example.wardrobe.domain.auth.exception.TooManyLoginAttemptsException;
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AuthService 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 로그인_성공시_기존_해시를_현재_설정으로_다시_해싱한다() throws InterruptedException {
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password123");
+        User saved = userRepository.save(User.builder()
+                .email("rehash@test.com")
+                .password(legacyHash)
+                .nickname("재해싱")
+                .provider(AuthProvider.LOCAL)
+                .build());
+
+        authService.login(new LoginRequest("rehash@test.com", "password123"), "127.0.0.1").join();
+
+        // 재해싱은 로그인 응답과 별개로 해싱 스레드에서 진행됨
+        User rehashed = awaitPasswordChange(saved.getId(), legacyHash);
+        assertThat(rehashed.getPassword()).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.upgradeEncoding(rehashed.getPassword())).isFalse();
+        assertThat(rehashed.getTokenVersion()).isZero();
+
+        // 이미 현재 설정이면 다시 해싱하지 않음
+        authService.login(new LoginRequest("rehash@test.com", "password123"), "127.0.0.1").join();
+        assertThat(userRepository.findById(saved.getId()).orElseThrow().getPassword())
+                .isEqualTo(rehashed.getPassword());
+    }
+
+    @Test
+    void 캐시를_거치지_않고_DB에서_바뀐_비밀번호로_검증한다() {
+        userRepository.save(User.builder()
+                .email("changed-password@test.com")
+                .password(passwordEncoder.encode("password123"))
+                .nickname("비밀번호변경")
+                .provider(AuthProvider.LOCAL)
+                .build());
+        // 프로필 조회로 자연 키 캐시에 이전 비밀번호 해시가 올라감
+        userRepository.findByEmail("changed-password@test.com").orElseThrow();
+
+        // 다른 노드나 SQL로 바뀐 경우처럼 2차 캐시를 거치지 않고 변경
+        jdbcTemplate.update("update users set password = ? where email = ?",
+                passwordEncoder.encode("newPassword123"), "changed-password@test.com");
+
+        assertThatThrownBy(() -> authService.login(
+                new LoginRequest("changed-password@test.com", "password123"), "127.0.0.1").join())
+                .hasCauseInstanceOf(InvalidCredentialsException.class);
+        assertThat(authService.login(
+                new LoginRequest("changed-password@test.com", "newPassword123"), "127.0.0.1").join().accessToken())
+                .isNotBlank();
+    }
+
+    @Test
+    void 같은_이메일로_한도를_넘겨_시도하면_조회_전에_거절한다() {
+        LoginRequest request = new LoginRequest("nobody@test.com", "password123");
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> authService.login(request, "10.0.0.1"))
+                    .isInstanceOf(InvalidCredentialsException.class);
+        }
+        assertThatThrownBy(() -> authService.login(request, "10.0.0.2"))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+    }
+
+    private User awaitPasswordChange(Long userId, String previousHash) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        User user = userRepository.findById(userId).orElseThrow();
+        while (previousHash.equals(user.getPassword()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            user = userRepository.findById(userId).orElseThrow();
+        }
+        assertThat(user.getPassword()).isNotEqualTo(previousHash);
+        return user;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.wardrobe.domain.auth.service;
+
+import com.example.wardrobe.domain.auth.dto.TokenResponse;
+import com.example.wardrobe.domain.auth.exception.InvalidRefreshTokenException;
+import com.example.wardrobe.domain.auth.repository.RefreshTokenRepository;
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.example.wardrobe.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RefreshTokenService 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void 재발급하면_새토큰으로_교체되고_이전토큰_재사용시_계열이_폐기된다() {
+        User user = saveUser("refresh@test.com");
+        String first = refreshTokenService.issue(user.getId(), user.getTokenVersion());
+
+        TokenResponse renewed = refreshTokenService.refresh(first);
+        assertThat(jwtTokenProvider.verify(renewed.accessToken()).userId()).isEqualTo(user.getId());
+        assertThat(renewed.refreshToken()).isNotEqualTo(first);
+
+        // 이미 사용한 토큰 재사용 → 거부되고 계열 전체 폐기
+        assertThatThrownBy(() -> refreshTokenService.refresh(first))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThatThrownBy(() -> refreshTokenService.refresh(renewed.refreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    void 없는토큰은_거부하고_만료된토큰은_배치로_삭제한다() {
+        User user = saveUser("refresh-purge@test.com");
+        refreshTokenService.issue(user.getId(), user.getTokenVersion());
+
+        assertThatThrownBy(() -> refreshTokenService.refresh("unknown-token"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        long before = refreshTokenRepository.count();
+        assertThat(refreshTokenService.purgeExpired(LocalDateTime.now().plusYears(1))).isEqualTo((int) before);
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("{noop}unused")
+                .nickname("재발급")
+                .provider(AuthProvider.LOCAL)
+                .build());
+    }
+}
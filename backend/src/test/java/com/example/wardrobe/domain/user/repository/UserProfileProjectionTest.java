@@ -0,0 +1,113 @@
+package com.example.wardrobe.domain.user.repository;
+
+import com.example.wardrobe.Benchmarks;
+import com.example.wardrobe.domain.user.dto.CachedUser;
+import com.example.wardrobe.domain.user.dto.UserProfileResponse;
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.entity.UserRole;
+import com.example.wardrobe.domain.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 프로필 조회 테스트
+ *
+ * 벤치마크는 ./gradlew test -Dbenchmark=true 로 실행할 때만 동작합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest
+class UserProfileProjectionTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 캐시_항목은_엔티티의_프로필과_권한을_그대로_담는다() {
+        User saved = saveUser("projection@test.com");
+
+        CachedUser byId = userService.getUserById(saved.getId());
+        CachedUser byEmail = userService.getUserByEmail("projection@test.com");
+
+        assertThat(byId).isEqualTo(byEmail);
+        assertThat(byId.email()).isEqualTo("projection@test.com");
+        assertThat(byId.nickname()).isEqualTo("프로젝션");
+        assertThat(byId.provider()).isEqualTo(AuthProvider.LOCAL);
+        assertThat(byId.role()).isEqualTo(UserRole.USER);
+        assertThat(byId.createdAt()).isNotNull();
+        assertThat(byId.toProfile()).isEqualTo(UserProfileResponse.from(saved));
+    }
+
+    @Test
+    void 프로필_조회는_사용자_캐시에서_응답한다() {
+        User saved = saveUser("projection-cache@test.com");
+        UserProfileResponse first = userService.getProfileById(saved.getId());
+
+        statistics.clear();
+        UserProfileResponse byId = userService.getProfileById(saved.getId());
+        UserProfileResponse byEmail = userService.getProfileByEmail("projection-cache@test.com");
+
+        assertThat(byId).isEqualTo(first).isEqualTo(byEmail);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        userService.updateProfile(saved.getId(), "수정후", null);
+        assertThat(userService.getProfileById(saved.getId()).nickname()).isEqualTo("수정후");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 벤치마크_엔티티_2차캐시_대비_프로젝션() {
+        Long id = saveUser("projection-bench@test.com").getId();
+        int iterations = 20_000;
+
+        // UserCache에 없을 때의 적재 비용: 엔티티(2차 캐시 적중) + 변환 vs 이전 프로젝션 쿼리(매번 DB 조회)
+        Benchmarks.report("entity (L2) + from", iterations, () -> transactionTemplate.execute(status ->
+                userRepository.findById(id).map(CachedUser::from).orElseThrow()));
+        Benchmarks.report("projection query", iterations, () -> transactionTemplate.execute(status ->
+                entityManager.createQuery("select new com.example.wardrobe.domain.user.dto.CachedUser(u.id, u.email, "
+                                + "u.nickname, u.profileImageUrl, u.provider, u.role, u.tokenVersion, u.createdAt) "
+                                + "from User u where u.id = :id", CachedUser.class)
+                        .setParameter("id", id)
+                        .getSingleResult()));
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("{bcrypt}unused")
+                .nickname("프로젝션")
+                .provider(AuthProvider.LOCAL)
+                .build());
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.wardrobe.domain.user.repository;
+
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.service.UserCache;
+import com.example.wardrobe.domain.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * User 2차 캐시 / 자연 키 캐시 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 이메일과_ID_조회는_커밋된_뒤_DB를_다시_조회하지_않는다() {
+        User saved = saveUser("l2-read@test.com");
+        // 첫 조회로 캐시에 적재
+        transactionTemplate.execute(status -> userRepository.findByEmail("l2-read@test.com").orElseThrow());
+
+        statistics.clear();
+        User byEmail = transactionTemplate.execute(status ->
+                userRepository.findByEmail("l2-read@test.com").orElseThrow());
+        User byId = transactionTemplate.execute(status -> userRepository.findById(saved.getId()).orElseThrow());
+
+        assertThat(byEmail.getId()).isEqualTo(saved.getId());
+        assertThat(byId.getEmail()).isEqualTo("l2-read@test.com");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount())
+                .isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void 엔티티_변경이_커밋되면_캐시된_값도_바뀐다() {
+        User saved = saveUser("l2-update@test.com");
+        Long id = saved.getId();
+        transactionTemplate.execute(status -> userRepository.findById(id).orElseThrow());
+
+        userService.updateProfile(id, "변경후", "https://example.com/after.png");
+        transactionTemplate.execute(status -> {
+            userRepository.findById(id).orElseThrow().updatePassword("{bcrypt}changed");
+            return null;
+        });
+
+        statistics.clear();
+        User cached = transactionTemplate.execute(status ->
+                userRepository.findByEmail("l2-update@test.com").orElseThrow());
+        assertThat(cached.getNickname()).isEqualTo("변경후");
+        assertThat(cached.getProfileImageUrl()).isEqualTo("https://example.com/after.png");
+        assertThat(cached.getPassword()).isEqualTo("{bcrypt}changed");
+        assertThat(cached.getTokenVersion()).isEqualTo(1);
+
+        // 롤백된 변경은 캐시에 반영되지 않음
+        transactionTemplate.execute(status -> {
+            userRepository.findById(id).orElseThrow().updateNickname("롤백");
+            userRepository.flush();
+            status.setRollbackOnly();
+            return null;
+        });
+        String nickname = transactionTemplate.execute(status -> userRepository.findById(id).orElseThrow().getNickname());
+        assertThat(nickname).isEqualTo("변경후");
+    }
+
+    @Test
+    void 사용자_캐시_적재는_엔티티_캐시를_사용하고_변경되면_새_값을_읽는다() {
+        User saved = saveUser("l2-user-cache@test.com");
+        Long id = saved.getId();
+        userService.getUserById(id);
+        userCache.evict(id, "l2-user-cache@test.com");
+
+        statistics.clear();
+        assertThat(userService.getUserById(id).nickname()).isEqualTo("캐시");
+        assertThat(userService.getUserByEmail("l2-user-cache@test.com").id()).isEqualTo(id);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount()).isGreaterThanOrEqualTo(1);
+
+        userService.updateProfile(id, "엔티티캐시후", null);
+        assertThat(userService.getUserById(id).nickname()).isEqualTo("엔티티캐시후");
+    }
+
+    @Test
+    void 캐시_통계가_메트릭으로_노출된다() {
+        User saved = saveUser("l2-metrics@test.com");
+        transactionTemplate.execute(status -> userRepository.findById(saved.getId()).orElseThrow());
+
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.cache.natural.id.requests").meters()).isNotEmpty();
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("{bcrypt}unused")
+                .nickname("캐시")
+                .provider(AuthProvider.LOCAL)
+                .build());
+    }
+}
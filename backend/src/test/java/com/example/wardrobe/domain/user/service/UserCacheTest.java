@@ -0,0 +1,99 @@
+package com.example.wardrobe.domain.user.service;
+
+import com.example.wardrobe.domain.user.dto.CachedUser;
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.entity.UserRole;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 사용자 조회 캐시 테스트
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest
+class UserCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void 반복조회는_캐시에서_반환하고_프로필수정이_커밋되면_무효화된다() {
+        User saved = userService.signup("cache@test.com", "password123", "캐시전").join();
+
+        CachedUser first = userService.getUserById(saved.getId());
+        CachedUser second = userService.getUserByEmail("cache@test.com");
+        assertThat(second).isSameAs(first);
+
+        userService.updateProfile(saved.getId(), "캐시후", null);
+
+        assertThat(userService.getUserById(saved.getId()).nickname()).isEqualTo("캐시후");
+        assertThat(userService.getUserByEmail("cache@test.com").nickname()).isEqualTo("캐시후");
+    }
+
+    @Test
+    void 캐시_적중률_메트릭이_노출된다() {
+        User saved = userService.signup("metrics@test.com", "password123", "메트릭").join();
+        userService.getUserById(saved.getId());
+        userService.getUserById(saved.getId());
+
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "users.by-id").tag("result", "hit").functionCounter())
+                .isNotNull();
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "users.by-id").tag("result", "hit")
+                .functionCounter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void 조회중에_무효화되면_이전_값을_캐시에_다시_저장하지_않는다() {
+        UserRepository repository = mock(UserRepository.class);
+        UserCache cache = new UserCache(repository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        User stale = User.builder()
+                .email("race@test.com")
+                .password("{bcrypt}unused")
+                .nickname("이전")
+                .provider(AuthProvider.LOCAL)
+                .role(UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(stale, "id", 7L);
+        // 이전 값을 읽은 뒤, 저장하기 전에 다른 트랜잭션의 커밋으로 무효화됨
+        given(repository.findById(7L)).willAnswer(invocation -> {
+            cache.evict(7L, "race@test.com");
+            return Optional.of(stale);
+        });
+
+        assertThat(cache.findById(7L)).get().extracting(CachedUser::nickname).isEqualTo("이전");
+        cache.findById(7L);
+
+        verify(repository, times(2)).findById(7L);
+    }
+
+    @Test
+    void 캐시_항목에는_비밀번호_해시가_없다() {
+        User saved = userService.signup("no-hash@test.com", "password123", "해시").join();
+
+        CachedUser cached = userService.getUserById(saved.getId());
+
+        assertThat(CachedUser.class.getRecordComponents()).extracting("name").doesNotContain("password");
+        assertThat(cached.toString()).doesNotContain(saved.getPassword());
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.wardrobe.domain.user.service;
+
+import com.example.wardrobe.Benchmarks;
+import com.example.wardrobe.domain.user.dto.UserDirectoryPage;
+import com.example.wardrobe.domain.user.dto.UserProfileResponse;
+import com.example.wardrobe.domain.user.entity.AuthProvider;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.exception.InvalidUserQueryException;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 관리자 사용자 목록(키셋 페이지네이션) 테스트
+ *
+ * 벤치마크는 ./gradlew test -Dbenchmark=true 로 실행할 때만 동작합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+// SQL 콘솔 출력이 벤치마크 시간을 좌우하지 않도록 끔
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class UserDirectoryServiceTest {
+
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecordingStatementInspector statementInspector;
+
+    /**
+     * Hibernate가 실행하는 SQL을 기록 (실행 계획 확인용)
+     */
+    @TestConfiguration
+    static class SqlRecordingConfig {
+
+        @Bean
+        RecordingStatementInspector recordingStatementInspector() {
+            return new RecordingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(RecordingStatementInspector inspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    static class RecordingStatementInspector implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        private volatile boolean recording;
+
+        @Override
+        public String inspect(String sql) {
+            if (recording) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        /**
+         * 작업 중 실행된 마지막 SQL
+         */
+        String lastStatementOf(Runnable work) {
+            statements.clear();
+            recording = true;
+            try {
+                work.run();
+            } finally {
+                recording = false;
+            }
+            return statements.get(statements.size() - 1);
+        }
+    }
+
+    @Test
+    void 전체_목록은_가입일_최신순으로_중복없이_끝까지_넘어간다() {
+        for (int i = 0; i < 5; i++) {
+            saveUser("directory-all-" + i + "@test.com", "전체" + i);
+        }
+
+        List<UserProfileResponse> all = collect(null, null, 2);
+
+        assertThat(all).extracting(UserProfileResponse::id).doesNotHaveDuplicates();
+        assertThat(all).isSortedAccordingTo(Comparator
+                .comparing(UserProfileResponse::createdAt)
+                .thenComparing(UserProfileResponse::id)
+                .reversed());
+        assertThat(all).extracting(UserProfileResponse::email)
+                .contains("directory-all-0@test.com", "directory-all-4@test.com");
+        assertThat(all).hasSize((int) userRepository.count());
+    }
+
+    @Test
+    void 이메일_접두어_검색은_이메일순으로_페이지를_나눈다() {
+        for (String local : List.of("dir-e3", "dir-e1", "dir-e5", "dir-e2", "dir-e4")) {
+            saveUser(local + "@test.com", "이메일");
+        }
+        saveUser("other-dir-e@test.com", "이메일");
+
+        UserDirectoryPage first = userDirectoryService.list("dir-e", null, null, 2);
+        assertThat(first.users()).extracting(UserProfileResponse::email)
+                .containsExactly("dir-e1@test.com", "dir-e2@test.com");
+        assertThat(first.nextCursor()).isNotNull();
+
+        List<UserProfileResponse> all = collect("dir-e", null, 2);
+        assertThat(all).extracting(UserProfileResponse::email).containsExactly(
+                "dir-e1@test.com", "dir-e2@test.com", "dir-e3@test.com", "dir-e4@test.com", "dir-e5@test.com");
+    }
+
+    @Test
+    void 닉네임_접두어_검색은_같은_닉네임도_ID순으로_이어서_넘어간다() {
+        List<Long> sameNickname = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sameNickname.add(saveUser("dir-n-same-" + i + "@test.com", "디렉터리B").getId());
+        }
+        saveUser("dir-n-a@test.com", "디렉터리A");
+        saveUser("dir-n-c@test.com", "디렉터리C");
+
+        List<UserProfileResponse> all = collect(null, "디렉터리", 2);
+
+        assertThat(all).extracting(UserProfileResponse::nickname)
+                .containsExactly("디렉터리A", "디렉터리B", "디렉터리B", "디렉터리B", "디렉터리C");
+        assertThat(all.subList(1, 4)).extracting(UserProfileResponse::id).containsExactlyElementsOf(sameNickname);
+    }
+
+    @Test
+    void 접두어의_와일드카드는_글자_그대로_비교한다() {
+        saveUser("dir-w1@test.com", "50%할인");
+        saveUser("dir-w2@test.com", "50원");
+        saveUser("dir-w3@test.com", "5_0!");
+
+        assertThat(userDirectoryService.list(null, "50%", null, 10).users())
+                .extracting(UserProfileResponse::email).containsExactly("dir-w1@test.com");
+        assertThat(userDirectoryService.list(null, "5_", null, 10).users())
+                .extracting(UserProfileResponse::email).containsExactly("dir-w3@test.com");
+        assertThat(UserDirectoryService.likePrefix("a!b%_")).isEqualTo("a!!b!%!_%");
+    }
+
+    @Test
+    void 잘못된_커서나_검색조건은_거절한다() {
+        saveUser("dir-x1@test.com", "커서");
+        saveUser("dir-x2@test.com", "커서");
+        String emailCursor = userDirectoryService.list("dir-x", null, null, 1).nextCursor();
+
+        assertThatThrownBy(() -> userDirectoryService.list(null, null, "not-base64!", 10))
+                .isInstanceOf(InvalidUserQueryException.class);
+        assertThatThrownBy(() -> userDirectoryService.list(null, null, emailCursor, 10))
+                .isInstanceOf(InvalidUserQueryException.class);
+        assertThatThrownBy(() -> userDirectoryService.list("dir", "커서", null, 10))
+                .isInstanceOf(InvalidUserQueryException.class);
+        assertThatThrownBy(() -> userDirectoryService.list(null, null, null, UserDirectoryService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(InvalidUserQueryException.class);
+    }
+
+    @Test
+    void 목록_조회는_키셋_인덱스를_순서대로_범위_탐색한다() {
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        String firstPageSql = statementInspector.lastStatementOf(() ->
+                userRepository.findDirectoryPage(PageRequest.ofSize(20)));
+        String directorySql = statementInspector.lastStatementOf(() ->
+                userRepository.findDirectoryPageAfter(createdAt, 100L, PageRequest.ofSize(20)));
+        String nicknameSql = statementInspector.lastStatementOf(() ->
+                userRepository.findByNicknamePrefixAfter("닉%", "닉네임", 100L, PageRequest.ofSize(20)));
+
+        // 인덱스 순서대로 읽으므로 정렬 없이 페이지 크기만큼 읽고 멈춤 ("index sorted")
+        assertThat(explain(firstPageSql, 0, 20))
+                .contains("PUBLIC.IDX_USERS_CREATED_AT_ID")
+                .contains("/* index sorted */");
+        assertThat(explain(directorySql, createdAt, createdAt, 100L, 0, 20))
+                .contains("/* PUBLIC.IDX_USERS_CREATED_AT_ID: CREATED_AT <= ?1 */")
+                .contains("/* index sorted */");
+        assertThat(explain(nicknameSql, "닉%", "닉네임", "닉네임", 100L, 0, 20))
+                .contains("/* PUBLIC.IDX_USERS_NICKNAME_ID: NICKNAME >= ?2")
+                .contains("/* index sorted */");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 벤치마크_OFFSET_대비_키셋_깊은_페이지() {
+        int rows = 200_000;
+        long firstId = 10_000_000L;
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+        List<Object[]> batch = new ArrayList<>(1_000);
+        for (int i = 0; i < rows; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            batch.add(new Object[]{firstId + i, "dir-bench-" + i + "@test.com", "{bcrypt}unused",
+                    "벤치" + i, "LOCAL", "USER", 0L, createdAt, createdAt});
+            if (batch.size() == 1_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+
+        try {
+            // 목록 끝 근처(깊은 페이지)를 같은 저장소 경로로 OFFSET과 키셋으로 각각 조회
+            int deepPage = rows / 20 - 2;
+            List<UserProfileResponse> previous = userRepository.findDirectoryPage(PageRequest.of(deepPage - 1, 20));
+            UserProfileResponse anchor = previous.get(previous.size() - 1);
+            assertThat(userRepository.findDirectoryPageAfter(anchor.createdAt(), anchor.id(), PageRequest.ofSize(20)))
+                    .isEqualTo(userRepository.findDirectoryPage(PageRequest.of(deepPage, 20)));
+            int iterations = 200;
+
+            Benchmarks.report("first page", iterations, () -> userDirectoryService.list(null, null, null, 20));
+            Benchmarks.report("offset deep page", iterations, () ->
+                    userRepository.findDirectoryPage(PageRequest.of(deepPage, 20)));
+            Benchmarks.report("keyset deep page", iterations, () -> userRepository.findDirectoryPageAfter(
+                    anchor.createdAt(), anchor.id(), PageRequest.ofSize(20)));
+        } finally {
+            // 같은 컨텍스트를 쓰는 다른 테스트가 전체 목록을 넘기므로 벤치마크 데이터 삭제
+            jdbcTemplate.update("delete from users where id >= ?", firstId);
+        }
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("insert into users (id, email, password, nickname, provider, role, token_version, "
+                + "created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    /**
+     * Hibernate가 만든 SQL을 같은 파라미터로 EXPLAIN (H2 실행 계획)
+     */
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private List<UserProfileResponse> collect(String email, String nickname, int size) {
+        List<UserProfileResponse> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            UserDirectoryPage page = userDirectoryService.list(email, nickname, cursor, size);
+            assertThat(page.users()).hasSizeLessThanOrEqualTo(size);
+            all.addAll(page.users());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("{bcrypt}unused")
+                .nickname(nickname)
+                .provider(AuthProvider.LOCAL)
+                .build());
+    }
+}
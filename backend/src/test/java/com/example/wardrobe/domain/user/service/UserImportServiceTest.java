@@ -0,0 +1,107 @@
+package com.example.wardrobe.domain.user.service;
+
+import com.example.wardrobe.domain.user.dto.UserImportResult;
+import com.example.wardrobe.domain.user.entity.User;
+import com.example.wardrobe.domain.user.repository.UserRepository;
+import com.example.wardrobe.security.PasswordHasher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.willReturn;
+
+/**
+ * 사용자 대량 가져오기 테스트
+ * 
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest(properties = "user.import.batch-size=2")
+class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @SpyBean
+    private PasswordHasher passwordHasher;
+
+    @Test
+    void NDJSON을_배치로_저장하고_중복과_잘못된_행은_건너뛴다() throws Exception {
+        userService.signup("import-existing@test.com", "password123", "기존").join();
+        String ndjson = """
+                {"email":"import-1@test.com","password":"password123","nickname":"하나"}
+                {"email":"import-existing@test.com","password":"password123"}
+                {"email":"import-2@test.com","password":"password456","nickname":"둘"}
+
+                {"email":"import-1@test.com","password":"password123"}
+                {"email":"import-3@test.com","password":"short"}
+                not-json
+                {"email":"import-4@test.com","password":"password789"}
+                """;
+
+        UserImportResult result = userImportService.importUsers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(result.invalid()).isEqualTo(2);
+
+        User imported = userRepository.findByEmail("import-2@test.com").orElseThrow();
+        assertThat(imported.getNickname()).isEqualTo("둘");
+        assertThat(passwordEncoder.matches("password456", imported.getPassword())).isTrue();
+        assertThat(userRepository.findByEmail("import-3@test.com")).isEmpty();
+        assertThat(userRepository.findByEmail("import-4@test.com")).isPresent();
+    }
+
+    @Test
+    void 회원가입과_같은_규칙으로_행을_검증한다() throws Exception {
+        String ndjson = """
+                {"email":"import-valid@test.com","password":"password123"}
+                {"email":"import invalid@test.com","password":"password123"}
+                {"email":"import-long@test.com","password":"password123","nickname":"%s"}
+                {"email":"import-blank@test.com","password":"          "}
+                """.formatted("닉".repeat(51));
+
+        UserImportResult result = userImportService.importUsers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.invalid()).isEqualTo(3);
+        assertThat(userRepository.findByEmail("import-valid@test.com")).isPresent();
+    }
+
+    @Test
+    void 해싱에_실패한_행만_실패로_세고_나머지는_저장한다() throws Exception {
+        willReturn(CompletableFuture.failedFuture(new IllegalStateException("해싱 실패")))
+                .given(passwordHasher).encode("hash-fails");
+        String ndjson = """
+                {"email":"import-hash-1@test.com","password":"password123"}
+                {"email":"import-hash-fail@test.com","password":"hash-fails"}
+                {"email":"import-hash-2@test.com","password":"password456"}
+                """;
+
+        UserImportResult result = userImportService.importUsers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(userRepository.findByEmail("import-hash-fail@test.com")).isEmpty();
+        assertThat(userRepository.findByEmail("import-hash-2@test.com")).isPresent();
+    }
+}
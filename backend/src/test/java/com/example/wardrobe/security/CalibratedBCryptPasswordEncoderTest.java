@@ -0,0 +1,33 @@
+package com.example.wardrobe.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CalibratedBCryptPasswordEncoder 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    void 예산이_작으면_최소cost_크면_최대cost를_선택한다() {
+        assertThat(CalibratedBCryptPasswordEncoder.calibrate(Duration.ofNanos(1), 4, 6)).isEqualTo(4);
+        assertThat(CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMinutes(1), 4, 6)).isEqualTo(6);
+    }
+
+    @Test
+    void 저장된_cost가_목표보다_낮을_때만_재해싱이_필요하다() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password123"))).isFalse();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password123"))).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+    }
+}
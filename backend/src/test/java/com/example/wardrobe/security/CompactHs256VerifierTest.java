@@ -0,0 +1,79 @@
+package com.example.wardrobe.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CompactHs256Verifier 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class CompactHs256VerifierTest {
+
+    private static final String SECRET = "testSecretKeyForJwtTokenProviderTestOnly1234567890";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 1800, 0, true);
+    private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    private final CompactHs256Verifier verifier = new CompactHs256Verifier(key, headerOf(provider.generateToken("h@test.com")));
+
+    @Test
+    void 발급한_토큰은_jjwt와_같은_클레임을_읽는다() {
+        String token = provider.generateToken(42L, "compact@test.com", List.of("ROLE_USER", "ROLE_ADMIN"), 7L);
+
+        VerifiedToken compact = verifier.verify(token);
+        VerifiedToken jjwt = provider.parseWithJjwt(token);
+
+        assertThat(compact).isNotNull().isNotSameAs(CompactHs256Verifier.REJECTED);
+        assertThat(compact).isEqualTo(jjwt);
+        assertThat(compact.roles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void 서명이_다르거나_만료된_토큰은_거부한다() {
+        String token = provider.generateToken(1L, "compact@test.com", List.of("ROLE_USER"), 0L);
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+        String otherKey = new JwtTokenProvider(SECRET + "-other", 1800, 0).generateToken("compact@test.com");
+        String expired = new JwtTokenProvider(SECRET, -10, 0).generateToken("compact@test.com");
+
+        assertThat(verifier.verify(tampered)).isSameAs(CompactHs256Verifier.REJECTED);
+        assertThat(verifier.verify(otherKey)).isSameAs(CompactHs256Verifier.REJECTED);
+        assertThat(verifier.verify(expired)).isSameAs(CompactHs256Verifier.REJECTED);
+        assertThat(provider.verify(tampered)).isNull();
+    }
+
+    @Test
+    void 다른_형식의_토큰은_jjwt로_넘긴다() {
+        // 이전에 키 길이로 알고리즘이 정해져 발급된 HS384 토큰
+        String hs384 = Jwts.builder()
+                .subject("legacy@test.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, Jwts.SIG.HS384)
+                .compact();
+        String unknownClaim = Jwts.builder()
+                .subject("nbf@test.com")
+                .notBefore(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+
+        assertThat(verifier.verify(hs384)).isNull();
+        assertThat(verifier.verify(unknownClaim)).isNull();
+        assertThat(verifier.verify("not-a-jwt")).isNull();
+        assertThat(provider.verify(hs384).subject()).isEqualTo("legacy@test.com");
+        assertThat(provider.verify(unknownClaim).subject()).isEqualTo("nbf@test.com");
+    }
+
+    private static String headerOf(String token) {
+        return token.substring(0, token.indexOf('.'));
+    }
+}
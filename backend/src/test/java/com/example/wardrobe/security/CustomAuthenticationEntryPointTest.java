@@ -0,0 +1,97 @@
+package com.example.wardrobe.security;
+
+import com.example.wardrobe.Benchmarks;
+import com.example.wardrobe.domain.auth.exception.InvalidCredentialsException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CustomAuthenticationEntryPoint / CustomAccessDeniedHandler 테스트
+ *
+ * 벤치마크는 ./gradlew test -Dbenchmark=true 로 실행할 때만 동작합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+@SpringBootTest
+class CustomAuthenticationEntryPointTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomAuthenticationEntryPoint entryPoint;
+
+    @Autowired
+    private CustomAccessDeniedHandler accessDeniedHandler;
+
+    @Test
+    void 인증_실패시_401_JSON을_UTF8로_쓴다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        entryPoint.commence(request, response, new InsufficientAuthenticationException("no token"));
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).startsWith("application/json");
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertThat(body.get("status").asInt()).isEqualTo(401);
+        assertThat(body.get("message").asText()).isEqualTo("인증이 필요합니다. 로그인 후 다시 시도해주세요.");
+        assertThat(body.get("path").asText()).isEqualTo("/api/v1/users/me");
+        assertThat(body.get("timestamp").isTextual()).isTrue();
+    }
+
+    @Test
+    void 권한이_없으면_403_JSON의_timestamp도_문자열로_쓴다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/users");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        accessDeniedHandler.handle(request, response, new AccessDeniedException("denied"));
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertThat(body.get("path").asText()).isEqualTo("/api/v1/admin/users");
+        assertThat(body.get("timestamp").isTextual()).isTrue();
+    }
+
+    @Test
+    void 도메인_예외는_스택트레이스를_만들지_않는다() {
+        assertThat(new InvalidCredentialsException().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 벤치마크_401_응답_처리량() {
+        InsufficientAuthenticationException cause = new InsufficientAuthenticationException("no token");
+        int iterations = 200_000;
+
+        // 로그인 실패 예외: 기존 방식(스택 트레이스 수집) 대비 스택 없는 도메인 예외
+        double stack = Benchmarks.report("exception (stack)", iterations,
+                () -> new RuntimeException("이메일 또는 비밀번호가 올바르지 않습니다."));
+        double stackless = Benchmarks.report("exception (stackless)", iterations, InvalidCredentialsException::new);
+
+        // 401 응답 전체 경로 (ErrorResponse 생성 + 직렬화 + 응답 쓰기)
+        double commence = Benchmarks.report("401 commence", iterations, () -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                entryPoint.commence(new MockHttpServletRequest("GET", "/api/v1/users/me"), response, cause);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return response;
+        });
+        System.out.printf("[benchmark] 401 commence %10.0f ops/s%n", 1e9 / commence);
+
+        assertThat(stackless).isLessThan(stack);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.wardrobe.security;
+
+import com.example.wardrobe.Benchmarks;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtTokenProvider 테스트
+ *
+ * 벤치마크는 ./gradlew test -Dbenchmark=true 로 실행할 때만 동작합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "testSecretKeyForJwtTokenProviderTestOnly1234567890";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 1800, 1000);
+
+    @Test
+    void 검증된_토큰은_같은_클레임을_반환한다() {
+        String token = provider.generateToken("cache@test.com");
+
+        VerifiedToken first = provider.verify(token);
+        VerifiedToken second = provider.verify(token);
+
+        assertThat(first).isNotNull();
+        assertThat(first.subject()).isEqualTo("cache@test.com");
+        assertThat(second).isSameAs(first);
+        assertThat(provider.getEmailFromToken(token)).isEqualTo("cache@test.com");
+        assertThat(provider.isTokenExpired(token)).isFalse();
+    }
+
+    @Test
+    void 사용자_클레임을_담은_토큰은_클레임으로_인증정보를_만들_수_있다() {
+        String token = provider.generateToken(42L, "claims@test.com", List.of("ROLE_USER"), 3L);
+
+        VerifiedToken verified = provider.verify(token);
+
+        assertThat(verified.hasPrincipalClaims()).isTrue();
+        assertThat(verified.userId()).isEqualTo(42L);
+        assertThat(verified.roles()).containsExactly("ROLE_USER");
+        assertThat(verified.tokenVersion()).isEqualTo(3L);
+
+        AuthenticatedUser principal = AuthenticatedUser.from(verified);
+        assertThat(principal.getUsername()).isEqualTo("claims@test.com");
+        assertThat(principal.getUserId()).isEqualTo(42L);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+
+        // 클레임이 없는 이전 형식 토큰은 DB 조회 경로 사용
+        assertThat(provider.verify(provider.generateToken("legacy@test.com")).hasPrincipalClaims()).isFalse();
+    }
+
+    @Test
+    void 변조되거나_만료된_토큰은_거부한다() {
+        String token = provider.generateToken("cache@test.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -10, 1000);
+
+        assertThat(provider.verify(tampered)).isNull();
+        assertThat(provider.verify("not-a-jwt")).isNull();
+        assertThat(provider.verify(null)).isNull();
+        assertThat(provider.verify(expiredProvider.generateToken("cache@test.com"))).isNull();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 벤치마크_기존_이중파싱_대비_캐시검증() {
+        String token = provider.generateToken("bench@test.com");
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        int iterations = 200_000;
+
+        // 기존 방식: validateToken + getEmailFromToken이 각각 파서를 새로 만들어 두 번 검증
+        double legacy = Benchmarks.report("legacy (parse x2)", iterations, () -> {
+            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+        });
+        double cached = Benchmarks.report("verify (cached)", iterations, () -> provider.verify(token).subject());
+
+        assertThat(cached).isLessThan(legacy);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 벤치마크_jjwt_대비_경량검증기() {
+        JwtTokenProvider jjwtOnly = new JwtTokenProvider(SECRET, 1800, 0, false);
+        JwtTokenProvider compact = new JwtTokenProvider(SECRET, 1800, 0, true);
+        String token = compact.generateToken(42L, "bench@test.com", List.of("ROLE_USER"), 0L);
+        int iterations = 200_000;
+
+        // 캐시를 끈 상태에서 요청마다 검증하는 비용 비교
+        Benchmarks.report("jjwt parser", iterations, () -> jjwtOnly.verify(token).subject());
+        Benchmarks.report("compact verifier", iterations, () -> compact.verify(token).subject());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.wardrobe.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PasswordHasher 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class PasswordHasherTest {
+
+    @Test
+    void 대기열이_가득차면_즉시_거절하고_메트릭에_반영한다() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHasher hasher = new PasswordHasher(new BlockingEncoder(started, release), meterRegistry, 1, 1);
+
+        try {
+            CompletableFuture<String> running = hasher.encode("first");
+            started.await();
+            CompletableFuture<String> queued = hasher.encode("second");
+
+            assertThat(meterRegistry.get("auth.password.queue.depth").gauge().value()).isEqualTo(1.0);
+            assertThatThrownBy(() -> hasher.encode("third"))
+                    .isInstanceOf(PasswordHashingBusyException.class);
+            assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1.0);
+
+            release.countDown();
+            assertThat(running.join()).isEqualTo("hashed:first");
+            assertThat(queued.join()).isEqualTo("hashed:second");
+            assertThat(hasher.matches("first", "hashed:first").join()).isTrue();
+            assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count())
+                    .isEqualTo(2);
+        } finally {
+            release.countDown();
+            hasher.shutdown();
+        }
+    }
+
+    private static final class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        private BlockingEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    }
+}
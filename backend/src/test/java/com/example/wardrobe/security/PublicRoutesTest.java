@@ -0,0 +1,123 @@
+package com.example.wardrobe.security;
+
+import com.example.wardrobe.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PublicRoutes / PathPatternTrie 테스트
+ *
+ * 벤치마크는 ./gradlew test -Dbenchmark=true 로 실행할 때만 동작합니다.
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class PublicRoutesTest {
+
+    private static final List<String> SAMPLE_PATHS = List.of(
+            "/api/v1/users/me",
+            "/api/v1/users/42",
+            "/api/v1/users/signup",
+            "/api/v1/auth/login",
+            "/api/v1/health",
+            "/api/v1/health/db",
+            "/api/v1/feature1/ping",
+            "/api/v1/recommend/items",
+            "/actuator/health",
+            "/healthz",
+            "/",
+            "/error",
+            "/h2-console/login.do",
+            "/swagger-ui/index.html"
+    );
+
+    @Test
+    void 공개경로와_보호경로를_구분한다() {
+        assertThat(PublicRoutes.isPublic("/api/v1/auth/login")).isTrue();
+        assertThat(PublicRoutes.isPublic("/api/v1/auth")).isTrue();
+        assertThat(PublicRoutes.isPublic("/api/v1/users/signup")).isTrue();
+        assertThat(PublicRoutes.isPublic("/api/v1/health")).isTrue();
+        assertThat(PublicRoutes.isPublic("/api/v1/admin/analytics/landing-page-views")).isTrue();
+        assertThat(PublicRoutes.isPublic("/")).isTrue();
+        assertThat(PublicRoutes.isPublic("/error")).isTrue();
+        assertThat(PublicRoutes.isPublic("/swagger-ui/index.html")).isTrue();
+
+        assertThat(PublicRoutes.isPublic("/api/v1/users/me")).isFalse();
+        assertThat(PublicRoutes.isPublic("/api/v1/users/signup/extra")).isFalse();
+        assertThat(PublicRoutes.isPublic("/api/v1/authx")).isFalse();
+        assertThat(PublicRoutes.isPublic("/healthcheck")).isFalse();
+        assertThat(PublicRoutes.isPublic("/api/v1/admin/users")).isFalse();
+        assertThat(PublicRoutes.isPublic("/api/v1/admin/analytics/export")).isFalse();
+        assertThat(PublicRoutes.isPublic("/api/v1/admin/analytics/cluster")).isFalse();
+        assertThat(PublicRoutes.isPublic("/api/v1/admin/analytics/partial")).isFalse();
+        assertThat(PublicRoutes.isPublic("")).isFalse();
+    }
+
+    @Test
+    void 기존_필터체인과_같은_결과를_낸다() {
+        for (String path : SAMPLE_PATHS) {
+            assertThat(PublicRoutes.isPublic(path)).as(path).isEqualTo(legacyShouldSkip(path));
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 벤치마크_트라이_대비_기존_조건체인() {
+        String[] paths = SAMPLE_PATHS.toArray(new String[0]);
+        int iterations = 2_000_000;
+        int[] next = new int[1];
+
+        Benchmarks.report("legacy chain", iterations, () -> legacyShouldSkip(paths[next[0]++ % paths.length]));
+        Benchmarks.report("trie", iterations, () -> PublicRoutes.isPublic(paths[next[0]++ % paths.length]));
+    }
+
+    /**
+     * 기존 JwtAuthenticationFilter.shouldSkipFilter 조건 체인 (로그 제외)
+     */
+    private static boolean legacyShouldSkip(String requestURI) {
+        if (requestURI.startsWith("/swagger-ui")
+                || requestURI.contains("/swagger-ui")
+                || requestURI.equals("/swagger-ui.html")
+                || requestURI.equals("/swagger-ui/index.html")) {
+            return true;
+        }
+        if (requestURI.startsWith("/v3/api-docs")
+                || requestURI.contains("/v3/api-docs")
+                || requestURI.equals("/v3/api-docs.yaml")
+                || requestURI.equals("/v3/api-docs.yml")) {
+            return true;
+        }
+        if (requestURI.startsWith("/swagger-resources") || requestURI.contains("/swagger-resources")) {
+            return true;
+        }
+        if (requestURI.startsWith("/webjars") || requestURI.contains("/webjars")) {
+            return true;
+        }
+        if (requestURI.equals("/api/v1/health") || requestURI.startsWith("/api/v1/health/")) {
+            return true;
+        }
+        if (requestURI.equals("/") || requestURI.equals("/health") || requestURI.equals("/healthz")) {
+            return true;
+        }
+        if (requestURI.startsWith("/actuator/")) {
+            return true;
+        }
+        if (requestURI.startsWith("/api/v1/auth/")) {
+            return true;
+        }
+        if (requestURI.equals("/api/v1/users/signup")) {
+            return true;
+        }
+        if (requestURI.startsWith("/api/v1/feature1/") || requestURI.startsWith("/api/v1/recommend/")) {
+            return true;
+        }
+        if (requestURI.equals("/error") || requestURI.startsWith("/error/")) {
+            return true;
+        }
+        return requestURI.startsWith("/h2-console/");
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.wardrobe.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StripedTokenBucketLimiter 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class StripedTokenBucketLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void 버킷크기만큼_허용하고_충전간격마다_하나씩_다시_허용한다() {
+        AtomicLong clock = new AtomicLong(1_000 * SECOND);
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(3, 2 * SECOND, 4, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(2 * SECOND);
+        assertThat(limiter.tryAcquire("b")).isZero();
+
+        clock.addAndGet(2 * SECOND);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void 가득찬_버킷만_정리한다() {
+        AtomicLong clock = new AtomicLong(1_000 * SECOND);
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(2, SECOND, 4, 100, clock::get);
+
+        limiter.tryAcquire("idle");
+        clock.addAndGet(5 * SECOND);
+        limiter.tryAcquire("busy");
+
+        assertThat(limiter.evictIdle()).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 스트라이프가_가득차면_가득찬_버킷을_정리하고_자리가_없으면_새키는_거절한다() {
+        AtomicLong clock = new AtomicLong(1_000 * SECOND);
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(2, SECOND, 1, 1, clock::get);
+
+        assertThat(limiter.tryAcquire("first")).isZero();
+        assertThat(limiter.tryAcquire("second")).isEqualTo(SECOND);
+        assertThat(limiter.size()).isEqualTo(1);
+
+        // first 버킷이 다시 가득 차면 정리되고 그 자리에 새 키가 들어감
+        clock.addAndGet(SECOND);
+        assertThat(limiter.tryAcquire("second")).isZero();
+        assertThat(limiter.tryAcquire("second")).isZero();
+        assertThat(limiter.tryAcquire("second")).isPositive();
+        assertThat(limiter.tryAcquire("first")).isEqualTo(SECOND);
+    }
+}
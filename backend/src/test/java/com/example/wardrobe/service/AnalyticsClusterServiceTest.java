@@ -0,0 +1,64 @@
+package com.example.wardrobe.service;
+
+import com.example.wardrobe.domain.analytics.dto.AnalyticsPartial;
+import com.example.wardrobe.domain.analytics.service.MetricRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 클러스터 집계 서비스 테스트
+ *
+ * @author Closet Canvas Team
+ * @since 1.0
+ */
+class AnalyticsClusterServiceTest {
+
+    private static final String SECRET = "test-peer-secret";
+
+    private final AnalyticsService analyticsService = mock(AnalyticsService.class);
+    private final MockServerRestTemplateCustomizer server = new MockServerRestTemplateCustomizer();
+    private final AnalyticsClusterService clusterService = new AnalyticsClusterService(
+            analyticsService, mock(MetricRegistry.class), new RestTemplateBuilder(server),
+            new String[] {"http://peer-1/"}, true, 2000, SECRET);
+
+    @AfterEach
+    void shutdown() {
+        clusterService.shutdown();
+    }
+
+    @Test
+    void 피어에_partial을_요청할때_공유비밀값_헤더를_보낸다() {
+        given(analyticsService.getLocalPartial()).willReturn(new AnalyticsPartial("local"));
+        server.getServer()
+                .expect(requestTo("http://peer-1/api/v1/admin/analytics/partial"))
+                .andExpect(header(AnalyticsClusterService.PEER_SECRET_HEADER, SECRET))
+                .andRespond(withSuccess("{\"nodeId\":\"peer-1\",\"metrics\":{}}", MediaType.APPLICATION_JSON));
+
+        clusterService.getClusterAnalytics();
+
+        server.getServer().verify();
+    }
+
+    @Test
+    void 공유비밀값이_일치해야_신뢰할수있는_피어다() {
+        AnalyticsClusterService unconfigured = new AnalyticsClusterService(
+                analyticsService, mock(MetricRegistry.class), new RestTemplateBuilder(),
+                new String[0], false, 2000, "");
+
+        assertThat(clusterService.isTrustedPeer(SECRET)).isTrue();
+        assertThat(clusterService.isTrustedPeer("wrong-secret")).isFalse();
+        assertThat(clusterService.isTrustedPeer(null)).isFalse();
+        assertThat(unconfigured.isTrustedPeer("")).isFalse();
+        unconfigured.shutdown();
+    }
+}